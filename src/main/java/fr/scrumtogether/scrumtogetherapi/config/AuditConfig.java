@@ -0,0 +1,18 @@
+package fr.scrumtogether.scrumtogetherapi.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+@ConfigurationProperties(prefix = "audit.writer")
+@Data
+public class AuditConfig {
+    private int queueCapacity = 10_000;
+    private int flushSize = 200;
+    private Duration flushInterval = Duration.ofSeconds(1);
+    private Duration offerTimeout = Duration.ofMillis(50);
+    private Duration shutdownTimeout = Duration.ofSeconds(10);
+}
@@ -0,0 +1,13 @@
+package fr.scrumtogether.scrumtogetherapi.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "bulk-import")
+@Data
+public class BulkImportConfig {
+    private int chunkSize = 500;
+    private int maxRows = 50_000;
+}
@@ -0,0 +1,21 @@
+package fr.scrumtogether.scrumtogetherapi.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+@Configuration
+@ConfigurationProperties(prefix = "security.login-attempts")
+@Data
+public class LoginAttemptConfig {
+    private int maxAttempts = 5;
+    private Duration window = Duration.ofMinutes(1);
+    private int windowSlots = 6;
+    private long maxTrackedKeys = 100_000;
+    private int maxBodySize = 8 * 1024;
+    private List<String> trustedProxies = new ArrayList<>();
+}
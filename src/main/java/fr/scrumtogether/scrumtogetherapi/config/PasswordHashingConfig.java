@@ -0,0 +1,15 @@
+package fr.scrumtogether.scrumtogetherapi.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "security.password-hashing")
+@Data
+public class PasswordHashingConfig {
+    private int poolSize = Runtime.getRuntime().availableProcessors();
+    private int queueCapacity = 64;
+    private long timeoutSeconds = 10;
+    private long retryAfterSeconds = 1;
+}
@@ -0,0 +1,18 @@
+package fr.scrumtogether.scrumtogetherapi.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+import java.time.Duration;
+
+@Configuration
+@EnableScheduling
+@ConfigurationProperties(prefix = "rollup.verifier")
+@Data
+public class RollupConfig {
+    private boolean enabled = true;
+    private Duration initialDelay = Duration.ofMinutes(5);
+    private Duration interval = Duration.ofHours(1);
+}
@@ -0,0 +1,17 @@
+package fr.scrumtogether.scrumtogetherapi.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+@ConfigurationProperties(prefix = "velocity")
+@Data
+public class VelocityConfig {
+    private int batchSize = 100;
+    private Duration recomputeInterval = Duration.ofMinutes(1);
+    private int defaultWindow = 3;
+    private int maxWindow = 50;
+}
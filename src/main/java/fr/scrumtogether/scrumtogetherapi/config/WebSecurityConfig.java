@@ -1,13 +1,17 @@
 package fr.scrumtogether.scrumtogetherapi.config;
 
+import fr.scrumtogether.scrumtogetherapi.security.BoundedPasswordEncoder;
 import fr.scrumtogether.scrumtogetherapi.security.JwtAuthenticationFilter;
 import fr.scrumtogether.scrumtogetherapi.security.LoginAttemptFilter;
-import fr.scrumtogether.scrumtogetherapi.security.STUserDetailService;
+import fr.scrumtogether.scrumtogetherapi.security.RateLimitFilter;
+import fr.scrumtogether.scrumtogetherapi.security.UserAuthenticationProvider;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
 import org.springframework.security.authentication.AuthenticationManager;
-import org.springframework.security.config.annotation.authentication.builders.AuthenticationManagerBuilder;
+import org.springframework.security.authentication.ProviderManager;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
@@ -30,15 +34,19 @@ public class WebSecurityConfig {
     public SecurityFilterChain filterChain(HttpSecurity http,
                                            JwtAuthenticationFilter jwtFilter,
                                            LoginAttemptFilter loginAttemptFilter,
+                                           RateLimitFilter rateLimitFilter,
                                            @Qualifier("corsConfigurationSource") CorsConfigurationSource corsConfigurationSource) throws Exception {
         http
                 .authorizeHttpRequests(
                         auth -> auth
-                                .requestMatchers("/api/v1/sign-in", "/api/v1/register").permitAll()
+                                .requestMatchers("/api/v1/sign-in", "/api/v1/register", "/api/v1/register/availability").permitAll()
+                                .requestMatchers("/api/v1/audit/**").hasRole("ADMIN")
+                                .requestMatchers(HttpMethod.POST, "/api/v1/users/bulk").hasRole("ADMIN")
                                 .anyRequest().authenticated()
                 )
                 .addFilterBefore(loginAttemptFilter, UsernamePasswordAuthenticationFilter.class)
                 .addFilterBefore(jwtFilter, UsernamePasswordAuthenticationFilter.class)
+                .addFilterAfter(rateLimitFilter, JwtAuthenticationFilter.class)
                 .cors(cors -> cors.configurationSource(corsConfigurationSource))
                 .csrf(AbstractHttpConfigurer::disable)
                 /*.csrf(csrf -> csrf
@@ -50,17 +58,19 @@ public class WebSecurityConfig {
 
 
     @Bean
-    public AuthenticationManager authManager(HttpSecurity http, STUserDetailService userDetailService) throws Exception {
-        AuthenticationManagerBuilder authenticationManagerBuilder = http.getSharedObject(AuthenticationManagerBuilder.class);
-        authenticationManagerBuilder.userDetailsService(userDetailService);
-        return authenticationManagerBuilder.build();
+    public AuthenticationManager authManager(UserAuthenticationProvider userAuthenticationProvider) {
+        return new ProviderManager(userAuthenticationProvider);
     }
 
     @Bean
-    public PasswordEncoder passwordEncoder() {
+    public BoundedPasswordEncoder passwordEncoder(PasswordHashingConfig passwordHashingConfig, MeterRegistry meterRegistry) {
         Map<String, PasswordEncoder> encoders = new HashMap<>();
         encoders.put("bcrypt", new BCryptPasswordEncoder());
-        return new DelegatingPasswordEncoder("bcrypt", encoders);
+        return new BoundedPasswordEncoder(
+                new DelegatingPasswordEncoder("bcrypt", encoders),
+                passwordHashingConfig,
+                meterRegistry
+        );
     }
 
     @Bean
@@ -0,0 +1,130 @@
+package fr.scrumtogether.scrumtogetherapi.controllers;
+
+import fr.scrumtogether.scrumtogetherapi.dtos.AuditFilter;
+import fr.scrumtogether.scrumtogetherapi.dtos.AuditLogDto;
+import fr.scrumtogether.scrumtogetherapi.dtos.EntityVersionDto;
+import fr.scrumtogether.scrumtogetherapi.services.AuditExportService;
+import fr.scrumtogether.scrumtogetherapi.services.AuditService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Slice;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.hateoas.CollectionModel;
+import org.springframework.hateoas.IanaLinkRelations;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import javax.annotation.Nullable;
+import java.time.LocalDateTime;
+import java.util.Locale;
+import java.util.zip.GZIPOutputStream;
+
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
+
+@RequiredArgsConstructor
+@Slf4j
+@RestController
+@RequestMapping("/api/v1/audit")
+public class AuditController {
+    private static final MediaType NDJSON = MediaType.parseMediaType("application/x-ndjson");
+
+    private final AuditService auditService;
+    private final AuditExportService auditExportService;
+
+    /**
+     * Lists audit records, newest first, in keyset mode. The {@code next} link carries the cursor
+     * of the following page. With {@code includeValues=false}, the old and new values are not read.
+     */
+    @GetMapping
+    public ResponseEntity<CollectionModel<AuditLogDto>> search(
+            @RequestParam @Nullable String entityType,
+            @RequestParam @Nullable Long entityId,
+            @RequestParam @Nullable String actor,
+            @RequestParam @Nullable @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam @Nullable @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam @Nullable String after,
+            @RequestParam @Nullable Integer size,
+            @RequestParam(defaultValue = "true") boolean includeValues) {
+        AuditFilter filter = AuditFilter.builder()
+                .entityType(entityType != null ? entityType.toUpperCase(Locale.ROOT) : null)
+                .entityId(entityId)
+                .actor(actor)
+                .from(from)
+                .to(to)
+                .build();
+        Slice<AuditLogDto> slice = auditService.search(filter, after, size, includeValues);
+
+        CollectionModel<AuditLogDto> sliceDto = CollectionModel.of(slice.getContent());
+        sliceDto.add(linkTo(methodOn(AuditController.class)
+                .search(entityType, entityId, actor, from, to, after, size, includeValues)).withSelfRel());
+        if (slice.hasNext()) {
+            AuditLogDto last = slice.getContent().get(slice.getNumberOfElements() - 1);
+            String next = auditService.cursorOf(last).encode();
+            sliceDto.add(linkTo(methodOn(AuditController.class)
+                    .search(entityType, entityId, actor, from, to, next, size, includeValues)).withRel(IanaLinkRelations.NEXT));
+        }
+        return new ResponseEntity<>(sliceDto, HttpStatus.OK);
+    }
+
+    /**
+     * Streams every audit record matching the filters as newline-delimited JSON, oldest first,
+     * gzip-compressed on request. The filters are those of {@link #search}.
+     */
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> export(
+            @RequestParam @Nullable String entityType,
+            @RequestParam @Nullable Long entityId,
+            @RequestParam @Nullable String actor,
+            @RequestParam @Nullable @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam @Nullable @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(defaultValue = "false") boolean gzip) {
+        AuditFilter filter = AuditFilter.builder()
+                .entityType(entityType != null ? entityType.toUpperCase(Locale.ROOT) : null)
+                .entityId(entityId)
+                .actor(actor)
+                .from(from)
+                .to(to)
+                .build();
+        auditService.validateFilter(filter);
+        log.info("Starting audit export with filter {}", filter);
+
+        StreamingResponseBody body = output -> {
+            if (gzip) {
+                GZIPOutputStream compressed = new GZIPOutputStream(output, 64 * 1024);
+                auditExportService.export(filter, compressed);
+                compressed.finish();
+            } else {
+                auditExportService.export(filter, output);
+            }
+        };
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(NDJSON)
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("audit-export.ndjson")
+                        .build()
+                        .toString());
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return response.body(body);
+    }
+
+    @GetMapping("{entityType}/{entityId}/versions/{version}")
+    public ResponseEntity<EntityVersionDto> getVersion(@PathVariable String entityType,
+                                                       @PathVariable Long entityId,
+                                                       @PathVariable Long version) {
+        EntityVersionDto dto = auditService.reconstruct(entityType.toUpperCase(Locale.ROOT), entityId, version);
+        return new ResponseEntity<>(dto, HttpStatus.OK);
+    }
+}
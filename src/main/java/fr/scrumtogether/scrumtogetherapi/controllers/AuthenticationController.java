@@ -1,5 +1,6 @@
 package fr.scrumtogether.scrumtogetherapi.controllers;
 
+import fr.scrumtogether.scrumtogetherapi.dtos.AvailabilityResponse;
 import fr.scrumtogether.scrumtogetherapi.dtos.RegistrationDto;
 import fr.scrumtogether.scrumtogetherapi.dtos.SignInRequest;
 import fr.scrumtogether.scrumtogetherapi.dtos.SignInResponse;
@@ -10,11 +11,15 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import javax.annotation.Nullable;
+
 @RequiredArgsConstructor
 @RestController
 @RequestMapping("/api/v1")
@@ -28,6 +33,13 @@ public class AuthenticationController {
         return new ResponseEntity<>("Inscription réussi", null, HttpStatus.CREATED);
     }
 
+    @GetMapping("/register/availability")
+    public ResponseEntity<AvailabilityResponse> checkAvailability(@RequestParam @Nullable String username,
+                                                                  @RequestParam @Nullable String email) {
+        AvailabilityResponse response = authenticationService.checkAvailability(username, email);
+        return new ResponseEntity<>(response, null, HttpStatus.OK);
+    }
+
     @PostMapping("/sign-in")
     public ResponseEntity<SignInResponse> signIn(@RequestBody @Valid SignInRequest signInRequest) {
         User authenticated = authenticationService.authenticate(signInRequest);
@@ -0,0 +1,46 @@
+package fr.scrumtogether.scrumtogetherapi.controllers;
+
+import fr.scrumtogether.scrumtogetherapi.dtos.BacklogItemDto;
+import fr.scrumtogether.scrumtogetherapi.dtos.ItemDto;
+import fr.scrumtogether.scrumtogetherapi.services.BacklogService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import javax.annotation.Nullable;
+import java.util.List;
+
+@RequiredArgsConstructor
+@Slf4j
+@RestController
+@RequestMapping("/api/v1/projects/{projectId}/backlog")
+public class BacklogController {
+    private final BacklogService backlogService;
+
+    /**
+     * Returns the backlog tree of a project, or the subtree of the {@code root} item.
+     */
+    @GetMapping
+    public ResponseEntity<List<BacklogItemDto>> getBacklog(@PathVariable Long projectId, @RequestParam @Nullable Long root) {
+        List<BacklogItemDto> backlog = backlogService.getBacklog(projectId, root);
+        return new ResponseEntity<>(backlog, HttpStatus.OK);
+    }
+
+    @PostMapping
+    public ResponseEntity<BacklogItemDto> create(@PathVariable Long projectId, @Valid @RequestBody ItemDto itemDto) {
+        BacklogItemDto item = backlogService.create(projectId, itemDto);
+        return new ResponseEntity<>(item, HttpStatus.CREATED);
+    }
+
+    /**
+     * Moves an item with its subtree under the {@code parentId} item, or to the root when absent.
+     */
+    @PostMapping("{itemId}/move")
+    public ResponseEntity<Void> move(@PathVariable Long projectId, @PathVariable Long itemId, @RequestParam @Nullable Long parentId) {
+        backlogService.move(projectId, itemId, parentId);
+        return new ResponseEntity<>(HttpStatus.NO_CONTENT);
+    }
+}
@@ -4,9 +4,11 @@ import fr.scrumtogether.scrumtogetherapi.dtos.ErrorResponse;
 import fr.scrumtogether.scrumtogetherapi.exceptions.AccessDeniedException;
 import fr.scrumtogether.scrumtogetherapi.exceptions.AuthenticationException;
 import fr.scrumtogether.scrumtogetherapi.exceptions.RateLimitExceededException;
+import fr.scrumtogether.scrumtogetherapi.exceptions.ServiceUnavailableException;
 import fr.scrumtogether.scrumtogetherapi.exceptions.ValidationException;
 import jakarta.persistence.OptimisticLockException;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.util.StringUtils;
@@ -87,6 +89,21 @@ public class GlobalExceptionHandler {
                 .body(new ErrorResponse("Too many requests", ex.getMessage()));
     }
 
+    /**
+     * Handles requests shed because a bounded resource is saturated.
+     *
+     * @param ex the ServiceUnavailableException
+     * @return ResponseEntity with a Retry-After header
+     */
+    @ExceptionHandler(ServiceUnavailableException.class)
+    public ResponseEntity<ErrorResponse> handleServiceUnavailableException(ServiceUnavailableException ex) {
+        log.warn("Service unavailable: {}", ex.getMessage());
+        return ResponseEntity
+                .status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(new ErrorResponse("Service unavailable", ex.getMessage()));
+    }
+
     /**
      * Handles authentication related exceptions.
      *
@@ -0,0 +1,35 @@
+package fr.scrumtogether.scrumtogetherapi.controllers;
+
+import fr.scrumtogether.scrumtogetherapi.dtos.VelocityDto;
+import fr.scrumtogether.scrumtogetherapi.dtos.VelocityForecastDto;
+import fr.scrumtogether.scrumtogetherapi.services.VelocityService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import javax.annotation.Nullable;
+
+@RequiredArgsConstructor
+@Slf4j
+@RestController
+@RequestMapping("/api/v1/projects")
+public class ProjectController {
+    private final VelocityService velocityService;
+
+    /**
+     * Returns the velocity of the latest {@code window} closed sprints of a project and their average.
+     */
+    @GetMapping("{id}/velocity")
+    public ResponseEntity<VelocityDto> getVelocity(@PathVariable Long id, @RequestParam @Nullable Integer window) {
+        VelocityDto velocity = velocityService.getVelocity(id, window);
+        return new ResponseEntity<>(velocity, HttpStatus.OK);
+    }
+
+    @GetMapping("{id}/velocity/forecast")
+    public ResponseEntity<VelocityForecastDto> getForecast(@PathVariable Long id, @RequestParam @Nullable Integer window) {
+        VelocityForecastDto forecast = velocityService.getForecast(id, window);
+        return new ResponseEntity<>(forecast, HttpStatus.OK);
+    }
+}
@@ -0,0 +1,59 @@
+package fr.scrumtogether.scrumtogetherapi.controllers;
+
+import fr.scrumtogether.scrumtogetherapi.dtos.BoardDto;
+import fr.scrumtogether.scrumtogetherapi.dtos.BurndownDto;
+import fr.scrumtogether.scrumtogetherapi.dtos.CumulativeFlowDto;
+import fr.scrumtogether.scrumtogetherapi.dtos.RollupDto;
+import fr.scrumtogether.scrumtogetherapi.dtos.VelocityDto;
+import fr.scrumtogether.scrumtogetherapi.services.SprintService;
+import fr.scrumtogether.scrumtogetherapi.services.VelocityService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RequiredArgsConstructor
+@Slf4j
+@RestController
+@RequestMapping("/api/v1/sprints")
+public class SprintController {
+    private final SprintService sprintService;
+    private final VelocityService velocityService;
+
+    @GetMapping("{id}/totals")
+    public ResponseEntity<RollupDto> getTotals(@PathVariable Long id) {
+        RollupDto totals = sprintService.getTotals(id);
+        return new ResponseEntity<>(totals, HttpStatus.OK);
+    }
+
+    /**
+     * Returns the tasks of a sprint grouped by status, for a Kanban board.
+     */
+    @GetMapping("{id}/board")
+    public ResponseEntity<BoardDto> getBoard(@PathVariable Long id) {
+        BoardDto board = sprintService.getBoard(id);
+        return new ResponseEntity<>(board, HttpStatus.OK);
+    }
+
+    @GetMapping("{id}/burndown")
+    public ResponseEntity<BurndownDto> getBurndown(@PathVariable Long id) {
+        BurndownDto burndown = sprintService.getBurndown(id);
+        return new ResponseEntity<>(burndown, HttpStatus.OK);
+    }
+
+    @GetMapping("{id}/cfd")
+    public ResponseEntity<CumulativeFlowDto> getCumulativeFlow(@PathVariable Long id) {
+        CumulativeFlowDto cumulativeFlow = sprintService.getCumulativeFlow(id);
+        return new ResponseEntity<>(cumulativeFlow, HttpStatus.OK);
+    }
+
+    /**
+     * Closes a sprint and computes its velocity.
+     */
+    @PostMapping("{id}/close")
+    public ResponseEntity<VelocityDto.SprintVelocity> close(@PathVariable Long id) {
+        VelocityDto.SprintVelocity velocity = velocityService.close(id);
+        return new ResponseEntity<>(velocity, HttpStatus.OK);
+    }
+}
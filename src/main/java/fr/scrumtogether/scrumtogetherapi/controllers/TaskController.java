@@ -0,0 +1,42 @@
+package fr.scrumtogether.scrumtogetherapi.controllers;
+
+import fr.scrumtogether.scrumtogetherapi.dtos.TaskDto;
+import fr.scrumtogether.scrumtogetherapi.services.TaskService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RequiredArgsConstructor
+@Slf4j
+@RestController
+@RequestMapping("/api/v1/tasks")
+public class TaskController {
+    private final TaskService taskService;
+
+    @GetMapping("{id}")
+    public ResponseEntity<TaskDto> getById(@PathVariable Long id) {
+        TaskDto task = taskService.getById(id);
+        return new ResponseEntity<>(task, HttpStatus.OK);
+    }
+
+    @PostMapping
+    public ResponseEntity<TaskDto> create(@Valid @RequestBody TaskDto taskDto) {
+        TaskDto task = taskService.create(taskDto);
+        return new ResponseEntity<>(task, HttpStatus.CREATED);
+    }
+
+    @PutMapping("{id}")
+    public ResponseEntity<TaskDto> update(@PathVariable Long id, @Valid @RequestBody TaskDto taskDto) {
+        TaskDto task = taskService.update(id, taskDto);
+        return new ResponseEntity<>(task, HttpStatus.OK);
+    }
+
+    @DeleteMapping("{id}")
+    public ResponseEntity<Void> delete(@PathVariable Long id) {
+        taskService.delete(id);
+        return new ResponseEntity<>(HttpStatus.NO_CONTENT);
+    }
+}
@@ -2,8 +2,13 @@ package fr.scrumtogether.scrumtogetherapi.controllers;
 
 import javax.annotation.Nullable;
 
+import java.util.List;
+
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.web.PagedResourcesAssembler;
+import org.springframework.hateoas.CollectionModel;
+import org.springframework.hateoas.IanaLinkRelations;
 import org.springframework.hateoas.PagedModel;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -17,30 +22,54 @@ import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import fr.scrumtogether.scrumtogetherapi.dtos.TeamDto;
+import fr.scrumtogether.scrumtogetherapi.dtos.TeamMembershipReport;
+import fr.scrumtogether.scrumtogetherapi.dtos.TeamUserDto;
 import fr.scrumtogether.scrumtogetherapi.entities.Team;
 import fr.scrumtogether.scrumtogetherapi.mappers.TeamMapper;
+import fr.scrumtogether.scrumtogetherapi.repositories.projections.TeamView;
 import fr.scrumtogether.scrumtogetherapi.services.TeamService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.web.bind.annotation.PostMapping;
 
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
+
 @RequiredArgsConstructor
 @Slf4j
 @RestController
 @RequestMapping("/api/v1/teams")
 public class TeamController {
     private final TeamService teamService;
-    private final PagedResourcesAssembler<Team> pagedResourcesAssembler;
+    private final PagedResourcesAssembler<TeamView> pagedResourcesAssembler;
     private final TeamMapper teamMapper;
 
     @GetMapping
     public ResponseEntity<PagedModel<TeamDto>> getAll(@RequestParam @Nullable Integer page,
             @RequestParam @Nullable Integer size) {
-        Page<Team> paginated = teamService.getAll(page, size);
-        PagedModel<TeamDto> paginatedDto = pagedResourcesAssembler.toModel(paginated, teamMapper);
+        Page<TeamView> paginated = teamService.getAll(page, size);
+        PagedModel<TeamDto> paginatedDto = pagedResourcesAssembler.toModel(paginated, teamMapper::toModel);
         return new ResponseEntity<>(paginatedDto, HttpStatus.OK);
     }
 
+    /**
+     * Keyset variant of {@link #getAll}, selected by the {@code after} parameter. An empty
+     * {@code after} reads the first page; the {@code next} link carries the cursor of the following one.
+     */
+    @GetMapping(params = "after")
+    public ResponseEntity<CollectionModel<TeamDto>> getAllAfter(@RequestParam String after, @RequestParam @Nullable Integer size) {
+        Slice<TeamView> slice = teamService.getAllAfter(after, size);
+        CollectionModel<TeamDto> sliceDto = CollectionModel.of(slice.map(teamMapper::toModel).getContent());
+        sliceDto.add(linkTo(methodOn(TeamController.class).getAllAfter(after, size)).withSelfRel());
+
+        if (slice.hasNext()) {
+            TeamView last = slice.getContent().get(slice.getNumberOfElements() - 1);
+            String next = teamService.cursorOf(last).encode();
+            sliceDto.add(linkTo(methodOn(TeamController.class).getAllAfter(next, size)).withRel(IanaLinkRelations.NEXT));
+        }
+        return new ResponseEntity<>(sliceDto, HttpStatus.OK);
+    }
+
     @GetMapping("{id}")
     public ResponseEntity<TeamDto> getById(@PathVariable Long id) {
         Team team = teamService.getById(id);
@@ -61,6 +90,18 @@ public class TeamController {
         return new ResponseEntity<>(HttpStatus.NO_CONTENT);
     }
 
+    @PostMapping("{id}/members")
+    public ResponseEntity<TeamMembershipReport> addMembers(@PathVariable Long id, @RequestBody List<TeamUserDto> members) {
+        TeamMembershipReport report = teamService.addMembers(id, members);
+        return new ResponseEntity<>(report, HttpStatus.OK);
+    }
+
+    @DeleteMapping("{id}/members")
+    public ResponseEntity<TeamMembershipReport> removeMembers(@PathVariable Long id, @RequestBody List<String> usernames) {
+        TeamMembershipReport report = teamService.removeMembers(id, usernames);
+        return new ResponseEntity<>(report, HttpStatus.OK);
+    }
+
     @PostMapping("/create")
     public ResponseEntity<TeamDto> create(@RequestBody TeamDto teamDto) {
         Team team = teamService.create(teamDto);
@@ -1,20 +1,34 @@
 package fr.scrumtogether.scrumtogetherapi.controllers;
 
+import fr.scrumtogether.scrumtogetherapi.dtos.BulkImportReport;
 import fr.scrumtogether.scrumtogetherapi.dtos.UserDto;
+import fr.scrumtogether.scrumtogetherapi.dtos.UserSearchResult;
 import fr.scrumtogether.scrumtogetherapi.entities.User;
 import fr.scrumtogether.scrumtogetherapi.mappers.UserMapper;
+import fr.scrumtogether.scrumtogetherapi.repositories.projections.UserSummary;
+import fr.scrumtogether.scrumtogetherapi.services.UserImportService;
 import fr.scrumtogether.scrumtogetherapi.services.UserService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.web.PagedResourcesAssembler;
+import org.springframework.hateoas.CollectionModel;
+import org.springframework.hateoas.IanaLinkRelations;
 import org.springframework.hateoas.PagedModel;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
 import javax.annotation.Nullable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
 
 @RequiredArgsConstructor
 @Slf4j
@@ -22,16 +36,55 @@ import javax.annotation.Nullable;
 @RequestMapping("/api/v1/users")
 public class UserController {
     private final UserService userService;
-    private final PagedResourcesAssembler<User> pagedResourcesAssembler;
+    private final UserImportService userImportService;
+    private final PagedResourcesAssembler<UserSummary> pagedResourcesAssembler;
     private final UserMapper userMapper;
 
     @GetMapping
     public ResponseEntity<PagedModel<UserDto>> getAll(@RequestParam @Nullable Integer page, @RequestParam @Nullable Integer size) {
-        Page<User> paginated = userService.getAll(page, size);
-        PagedModel<UserDto> paginatedDto = pagedResourcesAssembler.toModel(paginated, userMapper);
+        Page<UserSummary> paginated = userService.getAll(page, size);
+        PagedModel<UserDto> paginatedDto = pagedResourcesAssembler.toModel(paginated, userMapper::toModel);
         return new ResponseEntity<>(paginatedDto, HttpStatus.OK);
     }
 
+    /**
+     * Keyset variant of {@link #getAll}, selected by the {@code after} parameter. An empty
+     * {@code after} reads the first page; the {@code next} link carries the cursor of the following one.
+     */
+    @GetMapping(params = "after")
+    public ResponseEntity<CollectionModel<UserDto>> getAllAfter(@RequestParam String after, @RequestParam @Nullable Integer size) {
+        Slice<UserSummary> slice = userService.getAllAfter(after, size);
+        CollectionModel<UserDto> sliceDto = CollectionModel.of(slice.map(userMapper::toModel).getContent());
+        sliceDto.add(linkTo(methodOn(UserController.class).getAllAfter(after, size)).withSelfRel());
+
+        if (slice.hasNext()) {
+            UserSummary last = slice.getContent().get(slice.getNumberOfElements() - 1);
+            String next = userService.cursorOf(last).encode();
+            sliceDto.add(linkTo(methodOn(UserController.class).getAllAfter(next, size)).withRel(IanaLinkRelations.NEXT));
+        }
+        return new ResponseEntity<>(sliceDto, HttpStatus.OK);
+    }
+
+    @PostMapping(value = "/bulk", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<BulkImportReport> bulkImportJson(InputStream body) throws IOException {
+        log.info("Received bulk user import (JSON)");
+        BulkImportReport report = userImportService.importJson(body);
+        return new ResponseEntity<>(report, HttpStatus.OK);
+    }
+
+    @PostMapping(value = "/bulk", consumes = "text/csv")
+    public ResponseEntity<BulkImportReport> bulkImportCsv(InputStream body) throws IOException {
+        log.info("Received bulk user import (CSV)");
+        BulkImportReport report = userImportService.importCsv(body);
+        return new ResponseEntity<>(report, HttpStatus.OK);
+    }
+
+    @GetMapping("/search")
+    public ResponseEntity<List<UserSearchResult>> search(@RequestParam String q, @RequestParam @Nullable Integer limit) {
+        List<UserSearchResult> results = userService.search(q, limit);
+        return new ResponseEntity<>(results, HttpStatus.OK);
+    }
+
     @GetMapping("{id}")
     public ResponseEntity<UserDto> getById(@PathVariable Long id) {
         User user = userService.getById(id);
@@ -0,0 +1,20 @@
+package fr.scrumtogether.scrumtogetherapi.dtos;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.time.LocalDateTime;
+
+/**
+ * Criteria selecting audit records; every criterion is optional.
+ * The creation date range is inclusive of {@code from} and exclusive of {@code to}.
+ */
+@Value
+@Builder
+public class AuditFilter {
+    String entityType;
+    Long entityId;
+    String actor;
+    LocalDateTime from;
+    LocalDateTime to;
+}
@@ -0,0 +1,35 @@
+package fr.scrumtogether.scrumtogetherapi.dtos;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import fr.scrumtogether.scrumtogetherapi.entities.AuditLog;
+import lombok.AllArgsConstructor;
+import lombok.Value;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+/**
+ * DTO for {@link AuditLog}
+ * <p>
+ * The old and new values are left out when the record is read without them.
+ */
+@Value
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class AuditLogDto implements Serializable {
+    Long id;
+    String entityType;
+    Long entityId;
+    String action;
+    Long entityVersion;
+    boolean snapshot;
+    String createdBy;
+    LocalDateTime createdAt;
+    String oldValue;
+    String newValue;
+
+    public AuditLogDto(Long id, String entityType, Long entityId, String action, Long entityVersion,
+                       boolean snapshot, String createdBy, LocalDateTime createdAt) {
+        this(id, entityType, entityId, action, entityVersion, snapshot, createdBy, createdAt, null, null);
+    }
+}
@@ -0,0 +1,15 @@
+package fr.scrumtogether.scrumtogetherapi.dtos;
+
+import lombok.Value;
+
+import java.io.Serializable;
+
+/**
+ * Availability of a username and an email for registration.
+ * A field is null when the corresponding value was not asked for.
+ */
+@Value
+public class AvailabilityResponse implements Serializable {
+    Boolean usernameAvailable;
+    Boolean emailAvailable;
+}
@@ -0,0 +1,41 @@
+package fr.scrumtogether.scrumtogetherapi.dtos;
+
+import fr.scrumtogether.scrumtogetherapi.repositories.projections.BacklogItemView;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A node of the backlog tree: an epic, feature or user story with its children,
+ * and the totals of the tasks below it.
+ */
+@Data
+@NoArgsConstructor
+public class BacklogItemDto implements Serializable {
+    private Long id;
+    private String type;
+    private String code;
+    private String name;
+    private Long sprintId;
+    private long estimation;
+    private Duration duration;
+    private int openTasks;
+    private List<BacklogItemDto> children = new ArrayList<>();
+
+    public static BacklogItemDto from(BacklogItemView view) {
+        BacklogItemDto dto = new BacklogItemDto();
+        dto.setId(view.getId());
+        dto.setType(view.getType());
+        dto.setCode(view.getCode());
+        dto.setName(view.getName());
+        dto.setSprintId(view.getSprintId());
+        dto.setEstimation(view.getRollup().getEstimation());
+        dto.setDuration(view.getRollup().getDuration());
+        dto.setOpenTasks(view.getRollup().getOpenTasks());
+        return dto;
+    }
+}
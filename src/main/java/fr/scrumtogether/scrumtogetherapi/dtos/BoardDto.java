@@ -0,0 +1,47 @@
+package fr.scrumtogether.scrumtogetherapi.dtos;
+
+import fr.scrumtogether.scrumtogetherapi.entities.enums.SeverityLevel;
+import fr.scrumtogether.scrumtogetherapi.repositories.projections.BoardTaskView;
+import lombok.Value;
+
+import java.io.Serializable;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * The tasks of a sprint, grouped by status in the order of the statuses.
+ */
+@Value
+public class BoardDto implements Serializable {
+    Long sprintId;
+    List<Column> columns;
+
+    @Value
+    public static class Column implements Serializable {
+        Long statusId;
+        String code;
+        String name;
+        boolean closed;
+        List<Card> tasks;
+    }
+
+    @Value
+    public static class Card implements Serializable {
+        Long id;
+        String name;
+        Integer estimation;
+        Duration duration;
+        Long userStoryId;
+        String userStoryCode;
+        String userStoryName;
+        /**
+         * Severity of a bug report, null for other tasks.
+         */
+        SeverityLevel severityLevel;
+
+        public static Card from(BoardTaskView task) {
+            return new Card(task.getId(), task.getName(), task.getEstimation(), task.getDuration(),
+                    task.getUserStoryId(), task.getUserStoryCode(), task.getUserStoryName(), task.getSeverityLevel());
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package fr.scrumtogether.scrumtogetherapi.dtos;
+
+import lombok.Value;
+
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * Report returned by a bulk user import, with the outcome of every row.
+ */
+@Value
+public class BulkImportReport implements Serializable {
+    int total;
+    int created;
+    int rejected;
+    List<BulkImportRowResult> rows;
+
+    public static BulkImportReport of(List<BulkImportRowResult> rows) {
+        int created = (int) rows.stream()
+                .filter(row -> row.getStatus() == BulkImportRowResult.Status.CREATED)
+                .count();
+        return new BulkImportReport(rows.size(), created, rows.size() - created, rows);
+    }
+}
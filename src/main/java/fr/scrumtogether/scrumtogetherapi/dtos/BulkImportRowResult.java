@@ -0,0 +1,41 @@
+package fr.scrumtogether.scrumtogetherapi.dtos;
+
+import lombok.Value;
+
+import java.io.Serializable;
+
+/**
+ * Outcome of one row of a bulk user import.
+ */
+@Value
+public class BulkImportRowResult implements Serializable {
+    public enum Status {
+        CREATED,
+        REJECTED
+    }
+
+    /**
+     * The 1-based position of the row in the payload, header excluded.
+     */
+    int row;
+
+    /**
+     * The username read from the row, if any.
+     */
+    String username;
+
+    Status status;
+
+    /**
+     * Why the row was rejected, null when it was created.
+     */
+    String message;
+
+    public static BulkImportRowResult created(int row, String username) {
+        return new BulkImportRowResult(row, username, Status.CREATED, null);
+    }
+
+    public static BulkImportRowResult rejected(int row, String username, String message) {
+        return new BulkImportRowResult(row, username, Status.REJECTED, message);
+    }
+}
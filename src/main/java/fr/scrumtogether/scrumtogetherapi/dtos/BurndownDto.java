@@ -0,0 +1,29 @@
+package fr.scrumtogether.scrumtogetherapi.dtos;
+
+import lombok.Value;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Remaining work of a sprint at the end of each day, from its start to today or its end.
+ */
+@Value
+public class BurndownDto implements Serializable {
+    Long sprintId;
+    LocalDate startDate;
+    LocalDate endDate;
+    List<Point> points;
+
+    @Value
+    public static class Point implements Serializable {
+        LocalDate date;
+        long remainingEstimation;
+        int remainingTasks;
+        /**
+         * Remaining estimation had the work been done at a steady pace from the first day.
+         */
+        double idealEstimation;
+    }
+}
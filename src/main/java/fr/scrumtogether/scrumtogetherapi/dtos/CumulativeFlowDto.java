@@ -0,0 +1,28 @@
+package fr.scrumtogether.scrumtogetherapi.dtos;
+
+import lombok.Value;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Number of tasks of a sprint in each status at the end of each day.
+ */
+@Value
+public class CumulativeFlowDto implements Serializable {
+    Long sprintId;
+    List<LocalDate> days;
+    List<Series> series;
+
+    @Value
+    public static class Series implements Serializable {
+        Long statusId;
+        String code;
+        String name;
+        /**
+         * Task counts, one per entry of {@link CumulativeFlowDto#getDays()}.
+         */
+        List<Integer> taskCounts;
+    }
+}
@@ -0,0 +1,17 @@
+package fr.scrumtogether.scrumtogetherapi.dtos;
+
+import lombok.Value;
+
+import java.io.Serializable;
+import java.util.Map;
+
+/**
+ * The audited state of an entity at a given version, as rebuilt from its audit history.
+ */
+@Value
+public class EntityVersionDto implements Serializable {
+    String entityType;
+    Long entityId;
+    Long version;
+    Map<String, Object> state;
+}
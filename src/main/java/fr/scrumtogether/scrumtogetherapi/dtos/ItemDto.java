@@ -0,0 +1,33 @@
+package fr.scrumtogether.scrumtogetherapi.dtos;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+/**
+ * DTO for {@link fr.scrumtogether.scrumtogetherapi.entities.Item} creation.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ItemDto implements Serializable {
+    @NotBlank
+    @Pattern(regexp = "EPIC|FEATURE|USER_STORY", message = "Type must be EPIC, FEATURE or USER_STORY")
+    private String type;
+
+    @NotBlank
+    @Size(max = 100)
+    private String name;
+
+    @Size(max = 20)
+    private String code;
+
+    private String description;
+
+    private Long parentId;
+}
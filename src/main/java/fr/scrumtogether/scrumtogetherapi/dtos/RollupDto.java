@@ -0,0 +1,21 @@
+package fr.scrumtogether.scrumtogetherapi.dtos;
+
+import fr.scrumtogether.scrumtogetherapi.entities.Rollup;
+import lombok.Value;
+
+import java.io.Serializable;
+import java.time.Duration;
+
+/**
+ * Totals of the tasks of an item or a sprint.
+ */
+@Value
+public class RollupDto implements Serializable {
+    long estimation;
+    Duration duration;
+    int openTasks;
+
+    public static RollupDto from(Rollup rollup) {
+        return new RollupDto(rollup.getEstimation(), rollup.getDuration(), rollup.getOpenTasks());
+    }
+}
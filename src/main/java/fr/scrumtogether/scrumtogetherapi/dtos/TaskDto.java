@@ -0,0 +1,54 @@
+package fr.scrumtogether.scrumtogetherapi.dtos;
+
+import fr.scrumtogether.scrumtogetherapi.entities.Task;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.PositiveOrZero;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.Duration;
+
+/**
+ * DTO for {@link Task}
+ */
+@Builder
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskDto implements Serializable {
+    private Long id;
+
+    @NotBlank
+    @Size(max = 100)
+    private String name;
+
+    private String description;
+
+    @PositiveOrZero
+    private Integer estimation;
+
+    private Duration duration;
+
+    @NotNull
+    private Long userStoryId;
+
+    @NotNull
+    private Long statusId;
+
+    public static TaskDto from(Task task) {
+        return TaskDto.builder()
+                .id(task.getId())
+                .name(task.getName())
+                .description(task.getDescription())
+                .estimation(task.getEstimation())
+                .duration(task.getDuration())
+                .userStoryId(task.getUserStory().getId())
+                .statusId(task.getStatus().getId())
+                .build();
+    }
+}
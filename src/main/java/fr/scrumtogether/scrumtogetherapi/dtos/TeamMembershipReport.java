@@ -0,0 +1,16 @@
+package fr.scrumtogether.scrumtogetherapi.dtos;
+
+import lombok.Value;
+
+import java.io.Serializable;
+
+/**
+ * Report returned by a bulk team membership change, counting what was applied.
+ */
+@Value
+public class TeamMembershipReport implements Serializable {
+    int added;
+    int updated;
+    int removed;
+    int unchanged;
+}
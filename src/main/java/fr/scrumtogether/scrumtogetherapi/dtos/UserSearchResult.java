@@ -0,0 +1,25 @@
+package fr.scrumtogether.scrumtogetherapi.dtos;
+
+import fr.scrumtogether.scrumtogetherapi.entities.User;
+import lombok.Value;
+
+import java.io.Serializable;
+
+/**
+ * DTO for {@link User}
+ * <p>
+ * The searchable fields of a user, as held by the in-memory search index and returned by
+ * the user search endpoint.
+ */
+@Value
+public class UserSearchResult implements Serializable {
+    Long id;
+    String username;
+    String email;
+    String firstName;
+    String lastName;
+
+    public static UserSearchResult from(User user) {
+        return new UserSearchResult(user.getId(), user.getUsername(), user.getEmail(), user.getFirstName(), user.getLastName());
+    }
+}
@@ -0,0 +1,28 @@
+package fr.scrumtogether.scrumtogetherapi.dtos;
+
+import lombok.Value;
+
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * Velocity of the latest closed sprints of a project and their average.
+ */
+@Value
+public class VelocityDto implements Serializable {
+    Long projectId;
+    int window;
+    /**
+     * Average velocity over the sprints below, or null when no sprint was closed yet.
+     */
+    Double averageVelocity;
+    List<SprintVelocity> sprints;
+
+    @Value
+    public static class SprintVelocity implements Serializable {
+        Long sprintId;
+        Integer number;
+        String name;
+        Float velocity;
+    }
+}
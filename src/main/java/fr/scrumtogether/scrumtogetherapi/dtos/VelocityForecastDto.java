@@ -0,0 +1,19 @@
+package fr.scrumtogether.scrumtogetherapi.dtos;
+
+import lombok.Value;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+/**
+ * Number of sprints needed to finish the open tasks of a project at its average velocity.
+ * The sprint count and end date are null when no velocity is known yet.
+ */
+@Value
+public class VelocityForecastDto implements Serializable {
+    Long projectId;
+    long remainingEstimation;
+    Double averageVelocity;
+    Integer remainingSprints;
+    LocalDate estimatedEndDate;
+}
@@ -9,7 +9,12 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "audit_log")
+@Table(name = "audit_log", indexes = {
+        @Index(name = "idx_audit_log_entity_version", columnList = "entity_type, entity_id, entity_version"),
+        @Index(name = "idx_audit_log_entity_created_at", columnList = "entity_type, entity_id, created_at"),
+        @Index(name = "idx_audit_log_created_by_created_at", columnList = "created_by, created_at"),
+        @Index(name = "idx_audit_log_created_at", columnList = "created_at")
+})
 @EntityListeners(AuditingEntityListener.class)
 @Getter
 @Setter
@@ -21,15 +26,27 @@ public class AuditLog {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
-    @Column(nullable = false)
+    @Column(name = "entity_type", nullable = false)
     private String entityType;
 
-    @Column(nullable = false)
+    @Column(name = "entity_id", nullable = false)
     private Long entityId;
 
     @Column(nullable = false)
     private String action;
 
+    /**
+     * Version of the entity after the change, when the entity is versioned.
+     */
+    @Column(name = "entity_version")
+    private Long entityVersion;
+
+    /**
+     * Whether {@link #newValue} holds the full state of the entity rather than the changed fields only.
+     */
+    @Column(name = "snapshot", nullable = false)
+    private boolean snapshot;
+
     @Column(columnDefinition = "TEXT")
     private String oldValue;
 
@@ -37,10 +54,10 @@ public class AuditLog {
     private String newValue;
 
     @CreatedBy
-    @Column(nullable = false)
+    @Column(name = "created_by", nullable = false)
     private String createdBy;
 
     @CreatedDate
-    @Column(nullable = false)
+    @Column(name = "created_at", nullable = false)
     private LocalDateTime createdAt;
 }
\ No newline at end of file
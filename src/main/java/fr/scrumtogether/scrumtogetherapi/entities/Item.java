@@ -46,6 +46,13 @@ public abstract class Item {
     @JoinColumn(name = "sprint_id")
     private Sprint sprint;
 
+    /**
+     * Totals of the tasks of this item and its descendants, maintained by {@code RollupService}.
+     */
+    @Setter(AccessLevel.NONE)
+    @Embedded
+    private Rollup rollup = new Rollup();
+
     protected void removeChild(Item item) {
         childs.remove(item);
     }
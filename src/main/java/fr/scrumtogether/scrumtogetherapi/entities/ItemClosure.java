@@ -0,0 +1,28 @@
+package fr.scrumtogether.scrumtogetherapi.entities;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * One (ancestor, descendant) pair of the {@link Item} tree, including the pair of every item
+ * with itself at depth 0. Kept in step with {@link Item#getParent()} by the backlog service, it
+ * answers subtree and ancestor lookups with a single indexed query whatever the depth.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "item_closure", indexes = {
+        @Index(name = "idx_item_closure_descendant", columnList = "descendant_id, depth")
+})
+public class ItemClosure {
+    @EmbeddedId
+    private ItemClosureId id;
+
+    @Column(name = "depth", nullable = false)
+    private int depth;
+}
@@ -0,0 +1,21 @@
+package fr.scrumtogether.scrumtogetherapi.entities;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.*;
+
+import java.io.Serializable;
+
+@Embeddable
+@EqualsAndHashCode
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ItemClosureId implements Serializable {
+    @Column(name = "ancestor_id")
+    private Long ancestorId;
+
+    @Column(name = "descendant_id")
+    private Long descendantId;
+}
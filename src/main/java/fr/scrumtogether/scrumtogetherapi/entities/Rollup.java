@@ -0,0 +1,73 @@
+package fr.scrumtogether.scrumtogetherapi.entities;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+import org.hibernate.annotations.ColumnDefault;
+
+import java.io.Serializable;
+import java.time.Duration;
+
+/**
+ * Totals of the tasks below an {@link Item} or in a {@link Sprint}: estimation, logged duration
+ * and number of tasks not in a closed status.
+ * <p>
+ * The columns are never written through the owning entity: they are only moved by relative
+ * bulk updates, so concurrent writers add up instead of overwriting each other.
+ */
+@Embeddable
+@EqualsAndHashCode
+@ToString
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class Rollup implements Serializable {
+    public static final Rollup ZERO = new Rollup();
+
+    @ColumnDefault("0")
+    @Column(name = "total_estimation", nullable = false, updatable = false)
+    private long estimation;
+
+    @ColumnDefault("0")
+    @Column(name = "total_duration_seconds", nullable = false, updatable = false)
+    private long durationSeconds;
+
+    @ColumnDefault("0")
+    @Column(name = "open_task_count", nullable = false, updatable = false)
+    private int openTasks;
+
+    /**
+     * The contribution of one task.
+     */
+    public static Rollup of(Task task) {
+        return new Rollup(
+                task.getEstimation() != null ? task.getEstimation() : 0,
+                task.getDuration() != null ? task.getDuration().toSeconds() : 0,
+                task.getStatus() != null && task.getStatus().isClosed() ? 0 : 1
+        );
+    }
+
+    public Rollup plus(Rollup other) {
+        return new Rollup(estimation + other.estimation, durationSeconds + other.durationSeconds, openTasks + other.openTasks);
+    }
+
+    public Rollup minus(Rollup other) {
+        return new Rollup(estimation - other.estimation, durationSeconds - other.durationSeconds, openTasks - other.openTasks);
+    }
+
+    public Rollup negate() {
+        return ZERO.minus(this);
+    }
+
+    public boolean isZero() {
+        return equals(ZERO);
+    }
+
+    public Duration getDuration() {
+        return Duration.ofSeconds(durationSeconds);
+    }
+}
@@ -1,17 +1,23 @@
 package fr.scrumtogether.scrumtogetherapi.entities;
 
 import jakarta.persistence.*;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.LinkedHashSet;
 import java.util.Set;
 
 @Getter
 @Setter
 @Entity
-@Table(name = "sprint")
+@Table(name = "sprint", indexes = {
+        @Index(name = "idx_sprint_project_number", columnList = "project_id, number"),
+        @Index(name = "idx_sprint_velocity_dirty", columnList = "velocity_dirty")
+})
 public class Sprint {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -30,9 +36,22 @@ public class Sprint {
     @Column(name = "number", nullable = false)
     private Integer number;
 
+    /**
+     * Estimation completed in the sprint, computed when it closes and kept up to date by {@code VelocityService}.
+     */
     @Column(name = "velocity")
     private Float velocity;
 
+    @Column(name = "closed_at")
+    private LocalDateTime closedAt;
+
+    /**
+     * Whether tasks of this closed sprint changed since its velocity was computed.
+     */
+    @ColumnDefault("false")
+    @Column(name = "velocity_dirty", nullable = false, updatable = false)
+    private boolean velocityDirty;
+
     @ManyToOne(optional = false)
     @JoinColumn(name = "project_id", nullable = false)
     private Project project;
@@ -40,4 +59,11 @@ public class Sprint {
     @OneToMany(mappedBy = "sprint")
     private Set<Item> items = new LinkedHashSet<>();
 
+    /**
+     * Totals of the tasks of the user stories of this sprint, maintained by {@code RollupService}.
+     */
+    @Setter(AccessLevel.NONE)
+    @Embedded
+    private Rollup rollup = new Rollup();
+
 }
\ No newline at end of file
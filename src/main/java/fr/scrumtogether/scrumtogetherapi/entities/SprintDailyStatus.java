@@ -0,0 +1,31 @@
+package fr.scrumtogether.scrumtogetherapi.entities;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Net change, over one day, of the tasks of a sprint in one status: tasks entering the status
+ * count positively and tasks leaving it negatively, with their estimation.
+ * <p>
+ * Summing the rows of a sprint up to a day gives its tasks per status on that day, so charts
+ * cost one row per day and status however many transitions happened.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "sprint_daily_status")
+public class SprintDailyStatus {
+    @EmbeddedId
+    private SprintDailyStatusId id;
+
+    @Column(name = "task_count", nullable = false)
+    private int taskCount;
+
+    @Column(name = "estimation", nullable = false)
+    private long estimation;
+}
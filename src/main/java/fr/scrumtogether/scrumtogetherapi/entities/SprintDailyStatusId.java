@@ -0,0 +1,25 @@
+package fr.scrumtogether.scrumtogetherapi.entities;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.*;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+@Embeddable
+@EqualsAndHashCode
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class SprintDailyStatusId implements Serializable {
+    @Column(name = "sprint_id")
+    private Long sprintId;
+
+    @Column(name = "sprint_day")
+    private LocalDate day;
+
+    @Column(name = "status_id")
+    private Long statusId;
+}
@@ -1,8 +1,10 @@
 package fr.scrumtogether.scrumtogetherapi.entities;
 
+import fr.scrumtogether.scrumtogetherapi.utils.jpa.TaskStatusCacheListener;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.util.LinkedHashSet;
 import java.util.Set;
@@ -10,6 +12,7 @@ import java.util.Set;
 @Getter
 @Setter
 @Entity
+@EntityListeners(TaskStatusCacheListener.class)
 @Table(name = "task_status")
 public class TaskStatus {
     @Id
@@ -23,6 +26,13 @@ public class TaskStatus {
     @Column(name = "name", length = 50)
     private String name;
 
+    /**
+     * Whether tasks in this status are finished, and no longer count as open.
+     */
+    @ColumnDefault("false")
+    @Column(name = "closed", nullable = false)
+    private boolean closed;
+
     @OneToMany(mappedBy = "status")
     private Set<Task> tasks = new LinkedHashSet<>();
 
@@ -0,0 +1,54 @@
+package fr.scrumtogether.scrumtogetherapi.entities;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.Immutable;
+
+import java.time.LocalDateTime;
+
+/**
+ * One change of the status, sprint or estimation of a {@link Task}, appended on every write and
+ * never updated. A creation has no {@code from} side and a deletion no {@code to} side.
+ * <p>
+ * Ids are plain columns so the history outlives the tasks, statuses and sprints it refers to.
+ */
+@Entity
+@Immutable
+@Table(name = "task_status_event", indexes = {
+        @Index(name = "idx_task_status_event_task", columnList = "task_id, occurred_at"),
+        @Index(name = "idx_task_status_event_from_sprint", columnList = "from_sprint_id, occurred_at"),
+        @Index(name = "idx_task_status_event_to_sprint", columnList = "to_sprint_id, occurred_at")
+})
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TaskStatusEvent {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "task_id", nullable = false)
+    private Long taskId;
+
+    @Column(name = "from_sprint_id")
+    private Long fromSprintId;
+
+    @Column(name = "from_status_id")
+    private Long fromStatusId;
+
+    @Column(name = "from_estimation")
+    private Integer fromEstimation;
+
+    @Column(name = "to_sprint_id")
+    private Long toSprintId;
+
+    @Column(name = "to_status_id")
+    private Long toStatusId;
+
+    @Column(name = "to_estimation")
+    private Integer toEstimation;
+
+    @Column(name = "occurred_at", nullable = false)
+    private LocalDateTime occurredAt;
+}
@@ -7,6 +7,7 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import lombok.ToString;
+import org.hibernate.annotations.BatchSize;
 
 import java.util.LinkedHashSet;
 import java.util.Set;
@@ -18,7 +19,9 @@ import java.util.Set;
 @Setter
 @ToString(onlyExplicitlyIncluded = true)
 @Entity
-@Table(name = "team")
+@Table(name = "team", indexes = {
+        @Index(name = "idx_team_name_id", columnList = "name, id")
+})
 public class Team {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -37,9 +40,11 @@ public class Team {
     @Column(name = "email", length = 100)
     private String email;
 
+    @BatchSize(size = 100)
     @OneToMany(mappedBy = "team")
     private Set<TeamUser> teamUsers = new LinkedHashSet<>();
 
+    @BatchSize(size = 100)
     @OneToMany(mappedBy = "team")
     private Set<Project> projects = new LinkedHashSet<>();
 
@@ -0,0 +1,34 @@
+package fr.scrumtogether.scrumtogetherapi.entities;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Persistent record of revoked tokens for a user.
+ * <p>
+ * Every token issued for {@link #revokedVersion} or an older version of the user entity
+ * is rejected. Rows older than the token lifetime no longer revoke anything and are
+ * pruned at startup.
+ */
+@Entity
+@Table(name = "token_revocation", indexes = {
+        @Index(name = "idx_token_revocation_revoked_at", columnList = "revoked_at")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TokenRevocation {
+    @Id
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "revoked_version", nullable = false)
+    private Long revokedVersion;
+
+    @Column(name = "revoked_at", nullable = false)
+    private LocalDateTime revokedAt;
+}
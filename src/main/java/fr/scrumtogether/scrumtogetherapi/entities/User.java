@@ -3,6 +3,7 @@ package fr.scrumtogether.scrumtogetherapi.entities;
 import fr.scrumtogether.scrumtogetherapi.entities.enums.Role;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.BatchSize;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -14,6 +15,7 @@ import java.time.LocalDateTime;
 import java.util.Collection;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Locale;
 import java.util.Set;
 
 /**
@@ -32,10 +34,13 @@ import java.util.Set;
 @Getter
 @Setter
 @Entity
+@BatchSize(size = 100)
 @EntityListeners(AuditingEntityListener.class)
 @Table(name = "user", indexes = {
         @Index(name = "idx_user_username", columnList = "username"),
-        @Index(name = "idx_user_email", columnList = "email")
+        @Index(name = "idx_user_email", columnList = "email"),
+        @Index(name = "uk_user_username_key", columnList = "username_key", unique = true),
+        @Index(name = "uk_user_email_key", columnList = "email_key", unique = true)
 })
 public class User implements UserDetails {
     /**
@@ -62,20 +67,35 @@ public class User implements UserDetails {
 
     /**
      * The user's email address.
-     * Must be unique across all users and cannot be null.
+     * Must be unique across live users and cannot be null.
      * Used for account verification and communication.
      */
-    @Column(name = "email", nullable = false, unique = true)
+    @Column(name = "email", nullable = false)
     private String email;
 
     /**
      * The user's chosen username.
-     * Must be unique across all users and cannot be null.
+     * Must be unique across live users and cannot be null.
      * Used for authentication and identification.
      */
-    @Column(name = "username", nullable = false, unique = true)
+    @Column(name = "username", nullable = false)
     private String username;
 
+    /**
+     * The normalized username of a live user, null once the user is deleted.
+     * Maintained on write and backed by a unique index, so the database enforces
+     * case-insensitive uniqueness among live users and lookups are index probes.
+     */
+    @Column(name = "username_key")
+    private String usernameKey;
+
+    /**
+     * The normalized email of a live user, null once the user is deleted.
+     * Maintained on write and backed by a unique index, like {@link #usernameKey}.
+     */
+    @Column(name = "email_key")
+    private String emailKey;
+
     /**
      * The user's encrypted password.
      * Required field that cannot be null.
@@ -222,6 +242,28 @@ public class User implements UserDetails {
         return deletedAt != null;
     }
 
+    /**
+     * Normalizes a username or an email for uniqueness checks.
+     *
+     * @param value the raw value
+     * @return the trimmed, lower-cased value
+     */
+    public static String normalizeKey(String value) {
+        return value == null ? null : value.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Recomputes the normalized keys before every write: they follow the username and email
+     * of a live user and are cleared when the user is deleted, releasing both for reuse.
+     */
+    @PrePersist
+    @PreUpdate
+    void updateKeys() {
+        boolean live = deletedAt == null;
+        usernameKey = live ? normalizeKey(username) : null;
+        emailKey = live ? normalizeKey(email) : null;
+    }
+
     /**
      * Returns a string representation of this user.
      * Excludes sensitive information like password.
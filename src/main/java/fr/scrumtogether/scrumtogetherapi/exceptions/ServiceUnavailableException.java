@@ -0,0 +1,25 @@
+package fr.scrumtogether.scrumtogetherapi.exceptions;
+
+import lombok.Getter;
+
+/**
+ * Exception thrown when a request is shed because a bounded resource is saturated.
+ * <p>
+ * The client is expected to retry after {@link #getRetryAfterSeconds()} seconds.
+ * <p>
+ * Extends {@link ApplicationException}
+ */
+@Getter
+public class ServiceUnavailableException extends ApplicationException {
+    private final long retryAfterSeconds;
+
+    public ServiceUnavailableException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public ServiceUnavailableException(String message, long retryAfterSeconds, Throwable cause) {
+        super(message, cause);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
@@ -4,11 +4,15 @@ import fr.scrumtogether.scrumtogetherapi.controllers.TeamController;
 import fr.scrumtogether.scrumtogetherapi.dtos.TeamDto;
 import fr.scrumtogether.scrumtogetherapi.dtos.TeamUserDto;
 import fr.scrumtogether.scrumtogetherapi.entities.Team;
+import fr.scrumtogether.scrumtogetherapi.entities.TeamUserId;
+import fr.scrumtogether.scrumtogetherapi.repositories.projections.TeamSummary;
+import fr.scrumtogether.scrumtogetherapi.repositories.projections.TeamView;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.hateoas.server.mvc.RepresentationModelAssemblerSupport;
 import org.springframework.lang.NonNull;
 import org.springframework.stereotype.Component;
 
+import java.util.LinkedHashSet;
 import java.util.stream.Collectors;
 
 import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
@@ -58,7 +62,7 @@ public class TeamMapper extends RepresentationModelAssemblerSupport<Team, TeamDt
                         .build())
                 .collect(Collectors.toSet()));
         teamDto.setProjects(entity.getProjects().stream()
-                .map(project -> new TeamDto.ProjectDto(entity.getId(), entity.getName()))
+                .map(project -> new TeamDto.ProjectDto(project.getId(), project.getName()))
                 .collect(Collectors.toSet()));
 
         teamDto.add(linkTo(methodOn(TeamController.class).getById(entity.getId())).withSelfRel());
@@ -66,4 +70,34 @@ public class TeamMapper extends RepresentationModelAssemblerSupport<Team, TeamDt
         return teamDto;
     }
 
+    /**
+     * Maps a team list row read through projections; no entity is involved.
+     *
+     * @param view the team with its members and projects
+     * @return the team DTO
+     */
+    @NonNull
+    public TeamDto toModel(@NonNull TeamView view) {
+        TeamSummary team = view.getTeam();
+
+        TeamDto teamDto = new TeamDto();
+        teamDto.setId(team.getId());
+        teamDto.setName(team.getName());
+        teamDto.setDescription(team.getDescription());
+        teamDto.setEmail(team.getEmail());
+        teamDto.setTeamUsers(view.getMembers().stream()
+                .map(member -> TeamUserDto.builder()
+                        .id(new TeamUserId(member.getUserId(), member.getTeamId()))
+                        .userUsername(member.getUsername())
+                        .teamRole(member.getTeamRole())
+                        .build())
+                .collect(Collectors.toCollection(LinkedHashSet::new)));
+        teamDto.setProjects(view.getProjects().stream()
+                .map(project -> new TeamDto.ProjectDto(project.getId(), project.getName()))
+                .collect(Collectors.toCollection(LinkedHashSet::new)));
+
+        teamDto.add(linkTo(methodOn(TeamController.class).getById(team.getId())).withSelfRel());
+
+        return teamDto;
+    }
 }
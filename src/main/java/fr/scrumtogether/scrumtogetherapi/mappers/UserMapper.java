@@ -5,6 +5,7 @@ import fr.scrumtogether.scrumtogetherapi.dtos.RegistrationDto;
 import fr.scrumtogether.scrumtogetherapi.dtos.UserDto;
 import fr.scrumtogether.scrumtogetherapi.entities.User;
 import fr.scrumtogether.scrumtogetherapi.entities.enums.Role;
+import fr.scrumtogether.scrumtogetherapi.repositories.projections.UserSummary;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.hateoas.server.mvc.RepresentationModelAssemblerSupport;
 import org.springframework.lang.NonNull;
@@ -76,4 +77,28 @@ public class UserMapper extends RepresentationModelAssemblerSupport<User, UserDt
         userDto.add(linkTo(methodOn(UserController.class).getById(entity.getId())).withSelfRel());
         return userDto;
     }
+
+    /**
+     * Maps a user list row read through a projection; no entity is involved.
+     *
+     * @param summary the user columns
+     * @return the user DTO
+     */
+    @NonNull
+    public UserDto toModel(@NonNull UserSummary summary) {
+        UserDto userDto = new UserDto();
+        userDto.setId(summary.getId());
+        userDto.setLastName(summary.getLastName());
+        userDto.setFirstName(summary.getFirstName());
+        userDto.setEmail(summary.getEmail());
+        userDto.setUsername(summary.getUsername());
+        userDto.setVerifiedEmail(summary.getVerifiedEmail());
+        userDto.setRole(summary.getRole());
+        userDto.setVersion(summary.getVersion());
+        userDto.setCreatedAt(summary.getCreatedAt());
+        userDto.setUpdatedAt(summary.getUpdatedAt());
+
+        userDto.add(linkTo(methodOn(UserController.class).getById(summary.getId())).withSelfRel());
+        return userDto;
+    }
 }
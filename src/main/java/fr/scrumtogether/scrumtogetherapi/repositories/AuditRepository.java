@@ -1,7 +1,48 @@
 package fr.scrumtogether.scrumtogetherapi.repositories;
 
 import fr.scrumtogether.scrumtogetherapi.entities.AuditLog;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
-public interface AuditRepository extends JpaRepository<AuditLog, Long> {
-}
\ No newline at end of file
+import java.util.List;
+
+public interface AuditRepository extends JpaRepository<AuditLog, Long>, AuditRepositoryCustom {
+
+    /**
+     * Reads the snapshots of an entity taken at or before the given version, latest first.
+     */
+    @Query("select a from AuditLog a " +
+            "where a.entityType = :entityType and a.entityId = :entityId " +
+            "and a.snapshot = true and a.entityVersion <= :version " +
+            "order by a.entityVersion desc")
+    List<AuditLog> findSnapshotsAtOrBefore(@Param("entityType") String entityType,
+                                           @Param("entityId") Long entityId,
+                                           @Param("version") Long version,
+                                           Pageable pageable);
+
+    /**
+     * Reads the snapshots of an entity taken after the given version, earliest first.
+     */
+    @Query("select a from AuditLog a " +
+            "where a.entityType = :entityType and a.entityId = :entityId " +
+            "and a.snapshot = true and a.entityVersion > :version " +
+            "order by a.entityVersion")
+    List<AuditLog> findSnapshotsAfter(@Param("entityType") String entityType,
+                                      @Param("entityId") Long entityId,
+                                      @Param("version") Long version,
+                                      Pageable pageable);
+
+    /**
+     * Reads the audit records of an entity for the given range of versions, in version order.
+     */
+    @Query("select a from AuditLog a " +
+            "where a.entityType = :entityType and a.entityId = :entityId " +
+            "and a.entityVersion between :fromVersion and :toVersion " +
+            "order by a.entityVersion")
+    List<AuditLog> findVersionsBetween(@Param("entityType") String entityType,
+                                       @Param("entityId") Long entityId,
+                                       @Param("fromVersion") Long fromVersion,
+                                       @Param("toVersion") Long toVersion);
+}
@@ -0,0 +1,27 @@
+package fr.scrumtogether.scrumtogetherapi.repositories;
+
+import fr.scrumtogether.scrumtogetherapi.dtos.AuditFilter;
+import fr.scrumtogether.scrumtogetherapi.dtos.AuditLogDto;
+import org.springframework.data.domain.Slice;
+
+import java.time.LocalDateTime;
+
+/**
+ * Hand-written queries of {@link AuditRepository}.
+ */
+public interface AuditRepositoryCustom {
+    /**
+     * Reads one page of audit records matching the filter, newest first, in keyset mode.
+     * Only the criteria present in the filter become predicates, so each query can be served
+     * by the composite index leading with its equality columns.
+     *
+     * @param filter         the criteria
+     * @param afterCreatedAt the creation date of the last record of the previous page, or null for the first page
+     * @param afterId        the id of the last record of the previous page, or null for the first page
+     * @param size           the page size
+     * @param includeValues  whether to read the old and new values, the largest columns
+     * @return the page, telling whether a next one exists
+     */
+    Slice<AuditLogDto> findPage(AuditFilter filter, LocalDateTime afterCreatedAt, Long afterId,
+                                int size, boolean includeValues);
+}
@@ -0,0 +1,77 @@
+package fr.scrumtogether.scrumtogetherapi.repositories;
+
+import fr.scrumtogether.scrumtogetherapi.dtos.AuditFilter;
+import fr.scrumtogether.scrumtogetherapi.dtos.AuditLogDto;
+import fr.scrumtogether.scrumtogetherapi.entities.AuditLog;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+public class AuditRepositoryCustomImpl implements AuditRepositoryCustom {
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Slice<AuditLogDto> findPage(AuditFilter filter, LocalDateTime afterCreatedAt, Long afterId,
+                                       int size, boolean includeValues) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<AuditLogDto> query = cb.createQuery(AuditLogDto.class);
+        Root<AuditLog> root = query.from(AuditLog.class);
+
+        List<Selection<?>> columns = new ArrayList<>(List.of(
+                root.get("id"),
+                root.get("entityType"),
+                root.get("entityId"),
+                root.get("action"),
+                root.get("entityVersion"),
+                root.get("snapshot"),
+                root.get("createdBy"),
+                root.get("createdAt")));
+        if (includeValues) {
+            columns.add(root.get("oldValue"));
+            columns.add(root.get("newValue"));
+        }
+        query.select(cb.construct(AuditLogDto.class, columns.toArray(Selection[]::new)));
+
+        List<Predicate> predicates = new ArrayList<>();
+        if (filter.getEntityType() != null) {
+            predicates.add(cb.equal(root.get("entityType"), filter.getEntityType()));
+        }
+        if (filter.getEntityId() != null) {
+            predicates.add(cb.equal(root.get("entityId"), filter.getEntityId()));
+        }
+        if (filter.getActor() != null) {
+            predicates.add(cb.equal(root.get("createdBy"), filter.getActor()));
+        }
+        if (filter.getFrom() != null) {
+            predicates.add(cb.greaterThanOrEqualTo(root.get("createdAt"), filter.getFrom()));
+        }
+        if (filter.getTo() != null) {
+            predicates.add(cb.lessThan(root.get("createdAt"), filter.getTo()));
+        }
+        if (afterCreatedAt != null && afterId != null) {
+            predicates.add(cb.or(
+                    cb.lessThan(root.get("createdAt"), afterCreatedAt),
+                    cb.and(cb.equal(root.get("createdAt"), afterCreatedAt), cb.lessThan(root.get("id"), afterId))));
+        }
+        query.where(predicates.toArray(Predicate[]::new));
+        query.orderBy(cb.desc(root.get("createdAt")), cb.desc(root.get("id")));
+
+        List<AuditLogDto> rows = entityManager.createQuery(query)
+                .setMaxResults(size + 1)
+                .getResultList();
+        boolean hasNext = rows.size() > size;
+        return new SliceImpl<>(hasNext ? rows.subList(0, size) : rows, PageRequest.of(0, size), hasNext);
+    }
+}
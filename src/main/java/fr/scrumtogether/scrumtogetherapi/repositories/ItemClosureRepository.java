@@ -0,0 +1,75 @@
+package fr.scrumtogether.scrumtogetherapi.repositories;
+
+import fr.scrumtogether.scrumtogetherapi.entities.ItemClosure;
+import fr.scrumtogether.scrumtogetherapi.entities.ItemClosureId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface ItemClosureRepository extends JpaRepository<ItemClosure, ItemClosureId> {
+
+    /**
+     * Reads the ids of an item and all its descendants.
+     */
+    @Query("select c.id.descendantId from ItemClosure c where c.id.ancestorId = :itemId")
+    List<Long> findSubtreeIds(@Param("itemId") Long itemId);
+
+    /**
+     * Reads the ids of the strict ancestors of an item.
+     */
+    @Query("select c.id.ancestorId from ItemClosure c where c.id.descendantId = :itemId and c.depth > 0")
+    List<Long> findAncestorIds(@Param("itemId") Long itemId);
+
+    /**
+     * Reads the (ancestor id, descendant id) pairs of the items of a project, self pairs included.
+     */
+    @Query("select c.id.ancestorId, c.id.descendantId from ItemClosure c, Item i " +
+            "where i.id = c.id.descendantId and i.project.id = :projectId")
+    List<Object[]> findPairs(@Param("projectId") Long projectId);
+
+    @Query("select count(c) from ItemClosure c where c.depth = 0")
+    long countItems();
+
+    /**
+     * Unlinks a subtree from its former ancestors.
+     */
+    @Modifying
+    @Query("delete from ItemClosure c where c.id.descendantId in :subtreeIds and c.id.ancestorId in :ancestorIds")
+    int detach(@Param("subtreeIds") Collection<Long> subtreeIds, @Param("ancestorIds") Collection<Long> ancestorIds);
+
+    /**
+     * Links the subtree rooted at an item under a parent: every ancestor of the parent, the parent
+     * included, becomes an ancestor of every node of the subtree.
+     */
+    @Modifying
+    @Query(value = "insert into item_closure (ancestor_id, descendant_id, depth) " +
+            "select p.ancestor_id, c.descendant_id, p.depth + c.depth + 1 " +
+            "from item_closure p, item_closure c " +
+            "where p.descendant_id = :parentId and c.ancestor_id = :itemId",
+            nativeQuery = true)
+    int attach(@Param("parentId") Long parentId, @Param("itemId") Long itemId);
+
+    @Modifying
+    @Query(value = "delete from item_closure", nativeQuery = true)
+    int deleteAllPairs();
+
+    @Modifying
+    @Query(value = "insert into item_closure (ancestor_id, descendant_id, depth) select id, id, 0 from item",
+            nativeQuery = true)
+    int insertSelfPairs();
+
+    /**
+     * Derives the pairs of the given depth from those one level above, following {@code item.parent_id}.
+     */
+    @Modifying
+    @Query(value = "insert into item_closure (ancestor_id, descendant_id, depth) " +
+            "select c.ancestor_id, i.id, c.depth + 1 " +
+            "from item i join item_closure c on c.descendant_id = i.parent_id " +
+            "where c.depth = :depth - 1",
+            nativeQuery = true)
+    int insertPairsAtDepth(@Param("depth") int depth);
+}
@@ -0,0 +1,75 @@
+package fr.scrumtogether.scrumtogetherapi.repositories;
+
+import fr.scrumtogether.scrumtogetherapi.entities.Item;
+import fr.scrumtogether.scrumtogetherapi.repositories.projections.BacklogItemView;
+import fr.scrumtogether.scrumtogetherapi.repositories.projections.RollupView;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface ItemRepository extends JpaRepository<Item, Long> {
+
+    Optional<Item> findByIdAndProjectId(Long id, Long projectId);
+
+    /**
+     * Reads every item of a project, in one query.
+     */
+    @Query("select new fr.scrumtogether.scrumtogetherapi.repositories.projections.BacklogItemView(" +
+            "i.id, case type(i) when Epic then 'EPIC' when Feature then 'FEATURE' else 'USER_STORY' end, " +
+            "i.name, i.code, i.parent.id, i.sprint.id, i.rollup.estimation, i.rollup.durationSeconds, i.rollup.openTasks) " +
+            "from Item i where i.project.id = :projectId order by i.id")
+    List<BacklogItemView> findBacklog(@Param("projectId") Long projectId);
+
+    /**
+     * Reads an item of a project and all its descendants, in one query through the closure table.
+     */
+    @Query("select new fr.scrumtogether.scrumtogetherapi.repositories.projections.BacklogItemView(" +
+            "i.id, case type(i) when Epic then 'EPIC' when Feature then 'FEATURE' else 'USER_STORY' end, " +
+            "i.name, i.code, i.parent.id, i.sprint.id, i.rollup.estimation, i.rollup.durationSeconds, i.rollup.openTasks) " +
+            "from ItemClosure c join Item i on i.id = c.id.descendantId " +
+            "where c.id.ancestorId = :rootId and i.project.id = :projectId order by i.id")
+    List<BacklogItemView> findSubtree(@Param("projectId") Long projectId, @Param("rootId") Long rootId);
+
+    /**
+     * Adds a delta to the rollup of the ancestors of an item at {@code minDepth} or above:
+     * 0 includes the item itself, 1 only its strict ancestors.
+     */
+    @Modifying
+    @Query("update Item i set i.rollup.estimation = i.rollup.estimation + :estimation, " +
+            "i.rollup.durationSeconds = i.rollup.durationSeconds + :durationSeconds, " +
+            "i.rollup.openTasks = i.rollup.openTasks + :openTasks " +
+            "where i.id in (select c.id.ancestorId from ItemClosure c where c.id.descendantId = :itemId and c.depth >= :minDepth)")
+    int addToRollupOfAncestors(@Param("itemId") Long itemId,
+                               @Param("minDepth") int minDepth,
+                               @Param("estimation") long estimation,
+                               @Param("durationSeconds") long durationSeconds,
+                               @Param("openTasks") int openTasks);
+
+    @Query("select new fr.scrumtogether.scrumtogetherapi.repositories.projections.RollupView(" +
+            "i.id, i.rollup.estimation, i.rollup.durationSeconds, i.rollup.openTasks) " +
+            "from Item i where i.project.id = :projectId")
+    List<RollupView> findRollups(@Param("projectId") Long projectId);
+
+    @Query("select i.id, i.sprint.id from Item i where i.project.id = :projectId and i.sprint is not null")
+    List<Object[]> findSprintIds(@Param("projectId") Long projectId);
+
+    /**
+     * Overwrites the rollup of an item, unless it moved since it was read as {@code seen}.
+     */
+    @Modifying
+    @Query("update Item i set i.rollup.estimation = :estimation, i.rollup.durationSeconds = :durationSeconds, " +
+            "i.rollup.openTasks = :openTasks " +
+            "where i.id = :id and i.rollup.estimation = :seenEstimation " +
+            "and i.rollup.durationSeconds = :seenDurationSeconds and i.rollup.openTasks = :seenOpenTasks")
+    int replaceRollup(@Param("id") Long id,
+                      @Param("estimation") long estimation,
+                      @Param("durationSeconds") long durationSeconds,
+                      @Param("openTasks") int openTasks,
+                      @Param("seenEstimation") long seenEstimation,
+                      @Param("seenDurationSeconds") long seenDurationSeconds,
+                      @Param("seenOpenTasks") int seenOpenTasks);
+}
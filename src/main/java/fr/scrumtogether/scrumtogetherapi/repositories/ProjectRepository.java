@@ -0,0 +1,13 @@
+package fr.scrumtogether.scrumtogetherapi.repositories;
+
+import fr.scrumtogether.scrumtogetherapi.entities.Project;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.List;
+
+public interface ProjectRepository extends JpaRepository<Project, Long> {
+
+    @Query("select p.id from Project p order by p.id")
+    List<Long> findAllIds();
+}
@@ -0,0 +1,41 @@
+package fr.scrumtogether.scrumtogetherapi.repositories;
+
+import fr.scrumtogether.scrumtogetherapi.entities.SprintDailyStatus;
+import fr.scrumtogether.scrumtogetherapi.entities.SprintDailyStatusId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+public interface SprintDailyStatusRepository extends JpaRepository<SprintDailyStatus, SprintDailyStatusId> {
+
+    /**
+     * Adds a change to the row of a (sprint, day, status), if it exists.
+     *
+     * @return the number of rows updated, 0 when the row is still to be created
+     */
+    @Modifying
+    @Query("update SprintDailyStatus s set s.taskCount = s.taskCount + :taskCount, s.estimation = s.estimation + :estimation " +
+            "where s.id.sprintId = :sprintId and s.id.day = :day and s.id.statusId = :statusId")
+    int increment(@Param("sprintId") Long sprintId,
+                  @Param("day") LocalDate day,
+                  @Param("statusId") Long statusId,
+                  @Param("taskCount") int taskCount,
+                  @Param("estimation") long estimation);
+
+    @Query("select s from SprintDailyStatus s where s.id.sprintId = :sprintId order by s.id.day")
+    List<SprintDailyStatus> findBySprintId(@Param("sprintId") Long sprintId);
+
+    /**
+     * Sums the estimation that reached a closed status in each sprint, as (sprint id, estimation) pairs.
+     * Sprints without any row are left out.
+     */
+    @Query("select s.id.sprintId, sum(s.estimation) from SprintDailyStatus s, TaskStatus ts " +
+            "where ts.id = s.id.statusId and ts.closed = true and s.id.sprintId in :sprintIds " +
+            "group by s.id.sprintId")
+    List<Object[]> sumClosedEstimations(@Param("sprintIds") Collection<Long> sprintIds);
+}
@@ -0,0 +1,88 @@
+package fr.scrumtogether.scrumtogetherapi.repositories;
+
+import fr.scrumtogether.scrumtogetherapi.entities.Sprint;
+import fr.scrumtogether.scrumtogetherapi.repositories.projections.RollupView;
+import fr.scrumtogether.scrumtogetherapi.repositories.projections.SprintVelocityView;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface SprintRepository extends JpaRepository<Sprint, Long> {
+
+    /**
+     * Adds a delta to the rollup of the sprint of an item, if it has one.
+     */
+    @Modifying
+    @Query("update Sprint s set s.rollup.estimation = s.rollup.estimation + :estimation, " +
+            "s.rollup.durationSeconds = s.rollup.durationSeconds + :durationSeconds, " +
+            "s.rollup.openTasks = s.rollup.openTasks + :openTasks " +
+            "where s.id = (select i.sprint.id from Item i where i.id = :itemId)")
+    int addToRollupOfSprintOf(@Param("itemId") Long itemId,
+                              @Param("estimation") long estimation,
+                              @Param("durationSeconds") long durationSeconds,
+                              @Param("openTasks") int openTasks);
+
+    @Query("select new fr.scrumtogether.scrumtogetherapi.repositories.projections.RollupView(" +
+            "s.id, s.rollup.estimation, s.rollup.durationSeconds, s.rollup.openTasks) " +
+            "from Sprint s where s.project.id = :projectId")
+    List<RollupView> findRollups(@Param("projectId") Long projectId);
+
+    /**
+     * Overwrites the rollup of a sprint, unless it moved since it was read as {@code seen}.
+     */
+    @Modifying
+    @Query("update Sprint s set s.rollup.estimation = :estimation, s.rollup.durationSeconds = :durationSeconds, " +
+            "s.rollup.openTasks = :openTasks " +
+            "where s.id = :id and s.rollup.estimation = :seenEstimation " +
+            "and s.rollup.durationSeconds = :seenDurationSeconds and s.rollup.openTasks = :seenOpenTasks")
+    int replaceRollup(@Param("id") Long id,
+                      @Param("estimation") long estimation,
+                      @Param("durationSeconds") long durationSeconds,
+                      @Param("openTasks") int openTasks,
+                      @Param("seenEstimation") long seenEstimation,
+                      @Param("seenDurationSeconds") long seenDurationSeconds,
+                      @Param("seenOpenTasks") int seenOpenTasks);
+
+    /**
+     * Closes a sprint that is still open. The updated row stays locked until the transaction ends.
+     *
+     * @return 0 if the sprint does not exist or is already closed
+     */
+    @Modifying
+    @Query("update Sprint s set s.closedAt = :closedAt where s.id = :id and s.closedAt is null")
+    int close(@Param("id") Long id, @Param("closedAt") LocalDateTime closedAt);
+
+    /**
+     * Flags a closed sprint whose tasks changed, for its velocity to be recomputed.
+     */
+    @Modifying
+    @Query("update Sprint s set s.velocityDirty = true " +
+            "where s.id = :id and s.closedAt is not null and s.velocityDirty = false")
+    int markVelocityDirty(@Param("id") Long id);
+
+    @Query("select s.id from Sprint s where s.velocityDirty = true order by s.id")
+    List<Long> findVelocityDirtyIds(Pageable pageable);
+
+    @Modifying
+    @Query("update Sprint s set s.velocityDirty = false where s.id in :ids")
+    int clearVelocityDirty(@Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @Query("update Sprint s set s.velocity = :velocity where s.id = :id")
+    int updateVelocity(@Param("id") Long id, @Param("velocity") Float velocity);
+
+    /**
+     * Reads the closed sprints of a project, latest first.
+     */
+    @Query("select new fr.scrumtogether.scrumtogetherapi.repositories.projections.SprintVelocityView(" +
+            "s.id, s.number, s.name, s.startDate, s.endDate, s.velocity) " +
+            "from Sprint s where s.project.id = :projectId and s.closedAt is not null " +
+            "order by s.number desc, s.id desc")
+    List<SprintVelocityView> findClosedVelocities(@Param("projectId") Long projectId, Pageable pageable);
+}
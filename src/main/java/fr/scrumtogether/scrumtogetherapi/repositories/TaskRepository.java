@@ -0,0 +1,31 @@
+package fr.scrumtogether.scrumtogetherapi.repositories;
+
+import fr.scrumtogether.scrumtogetherapi.entities.Task;
+import fr.scrumtogether.scrumtogetherapi.repositories.projections.BoardTaskView;
+import fr.scrumtogether.scrumtogetherapi.repositories.projections.TaskRollupView;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface TaskRepository extends JpaRepository<Task, Long> {
+
+    @Query("select new fr.scrumtogether.scrumtogetherapi.repositories.projections.TaskRollupView(" +
+            "t.userStory.id, t.estimation, t.duration, t.status.closed) " +
+            "from Task t where t.userStory.project.id = :projectId")
+    List<TaskRollupView> findRollups(@Param("projectId") Long projectId);
+
+    @Query("select coalesce(sum(t.estimation), 0) from Task t " +
+            "where t.userStory.project.id = :projectId and t.status.closed = false")
+    long sumOpenEstimation(@Param("projectId") Long projectId);
+
+    /**
+     * Reads the tasks of the user stories of a sprint, bug reports included, in one query.
+     */
+    @Query("select new fr.scrumtogether.scrumtogetherapi.repositories.projections.BoardTaskView(" +
+            "t.id, t.name, t.estimation, t.duration, t.status.id, us.id, us.code, us.name, " +
+            "treat(t as BugReport).severityLevel) " +
+            "from Task t join t.userStory us where us.sprint.id = :sprintId order by t.id")
+    List<BoardTaskView> findBoard(@Param("sprintId") Long sprintId);
+}
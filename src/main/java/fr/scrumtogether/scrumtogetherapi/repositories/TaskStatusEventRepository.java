@@ -0,0 +1,11 @@
+package fr.scrumtogether.scrumtogetherapi.repositories;
+
+import fr.scrumtogether.scrumtogetherapi.entities.TaskStatusEvent;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+
+public interface TaskStatusEventRepository extends JpaRepository<TaskStatusEvent, Long> {
+
+    List<TaskStatusEvent> findByTaskIdOrderByOccurredAtAscIdAsc(Long taskId);
+}
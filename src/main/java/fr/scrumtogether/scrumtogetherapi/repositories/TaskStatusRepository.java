@@ -0,0 +1,15 @@
+package fr.scrumtogether.scrumtogetherapi.repositories;
+
+import fr.scrumtogether.scrumtogetherapi.entities.TaskStatus;
+import fr.scrumtogether.scrumtogetherapi.repositories.projections.TaskStatusView;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.List;
+
+public interface TaskStatusRepository extends JpaRepository<TaskStatus, Long> {
+
+    @Query("select new fr.scrumtogether.scrumtogetherapi.repositories.projections.TaskStatusView(" +
+            "s.id, s.code, s.name, s.closed) from TaskStatus s order by s.id")
+    List<TaskStatusView> findViews();
+}
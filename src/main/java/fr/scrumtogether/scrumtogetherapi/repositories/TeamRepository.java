@@ -1,14 +1,73 @@
 package fr.scrumtogether.scrumtogetherapi.repositories;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
-
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import fr.scrumtogether.scrumtogetherapi.entities.Team;
+import fr.scrumtogether.scrumtogetherapi.repositories.projections.TeamMemberView;
+import fr.scrumtogether.scrumtogetherapi.repositories.projections.TeamProjectView;
+import fr.scrumtogether.scrumtogetherapi.repositories.projections.TeamSummary;
 
 public interface TeamRepository extends JpaRepository<Team, Long> {
 
     
     Optional<Team> findByName(String name);
+
+    /**
+     * Finds a team with its members and their users in one query; projects are batch-loaded on access.
+     */
+    @Override
+    @EntityGraph(attributePaths = {"teamUsers", "teamUsers.user"})
+    Optional<Team> findById(Long id);
+
+    /**
+     * Reads one page of teams, selecting only their scalar columns.
+     */
+    @Query(value = "select new fr.scrumtogether.scrumtogetherapi.repositories.projections.TeamSummary(" +
+            "t.id, t.name, t.description, t.email) from Team t",
+            countQuery = "select count(t) from Team t")
+    Page<TeamSummary> findSummaries(Pageable pageable);
+
+    /**
+     * Reads the first page of teams in (name, id) order, without counting the table.
+     */
+    @Query("select new fr.scrumtogether.scrumtogetherapi.repositories.projections.TeamSummary(" +
+            "t.id, t.name, t.description, t.email) from Team t order by t.name, t.id")
+    Slice<TeamSummary> findFirstKeysetPage(Pageable pageable);
+
+    /**
+     * Reads the teams following the given (name, id) position, without counting the table.
+     */
+    @Query("select new fr.scrumtogether.scrumtogetherapi.repositories.projections.TeamSummary(" +
+            "t.id, t.name, t.description, t.email) from Team t " +
+            "where t.name > :name or (t.name = :name and t.id > :id) " +
+            "order by t.name, t.id")
+    Slice<TeamSummary> findKeysetPageAfter(@Param("name") String name, @Param("id") Long id, Pageable pageable);
+
+    /**
+     * Reads, in one query, the members of all the given teams with their usernames.
+     */
+    @Query("select new fr.scrumtogether.scrumtogetherapi.repositories.projections.TeamMemberView(" +
+            "tu.team.id, u.id, u.username, tu.teamRole) " +
+            "from TeamUser tu join tu.user u " +
+            "where tu.team.id in :teamIds order by u.username")
+    List<TeamMemberView> findMembersOfTeams(@Param("teamIds") Collection<Long> teamIds);
+
+    /**
+     * Reads, in one query, the projects of all the given teams.
+     */
+    @Query("select new fr.scrumtogether.scrumtogetherapi.repositories.projections.TeamProjectView(" +
+            "p.team.id, p.id, p.name) " +
+            "from Project p " +
+            "where p.team.id in :teamIds order by p.name")
+    List<TeamProjectView> findProjectsOfTeams(@Param("teamIds") Collection<Long> teamIds);
 }
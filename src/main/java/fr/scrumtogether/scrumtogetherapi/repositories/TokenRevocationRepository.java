@@ -0,0 +1,20 @@
+package fr.scrumtogether.scrumtogetherapi.repositories;
+
+import fr.scrumtogether.scrumtogetherapi.entities.TokenRevocation;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface TokenRevocationRepository extends JpaRepository<TokenRevocation, Long> {
+    List<TokenRevocation> findByRevokedAtAfter(LocalDateTime threshold);
+
+    @Transactional
+    @Modifying
+    @Query("delete from TokenRevocation t where t.revokedAt <= :threshold")
+    int deleteExpired(@Param("threshold") LocalDateTime threshold);
+}
@@ -1,11 +1,20 @@
 package fr.scrumtogether.scrumtogetherapi.repositories;
 
+import fr.scrumtogether.scrumtogetherapi.dtos.UserSearchResult;
 import fr.scrumtogether.scrumtogetherapi.entities.User;
 import fr.scrumtogether.scrumtogetherapi.entities.enums.Role;
+import fr.scrumtogether.scrumtogetherapi.repositories.projections.UserSummary;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -15,7 +24,7 @@ import java.util.Optional;
  * This interface includes custom methods for interacting with the database,
  * specifically tailored to the {@code User} entity.
  */
-public interface UserRepository extends JpaRepository<User, Long> {
+public interface UserRepository extends JpaRepository<User, Long>, UserRepositoryCustom {
     Optional<User> findByIdAndDeletedAtIsNull(Long id);
 
     /**
@@ -25,11 +34,100 @@ public interface UserRepository extends JpaRepository<User, Long> {
      * @return an {@code Optional} containing the user if found, or empty if no user exists with the given username.
      */
     Optional<User> findByUsernameAndDeletedAtIsNull(String username);
-    boolean existsByEmailIgnoreCaseAndDeletedAtIsNull(String username);
-    boolean existsByUsernameIgnoreCaseAndDeletedAtIsNull(String email);
+
+    /**
+     * Checks whether a live user holds the given normalized email.
+     *
+     * @param emailKey the email, normalized with {@link User#normalizeKey(String)}
+     * @return true if the email is taken
+     */
+    boolean existsByEmailKey(String emailKey);
+
+    /**
+     * Checks whether a live user holds the given normalized username.
+     *
+     * @param usernameKey the username, normalized with {@link User#normalizeKey(String)}
+     * @return true if the username is taken
+     */
+    boolean existsByUsernameKey(String usernameKey);
 
     long countByRoleAndDeletedAtIsNull(Role role);
 
+    long countByDeletedAtIsNull();
+
     // Query to find deleted users
     Page<User> findByDeletedAtIsNotNull(Pageable pageable);
-}
\ No newline at end of file
+
+    /**
+     * Reads one page of user list rows, selecting only the columns of {@link UserSummary}.
+     */
+    @Query(value = "select new fr.scrumtogether.scrumtogetherapi.repositories.projections.UserSummary(" +
+            "u.id, u.lastName, u.firstName, u.email, u.username, u.role, u.verifiedEmail, u.version, u.createdAt, u.updatedAt) " +
+            "from User u",
+            countQuery = "select count(u) from User u")
+    Page<UserSummary> findSummaries(Pageable pageable);
+
+    /**
+     * Reads the first page of user list rows in (username, id) order, without counting the table.
+     */
+    @Query("select new fr.scrumtogether.scrumtogetherapi.repositories.projections.UserSummary(" +
+            "u.id, u.lastName, u.firstName, u.email, u.username, u.role, u.verifiedEmail, u.version, u.createdAt, u.updatedAt) " +
+            "from User u order by u.username, u.id")
+    Slice<UserSummary> findFirstKeysetPage(Pageable pageable);
+
+    /**
+     * Reads the user list rows following the given (username, id) position, without counting the table.
+     */
+    @Query("select new fr.scrumtogether.scrumtogetherapi.repositories.projections.UserSummary(" +
+            "u.id, u.lastName, u.firstName, u.email, u.username, u.role, u.verifiedEmail, u.version, u.createdAt, u.updatedAt) " +
+            "from User u " +
+            "where u.username > :username or (u.username = :username and u.id > :id) " +
+            "order by u.username, u.id")
+    Slice<UserSummary> findKeysetPageAfter(@Param("username") String username, @Param("id") Long id, Pageable pageable);
+
+    /**
+     * Finds, in one query, which of the given normalized usernames and emails are held by live users.
+     *
+     * @return pairs of (username key, email key) of the matching users
+     */
+    @Query("select u.usernameKey, u.emailKey from User u " +
+            "where u.usernameKey in :usernames or u.emailKey in :emails")
+    List<Object[]> findUsernamesAndEmailsIn(@Param("usernames") Collection<String> usernames,
+                                            @Param("emails") Collection<String> emails);
+
+    /**
+     * Resolves, in one query, the live users holding the given normalized usernames.
+     *
+     * @return pairs of (id, username key) of the matching users
+     */
+    @Query("select u.id, u.usernameKey from User u " +
+            "where u.deletedAt is null and u.usernameKey in :usernames")
+    List<Object[]> findIdsByUsernameKeyIn(@Param("usernames") Collection<String> usernames);
+
+    /**
+     * Reads the searchable fields of live users with an id greater than the given one, in id order.
+     * Used to rebuild the search index page by page.
+     */
+    @Query("select new fr.scrumtogether.scrumtogetherapi.dtos.UserSearchResult(u.id, u.username, u.email, u.firstName, u.lastName) " +
+            "from User u where u.deletedAt is null and u.id > :afterId order by u.id")
+    List<UserSearchResult> findSearchEntriesAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    /**
+     * Fills the normalized keys of live users written before they existed.
+     *
+     * @return the number of users updated
+     */
+    @Transactional
+    @Modifying
+    @Query("update User u set u.usernameKey = lower(trim(u.username)), u.emailKey = lower(trim(u.email)) " +
+            "where u.deletedAt is null and (u.usernameKey is null or u.emailKey is null)")
+    int backfillKeys();
+
+    /**
+     * Reads the normalized (username, email) keys of live users with an id greater than the given one,
+     * in id order, as {@code [id, usernameKey, emailKey]}. Used to rebuild the availability filters page by page.
+     */
+    @Query("select u.id, u.usernameKey, u.emailKey from User u " +
+            "where u.deletedAt is null and u.id > :afterId order by u.id")
+    List<Object[]> findKeysAfter(@Param("afterId") Long afterId, Pageable pageable);
+}
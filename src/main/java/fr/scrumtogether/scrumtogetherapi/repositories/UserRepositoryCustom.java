@@ -0,0 +1,24 @@
+package fr.scrumtogether.scrumtogetherapi.repositories;
+
+import fr.scrumtogether.scrumtogetherapi.entities.User;
+
+import java.util.Map;
+
+/**
+ * Hand-written queries of {@link UserRepository}.
+ */
+public interface UserRepositoryCustom {
+    /**
+     * Writes the given changes with a single {@code UPDATE ... WHERE id = ? AND version = ?}
+     * statement touching only the changed columns, and bumps the version. The normalized
+     * username and email keys follow their source columns.
+     * <p>
+     * On success, the user is detached from the persistence context and updated in memory,
+     * so it reflects the new row without being read again.
+     *
+     * @param user    the user as read by the caller; its version is the expected one
+     * @param changes the new values, keyed by property name
+     * @return false if the row was modified or removed since it was read
+     */
+    boolean updateIfVersionMatches(User user, Map<String, Object> changes);
+}
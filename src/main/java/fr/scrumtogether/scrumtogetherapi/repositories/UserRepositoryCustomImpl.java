@@ -0,0 +1,61 @@
+package fr.scrumtogether.scrumtogetherapi.repositories;
+
+import fr.scrumtogether.scrumtogetherapi.entities.User;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaUpdate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.beans.BeanWrapperImpl;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+public class UserRepositoryCustomImpl implements UserRepositoryCustom {
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public boolean updateIfVersionMatches(User user, Map<String, Object> changes) {
+        LocalDateTime now = LocalDateTime.now();
+
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaUpdate<User> update = cb.createCriteriaUpdate(User.class);
+        Root<User> root = update.from(User.class);
+        Map<String, Object> columns = withNormalizedKeys(changes);
+        columns.forEach(update::set);
+        update.set(root.<Long>get("version"), cb.sum(root.<Long>get("version"), 1L));
+        update.set(root.<LocalDateTime>get("updatedAt"), now);
+        update.where(
+                cb.equal(root.get("id"), user.getId()),
+                cb.equal(root.get("version"), user.getVersion())
+        );
+
+        if (entityManager.createQuery(update).executeUpdate() == 0) {
+            return false;
+        }
+
+        // The bulk update bypassed the persistence context: keep the managed copy out of
+        // dirty checking and bring it in line with the row.
+        entityManager.detach(user);
+        new BeanWrapperImpl(user).setPropertyValues(columns);
+        user.setVersion(user.getVersion() + 1);
+        user.setUpdatedAt(now);
+        return true;
+    }
+
+    /**
+     * Entity callbacks do not run for bulk updates: derive the normalized keys here.
+     */
+    private Map<String, Object> withNormalizedKeys(Map<String, Object> changes) {
+        Map<String, Object> columns = new LinkedHashMap<>(changes);
+        if (changes.containsKey("username")) {
+            columns.put("usernameKey", User.normalizeKey((String) changes.get("username")));
+        }
+        if (changes.containsKey("email")) {
+            columns.put("emailKey", User.normalizeKey((String) changes.get("email")));
+        }
+        return columns;
+    }
+}
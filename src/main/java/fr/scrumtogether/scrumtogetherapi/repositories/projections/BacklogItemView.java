@@ -0,0 +1,30 @@
+package fr.scrumtogether.scrumtogetherapi.repositories.projections;
+
+import fr.scrumtogether.scrumtogetherapi.entities.Item;
+import fr.scrumtogether.scrumtogetherapi.entities.Rollup;
+import lombok.Value;
+
+/**
+ * Projection of the columns of an {@link Item} needed to draw the backlog tree.
+ */
+@Value
+public class BacklogItemView {
+    Long id;
+    String type;
+    String name;
+    String code;
+    Long parentId;
+    Long sprintId;
+    Rollup rollup;
+
+    public BacklogItemView(Long id, String type, String name, String code, Long parentId, Long sprintId,
+                           long estimation, long durationSeconds, int openTasks) {
+        this.id = id;
+        this.type = type;
+        this.name = name;
+        this.code = code;
+        this.parentId = parentId;
+        this.sprintId = sprintId;
+        this.rollup = new Rollup(estimation, durationSeconds, openTasks);
+    }
+}
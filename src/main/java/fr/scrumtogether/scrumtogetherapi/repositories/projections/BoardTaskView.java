@@ -0,0 +1,25 @@
+package fr.scrumtogether.scrumtogetherapi.repositories.projections;
+
+import fr.scrumtogether.scrumtogetherapi.entities.BugReport;
+import fr.scrumtogether.scrumtogetherapi.entities.Task;
+import fr.scrumtogether.scrumtogetherapi.entities.enums.SeverityLevel;
+import lombok.Value;
+
+import java.time.Duration;
+
+/**
+ * Projection of the columns of a {@link Task} and its user story shown on a sprint board.
+ * The severity is only set for a {@link BugReport}.
+ */
+@Value
+public class BoardTaskView {
+    Long id;
+    String name;
+    Integer estimation;
+    Duration duration;
+    Long statusId;
+    Long userStoryId;
+    String userStoryCode;
+    String userStoryName;
+    SeverityLevel severityLevel;
+}
@@ -0,0 +1,18 @@
+package fr.scrumtogether.scrumtogetherapi.repositories.projections;
+
+import fr.scrumtogether.scrumtogetherapi.entities.Rollup;
+import lombok.Value;
+
+/**
+ * Projection of the stored {@link Rollup} of an item or a sprint.
+ */
+@Value
+public class RollupView {
+    Long id;
+    Rollup rollup;
+
+    public RollupView(Long id, long estimation, long durationSeconds, int openTasks) {
+        this.id = id;
+        this.rollup = new Rollup(estimation, durationSeconds, openTasks);
+    }
+}
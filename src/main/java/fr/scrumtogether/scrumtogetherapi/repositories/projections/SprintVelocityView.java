@@ -0,0 +1,19 @@
+package fr.scrumtogether.scrumtogetherapi.repositories.projections;
+
+import fr.scrumtogether.scrumtogetherapi.entities.Sprint;
+import lombok.Value;
+
+import java.time.LocalDate;
+
+/**
+ * Projection of the columns of a closed {@link Sprint} needed for velocity reports.
+ */
+@Value
+public class SprintVelocityView {
+    Long id;
+    Integer number;
+    String name;
+    LocalDate startDate;
+    LocalDate endDate;
+    Float velocity;
+}
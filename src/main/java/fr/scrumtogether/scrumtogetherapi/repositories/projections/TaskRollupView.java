@@ -0,0 +1,25 @@
+package fr.scrumtogether.scrumtogetherapi.repositories.projections;
+
+import fr.scrumtogether.scrumtogetherapi.entities.Rollup;
+import fr.scrumtogether.scrumtogetherapi.entities.Task;
+import lombok.Value;
+
+import java.time.Duration;
+
+/**
+ * Projection of the columns of a {@link Task} contributing to the rollups.
+ */
+@Value
+public class TaskRollupView {
+    Long userStoryId;
+    Rollup rollup;
+
+    public TaskRollupView(Long userStoryId, Integer estimation, Duration duration, boolean closed) {
+        this.userStoryId = userStoryId;
+        this.rollup = new Rollup(
+                estimation != null ? estimation : 0,
+                duration != null ? duration.toSeconds() : 0,
+                closed ? 0 : 1
+        );
+    }
+}
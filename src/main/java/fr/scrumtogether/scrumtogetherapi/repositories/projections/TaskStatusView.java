@@ -0,0 +1,15 @@
+package fr.scrumtogether.scrumtogetherapi.repositories.projections;
+
+import fr.scrumtogether.scrumtogetherapi.entities.TaskStatus;
+import lombok.Value;
+
+/**
+ * Immutable copy of a {@link TaskStatus}.
+ */
+@Value
+public class TaskStatusView {
+    Long id;
+    String code;
+    String name;
+    boolean closed;
+}
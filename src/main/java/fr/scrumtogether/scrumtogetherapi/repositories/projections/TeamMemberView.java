@@ -0,0 +1,16 @@
+package fr.scrumtogether.scrumtogetherapi.repositories.projections;
+
+import fr.scrumtogether.scrumtogetherapi.entities.TeamUser;
+import fr.scrumtogether.scrumtogetherapi.entities.enums.TeamRole;
+import lombok.Value;
+
+/**
+ * Projection of a {@link TeamUser} with the username of the member.
+ */
+@Value
+public class TeamMemberView {
+    Long teamId;
+    Long userId;
+    String username;
+    TeamRole teamRole;
+}
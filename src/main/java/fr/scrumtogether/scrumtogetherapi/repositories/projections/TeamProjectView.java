@@ -0,0 +1,14 @@
+package fr.scrumtogether.scrumtogetherapi.repositories.projections;
+
+import fr.scrumtogether.scrumtogetherapi.entities.Project;
+import lombok.Value;
+
+/**
+ * Projection of the identity of a {@link Project} owned by a team.
+ */
+@Value
+public class TeamProjectView {
+    Long teamId;
+    Long id;
+    String name;
+}
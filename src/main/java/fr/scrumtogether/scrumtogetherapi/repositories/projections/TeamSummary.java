@@ -0,0 +1,15 @@
+package fr.scrumtogether.scrumtogetherapi.repositories.projections;
+
+import fr.scrumtogether.scrumtogetherapi.entities.Team;
+import lombok.Value;
+
+/**
+ * Projection of the scalar columns of a {@link Team}.
+ */
+@Value
+public class TeamSummary {
+    Long id;
+    String name;
+    String description;
+    String email;
+}
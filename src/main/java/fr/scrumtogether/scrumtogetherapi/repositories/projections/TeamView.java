@@ -0,0 +1,16 @@
+package fr.scrumtogether.scrumtogetherapi.repositories.projections;
+
+import lombok.Value;
+
+import java.util.List;
+
+/**
+ * A team list row: the team columns with its members and projects, each read by one query
+ * for the whole page.
+ */
+@Value
+public class TeamView {
+    TeamSummary team;
+    List<TeamMemberView> members;
+    List<TeamProjectView> projects;
+}
@@ -0,0 +1,25 @@
+package fr.scrumtogether.scrumtogetherapi.repositories.projections;
+
+import fr.scrumtogether.scrumtogetherapi.entities.User;
+import fr.scrumtogether.scrumtogetherapi.entities.enums.Role;
+import lombok.Value;
+
+import java.time.LocalDateTime;
+
+/**
+ * Projection of {@link User} holding the columns of a user list row, without the password hash
+ * and the associations. Read through a constructor expression, so it never enters the persistence context.
+ */
+@Value
+public class UserSummary {
+    Long id;
+    String lastName;
+    String firstName;
+    String email;
+    String username;
+    Role role;
+    Boolean verifiedEmail;
+    Long version;
+    LocalDateTime createdAt;
+    LocalDateTime updatedAt;
+}
@@ -0,0 +1,62 @@
+package fr.scrumtogether.scrumtogetherapi.security;
+
+import fr.scrumtogether.scrumtogetherapi.entities.User;
+import fr.scrumtogether.scrumtogetherapi.entities.enums.Role;
+import lombok.Builder;
+import lombok.Value;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Lightweight principal rebuilt from the claims of a verified JWT.
+ * <p>
+ * It carries only what authorization needs (id, username, role and the entity version the
+ * token was issued for), so authenticated requests do not have to load the {@link User}
+ * entity. The version is used to reject tokens issued before a security-sensitive change.
+ */
+@Value
+@Builder
+public class AuthenticatedUser implements UserDetails {
+    Long id;
+    String username;
+    Role role;
+    Long version;
+
+    /**
+     * Builds a principal from a loaded user entity.
+     *
+     * @param user the user entity
+     * @return the principal describing the given user
+     */
+    public static AuthenticatedUser from(User user) {
+        return AuthenticatedUser.builder()
+                .id(user.getId())
+                .username(user.getUsername())
+                .role(user.getRole())
+                .version(user.getVersion())
+                .build();
+    }
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return List.of(new SimpleGrantedAuthority(role.getAuthority()));
+    }
+
+    /**
+     * Credentials are never carried by a token-based principal.
+     *
+     * @return always null
+     */
+    @Override
+    public String getPassword() {
+        return null;
+    }
+
+    public boolean isAdmin() {
+        return role.isAdmin();
+    }
+}
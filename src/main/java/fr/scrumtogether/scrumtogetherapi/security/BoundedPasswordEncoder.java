@@ -0,0 +1,151 @@
+package fr.scrumtogether.scrumtogetherapi.security;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import fr.scrumtogether.scrumtogetherapi.config.PasswordHashingConfig;
+import fr.scrumtogether.scrumtogetherapi.exceptions.ServiceUnavailableException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+
+/**
+ * {@link PasswordEncoder} running the (deliberately slow) hashing of its delegate on a dedicated,
+ * bounded pool instead of the request thread pool.
+ * <p>
+ * The pool is sized to the number of cores and fed by a bounded queue. When the queue is full,
+ * the call fails fast with a {@link ServiceUnavailableException} carrying a retry delay, so a
+ * burst of sign-ins or registrations cannot starve the other endpoints.
+ * <p>
+ * Queue depth, hashing latency and rejections are published as metrics.
+ */
+@Slf4j
+public class BoundedPasswordEncoder implements PasswordEncoder, DisposableBean {
+    private static final String METRIC_PREFIX = "security.password.hashing";
+
+    private final PasswordEncoder delegate;
+    private final PasswordHashingConfig config;
+    private final ThreadPoolExecutor executor;
+    private final Timer encodeTimer;
+    private final Timer matchesTimer;
+    private final Counter rejectedCounter;
+
+    public BoundedPasswordEncoder(PasswordEncoder delegate, PasswordHashingConfig config, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.config = config;
+        this.executor = new ThreadPoolExecutor(
+                config.getPoolSize(),
+                config.getPoolSize(),
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(config.getQueueCapacity()),
+                new ThreadFactoryBuilder().setNameFormat("password-hashing-%d").setDaemon(true).build(),
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+
+        Gauge.builder(METRIC_PREFIX + ".queue.size", executor, e -> e.getQueue().size())
+                .description("Password hashing tasks waiting for a thread")
+                .register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("Password hashing tasks being executed")
+                .register(meterRegistry);
+        this.encodeTimer = Timer.builder(METRIC_PREFIX)
+                .tag("operation", "encode")
+                .register(meterRegistry);
+        this.matchesTimer = Timer.builder(METRIC_PREFIX)
+                .tag("operation", "matches")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder(METRIC_PREFIX + ".rejected")
+                .description("Password hashing requests rejected because the queue was full")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return submit(() -> encodeTimer.record(() -> delegate.encode(rawPassword)));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return submit(() -> matchesTimer.record(() -> delegate.matches(rawPassword, encodedPassword)));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdown();
+    }
+
+    /**
+     * Encodes several passwords at once for bulk operations.
+     * <p>
+     * Passwords are hashed in waves no larger than the pool, so a bulk caller never holds more
+     * than its share of the queue. A password that does not fit in the queue is hashed on the
+     * calling thread instead of being rejected: bulk callers slow down rather than fail.
+     *
+     * @param rawPasswords the passwords to encode
+     * @return the encoded passwords, in the same order
+     */
+    public List<String> encodeAll(List<? extends CharSequence> rawPasswords) {
+        List<String> encoded = new ArrayList<>(rawPasswords.size());
+        for (int start = 0; start < rawPasswords.size(); start += config.getPoolSize()) {
+            List<? extends CharSequence> wave = rawPasswords.subList(start,
+                    Math.min(start + config.getPoolSize(), rawPasswords.size()));
+
+            List<Future<String>> futures = new ArrayList<>(wave.size());
+            for (CharSequence rawPassword : wave) {
+                Callable<String> task = () -> encodeTimer.record(() -> delegate.encode(rawPassword));
+                try {
+                    futures.add(executor.submit(task));
+                } catch (RejectedExecutionException e) {
+                    futures.add(CompletableFuture.completedFuture(encodeTimer.record(() -> delegate.encode(rawPassword))));
+                }
+            }
+            for (Future<String> future : futures) {
+                encoded.add(await(future));
+            }
+        }
+        return encoded;
+    }
+
+    private <T> T submit(Callable<T> task) {
+        Future<T> future;
+        try {
+            future = executor.submit(task);
+        } catch (RejectedExecutionException e) {
+            rejectedCounter.increment();
+            log.warn("Password hashing queue is full, rejecting request");
+            throw new ServiceUnavailableException("Too many concurrent authentication requests. Please try again later.",
+                    config.getRetryAfterSeconds(), e);
+        }
+        return await(future);
+    }
+
+    private <T> T await(Future<T> future) {
+        try {
+            return future.get(config.getTimeoutSeconds(), TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new ServiceUnavailableException("Password hashing was interrupted", config.getRetryAfterSeconds(), e);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            throw new ServiceUnavailableException("Password hashing timed out", config.getRetryAfterSeconds(), e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Password hashing failed", e.getCause());
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package fr.scrumtogether.scrumtogetherapi.security;
 
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -9,8 +10,6 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
@@ -25,8 +24,9 @@ import java.io.IOException;
  * <p>
  * Core responsibilities:
  * - Extract the JWT token from the Authorization header.
- * - Validate the token's authenticity and expiration.
- * - Retrieve user details associated with the token.
+ * - Validate the token's authenticity and expiration, once, and reuse the verified claims.
+ * - Rebuild the principal from the token claims, without loading the user from the database.
+ * - Reject tokens revoked by a security-sensitive change on the user.
  * - Populate the security context with authenticated user details if the token is valid.
  * - Delegate the request to the next filter in the filter chain after processing.
  * <p>
@@ -39,11 +39,11 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     private final HandlerExceptionResolver handlerExceptionResolver;
 
     private final JwtService jwtService;
-    private final UserDetailsService userDetailsService;
+    private final TokenRevocationRegistry tokenRevocationRegistry;
 
     /**
      * Processes the incoming HTTP request to filter and validate JWT-based authentication.
-     * Validates the token, retrieves user details if necessary, and sets the security context
+     * Validates the token, rebuilds the principal from its claims, and sets the security context
      * with an authentication token if the JWT token is valid.
      *
      * @param request the HTTP request being processed.
@@ -67,18 +67,21 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         try {
             final String jwt = authHeader.substring(7);
-            final String username = jwtService.extractUsername(jwt);
+            final Claims claims = jwtService.verifyToken(jwt);
+            final String username = claims.getSubject();
 
             Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
 
             if (username != null && authentication == null) {
-                UserDetails userDetails = this.userDetailsService.loadUserByUsername(username);
+                AuthenticatedUser principal = jwtService.extractPrincipal(claims);
 
-                if (jwtService.isTokenValid(jwt, userDetails)) {
+                if (principal != null
+                        && jwtService.isTokenValid(claims, principal)
+                        && !tokenRevocationRegistry.isRevoked(principal)) {
                     UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
-                            userDetails,
+                            principal,
                             null,
-                            userDetails.getAuthorities()
+                            principal.getAuthorities()
                     );
 
                     authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
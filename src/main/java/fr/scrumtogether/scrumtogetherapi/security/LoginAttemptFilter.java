@@ -1,65 +1,146 @@
 package fr.scrumtogether.scrumtogetherapi.security;
 
-import com.google.common.cache.CacheLoader;
-import com.google.common.cache.LoadingCache;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import fr.scrumtogether.scrumtogetherapi.config.LoginAttemptConfig;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
-import com.google.common.cache.CacheBuilder;
 
 import javax.annotation.Nonnull;
 import java.io.IOException;
-import java.util.concurrent.ExecutionException;
-import java.util.concurrent.TimeUnit;
+import java.util.Locale;
+import java.util.Set;
 
+/**
+ * Throttles failed sign-in attempts.
+ * <p>
+ * Failed attempts are counted over a sliding window, both per client address and per target
+ * username, so that neither a single client spraying usernames nor a distributed attack on one
+ * account can exceed the configured number of attempts. The client address is taken from
+ * {@code X-Forwarded-For} only when the direct peer is a configured trusted proxy.
+ * <p>
+ * Each attempt is reserved in the counters before it is forwarded and withdrawn again unless it
+ * fails authentication, so concurrent attempts cannot all slip past the limit.
+ * A successful sign-in resets the counter of the username. The counter of the client address
+ * is left to expire, otherwise a client could reset it with its own valid account.
+ */
 @Component
 @Slf4j
 public class LoginAttemptFilter extends OncePerRequestFilter {
-    private final LoadingCache<String, Integer> attemptsCache;
-
-    public LoginAttemptFilter() {
-        attemptsCache = CacheBuilder.newBuilder()
-                .expireAfterWrite(1, TimeUnit.MINUTES)
-                .build(new CacheLoader<>() {
-                    @Override
-                    @Nonnull
-                    public Integer load(@Nonnull String key) {
-                        return 0;
-                    }
-                });
+    private static final String FORWARDED_FOR_HEADER = "X-Forwarded-For";
+
+    private final LoginAttemptConfig config;
+    private final ObjectMapper objectMapper;
+    private final Set<String> trustedProxies;
+    private final SlidingWindowCounter failedAttempts;
+
+    public LoginAttemptFilter(LoginAttemptConfig config, ObjectMapper objectMapper) {
+        this.config = config;
+        this.objectMapper = objectMapper;
+        this.trustedProxies = Set.copyOf(config.getTrustedProxies());
+        this.failedAttempts = new SlidingWindowCounter(
+                config.getWindow(),
+                config.getWindowSlots(),
+                config.getMaxTrackedKeys(),
+                System.nanoTime()
+        );
     }
 
     @Override
-    protected void doFilterInternal(HttpServletRequest request,
+    protected void doFilterInternal(@Nonnull HttpServletRequest request,
                                     @Nonnull HttpServletResponse response,
                                     @Nonnull FilterChain filterChain)
             throws ServletException, IOException {
 
-        String ipAddress = request.getRemoteAddr();
-
-        if (isAuthenticationEndpoint(request) && isLoginAttempt(request)) {
-            try {
-                int attempts = attemptsCache.get(ipAddress);
-                if (attempts >= 5) {
-                    response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
-                    response.getWriter().write("Too many login attempts. Please try again later.");
-                    return;
-                }
-                attemptsCache.put(ipAddress, attempts + 1);
-            } catch (ExecutionException e) {
-                log.error("Error accessing login attempts cache", e);
-                response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
-                response.getWriter().write("Unable to process request. Please try again later.");
-                return;
-            }
+        if (!isAuthenticationEndpoint(request) || !isLoginAttempt(request)) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        byte[] body = request.getInputStream().readNBytes(config.getMaxBodySize() + 1);
+        if (body.length > config.getMaxBodySize()) {
+            response.setStatus(HttpStatus.PAYLOAD_TOO_LARGE.value());
+            response.getWriter().write("Sign-in request is too large.");
+            return;
+        }
+
+        String ipKey = "ip:" + resolveClientIp(request);
+        String username = extractUsername(body);
+        String usernameKey = username != null ? "user:" + username : null;
+
+        // Reserved before forwarding so concurrent attempts cannot all pass the same check
+        long now = System.nanoTime();
+        long ipAttempts = failedAttempts.increment(ipKey, now);
+        long usernameAttempts = usernameKey != null ? failedAttempts.increment(usernameKey, now) : 0;
+        if (ipAttempts > config.getMaxAttempts() || usernameAttempts > config.getMaxAttempts()) {
+            release(ipKey, usernameKey, now);
+            log.warn("Too many failed login attempts for {} / {}", ipKey, usernameKey);
+            response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+            response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(config.getWindow().toSeconds()));
+            response.getWriter().write("Too many login attempts. Please try again later.");
+            return;
+        }
+
+        try {
+            filterChain.doFilter(new CachedBodyHttpServletRequest(request, body), response);
+        } catch (IOException | ServletException | RuntimeException e) {
+            release(ipKey, usernameKey, now);
+            throw e;
+        }
+
+        if (response.getStatus() == HttpStatus.UNAUTHORIZED.value()) {
+            return;
+        }
+        if (HttpStatus.valueOf(response.getStatus()).is2xxSuccessful() && usernameKey != null) {
+            failedAttempts.release(ipKey, now);
+            failedAttempts.reset(usernameKey);
+        } else {
+            release(ipKey, usernameKey, now);
+        }
+    }
+
+    private void release(String ipKey, String usernameKey, long reservedAt) {
+        failedAttempts.release(ipKey, reservedAt);
+        if (usernameKey != null) {
+            failedAttempts.release(usernameKey, reservedAt);
+        }
+    }
+
+    private String extractUsername(byte[] body) {
+        try {
+            JsonNode username = objectMapper.readTree(body).path("username");
+            return username.isTextual() ? username.asText().trim().toLowerCase(Locale.ROOT) : null;
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Resolves the client address. When the direct peer is a trusted proxy, the
+     * {@code X-Forwarded-For} chain is walked from the right and the first untrusted hop is used.
+     */
+    private String resolveClientIp(HttpServletRequest request) {
+        String remoteAddr = request.getRemoteAddr();
+        String forwardedFor = request.getHeader(FORWARDED_FOR_HEADER);
+        if (!trustedProxies.contains(remoteAddr) || forwardedFor == null || forwardedFor.isBlank()) {
+            return remoteAddr;
         }
 
-        filterChain.doFilter(request, response);
+        String[] hops = forwardedFor.split(",");
+        for (int i = hops.length - 1; i >= 0; i--) {
+            String hop = hops[i].trim();
+            if (!hop.isEmpty() && !trustedProxies.contains(hop)) {
+                return hop;
+            }
+        }
+        return hops[0].trim();
     }
 
     private boolean isAuthenticationEndpoint(HttpServletRequest request) {
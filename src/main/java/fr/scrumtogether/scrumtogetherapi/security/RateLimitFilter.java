@@ -0,0 +1,114 @@
+package fr.scrumtogether.scrumtogetherapi.security;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import fr.scrumtogether.scrumtogetherapi.config.RateLimitConfig;
+import fr.scrumtogether.scrumtogetherapi.exceptions.RateLimitExceededException;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerExceptionResolver;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A filter enforcing the rate limit policies declared under {@code rate-limit.policies}.
+ * <p>
+ * It runs in the security filter chain right after JWT authentication, before any controller
+ * or transaction is involved. Each (policy, caller) pair gets its own lock-free {@link TokenBucket};
+ * the caller is the authenticated username, or the client address for anonymous requests.
+ * A throttled request is rejected immediately, it never waits for a token.
+ * <p>
+ * Every limited response carries {@code X-RateLimit-Limit}, {@code X-RateLimit-Remaining} and
+ * {@code X-RateLimit-Reset} headers, and rejected ones a {@code Retry-After} header.
+ */
+@Slf4j
+@Component
+public class RateLimitFilter extends OncePerRequestFilter {
+    public static final String LIMIT_HEADER = "X-RateLimit-Limit";
+    public static final String REMAINING_HEADER = "X-RateLimit-Remaining";
+    public static final String RESET_HEADER = "X-RateLimit-Reset";
+
+    private final HandlerExceptionResolver handlerExceptionResolver;
+    private final List<RateLimitConfig.Policy> policies;
+    private final Cache<String, TokenBucket> buckets;
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+    public RateLimitFilter(HandlerExceptionResolver handlerExceptionResolver, RateLimitConfig rateLimitConfig) {
+        this.handlerExceptionResolver = handlerExceptionResolver;
+        this.policies = List.copyOf(rateLimitConfig.getPolicies());
+        this.buckets = CacheBuilder.newBuilder()
+                .maximumSize(rateLimitConfig.getMaxBuckets())
+                .expireAfterAccess(rateLimitConfig.getExpirationMinutes(), TimeUnit.MINUTES)
+                .build();
+    }
+
+    @Override
+    protected void doFilterInternal(
+            @NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain
+    ) throws ServletException, IOException {
+        RateLimitConfig.Policy policy = findPolicy(request);
+        if (policy == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        String key = policy.getName() + ":" + callerKey(request);
+        TokenBucket bucket = buckets.asMap().computeIfAbsent(key,
+                k -> new TokenBucket(policy.getCapacity(), policy.getRefillPeriod()));
+        TokenBucket.Probe probe = bucket.tryConsume(System.nanoTime());
+
+        response.setHeader(LIMIT_HEADER, String.valueOf(probe.getLimit()));
+        response.setHeader(REMAINING_HEADER, String.valueOf(probe.getRemaining()));
+        response.setHeader(RESET_HEADER, String.valueOf(toSeconds(probe.getNanosToWaitForReset())));
+
+        if (!probe.isConsumed()) {
+            log.warn("Rate limit '{}' exceeded for {}", policy.getName(), key);
+            response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(toSeconds(probe.getNanosToWaitForRefill())));
+            handlerExceptionResolver.resolveException(request, response, null,
+                    new RateLimitExceededException("Too many requests. Please wait before trying again."));
+            return;
+        }
+
+        filterChain.doFilter(request, response);
+    }
+
+    private RateLimitConfig.Policy findPolicy(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        for (RateLimitConfig.Policy policy : policies) {
+            boolean methodMatches = policy.getMethod() == null || policy.getMethod().equalsIgnoreCase(request.getMethod());
+            if (methodMatches && pathMatcher.match(policy.getPath(), path)) {
+                return policy;
+            }
+        }
+        return null;
+    }
+
+    private String callerKey(HttpServletRequest request) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null
+                && authentication.isAuthenticated()
+                && !(authentication instanceof AnonymousAuthenticationToken)) {
+            return "user:" + authentication.getName();
+        }
+        return "ip:" + request.getRemoteAddr();
+    }
+
+    private long toSeconds(long nanos) {
+        return (nanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1);
+    }
+}
@@ -0,0 +1,144 @@
+package fr.scrumtogether.scrumtogetherapi.security;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Counts events per key over a sliding time window.
+ * <p>
+ * The window is split into slots. Each slot is a single atomic long packing the slot epoch
+ * (high 32 bits) and its count (low 32 bits), so an increment is one compare-and-set and a
+ * slot from a previous lap of the ring is recycled atomically, without locks and without losing
+ * concurrent increments. The count of a key is the sum of the slots still inside the window.
+ * <p>
+ * Keys idle for a whole window are evicted, and the number of tracked keys is bounded.
+ */
+public class SlidingWindowCounter {
+    private static final long COUNT_MASK = 0xFFFF_FFFFL;
+
+    private final int slots;
+    private final long slotNanos;
+    private final long originNanos;
+    private final Cache<String, Window> windows;
+
+    /**
+     * @param window      the length of the sliding window
+     * @param slots       the number of slots the window is split into; more slots means a smoother window
+     * @param maxKeys     the maximum number of keys tracked at once
+     * @param originNanos the time origin, as given by {@link System#nanoTime()}
+     */
+    public SlidingWindowCounter(Duration window, int slots, long maxKeys, long originNanos) {
+        if (slots <= 0 || window.isNegative() || window.isZero()) {
+            throw new IllegalArgumentException("Window and slots must be positive");
+        }
+        this.slots = slots;
+        this.slotNanos = Math.max(1, window.toNanos() / slots);
+        this.originNanos = originNanos;
+        this.windows = CacheBuilder.newBuilder()
+                .maximumSize(maxKeys)
+                .expireAfterAccess(window)
+                .build();
+    }
+
+    /**
+     * Records one event for the given key.
+     *
+     * @param key      the counted key
+     * @param nowNanos the current time, as given by {@link System#nanoTime()}
+     * @return the number of events in the window, including this one
+     */
+    public long increment(String key, long nowNanos) {
+        long epoch = epoch(nowNanos);
+        Window window = windows.asMap().computeIfAbsent(key, k -> new Window(slots));
+        window.add(epoch);
+        return window.sum(epoch);
+    }
+
+    /**
+     * Returns the number of events recorded for the given key in the window.
+     *
+     * @param key      the counted key
+     * @param nowNanos the current time, as given by {@link System#nanoTime()}
+     * @return the number of events in the window
+     */
+    public long count(String key, long nowNanos) {
+        Window window = windows.getIfPresent(key);
+        return window == null ? 0 : window.sum(epoch(nowNanos));
+    }
+
+    /**
+     * Withdraws one event previously recorded with {@link #increment(String, long)}. Nothing is withdrawn
+     * when the event has already left the window or the key was reset.
+     *
+     * @param key             the counted key
+     * @param recordedAtNanos the time passed to {@link #increment(String, long)} when the event was recorded
+     */
+    public void release(String key, long recordedAtNanos) {
+        Window window = windows.getIfPresent(key);
+        if (window != null) {
+            window.remove(epoch(recordedAtNanos));
+        }
+    }
+
+    /**
+     * Forgets every event recorded for the given key.
+     *
+     * @param key the counted key
+     */
+    public void reset(String key) {
+        windows.invalidate(key);
+    }
+
+    private long epoch(long nowNanos) {
+        return ((nowNanos - originNanos) / slotNanos) & COUNT_MASK;
+    }
+
+    private static final class Window {
+        private final AtomicLongArray cells;
+
+        private Window(int slots) {
+            this.cells = new AtomicLongArray(slots);
+        }
+
+        private void add(long epoch) {
+            int index = (int) (epoch % cells.length());
+            while (true) {
+                long current = cells.get(index);
+                long next = (current >>> 32) == epoch
+                        ? current + 1
+                        : (epoch << 32) | 1;
+                if (cells.compareAndSet(index, current, next)) {
+                    return;
+                }
+            }
+        }
+
+        private void remove(long epoch) {
+            int index = (int) (epoch % cells.length());
+            while (true) {
+                long current = cells.get(index);
+                if ((current >>> 32) != epoch || (current & COUNT_MASK) == 0) {
+                    return;
+                }
+                if (cells.compareAndSet(index, current, current - 1)) {
+                    return;
+                }
+            }
+        }
+
+        private long sum(long epoch) {
+            long total = 0;
+            for (int i = 0; i < cells.length(); i++) {
+                long cell = cells.get(i);
+                long age = epoch - (cell >>> 32);
+                if (age >= 0 && age < cells.length()) {
+                    total += cell & COUNT_MASK;
+                }
+            }
+            return total;
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package fr.scrumtogether.scrumtogetherapi.security;
+
+import lombok.Value;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free token bucket.
+ * <p>
+ * The bucket is implemented as a generic cell rate algorithm: instead of a token count, it stores
+ * the theoretical arrival time of the next request, so consuming a token is a single
+ * compare-and-set and callers never block or wait for a refill.
+ */
+public class TokenBucket {
+    private final long capacity;
+    private final long emissionIntervalNanos;
+    private final long burstToleranceNanos;
+    private final AtomicLong theoreticalArrivalNanos = new AtomicLong(Long.MIN_VALUE);
+
+    /**
+     * @param capacity     the maximum number of requests allowed in a burst
+     * @param refillPeriod the time needed to refill an empty bucket
+     */
+    public TokenBucket(int capacity, Duration refillPeriod) {
+        if (capacity <= 0 || refillPeriod.isNegative() || refillPeriod.isZero()) {
+            throw new IllegalArgumentException("Capacity and refill period must be positive");
+        }
+        this.capacity = capacity;
+        this.emissionIntervalNanos = Math.max(1, refillPeriod.toNanos() / capacity);
+        this.burstToleranceNanos = emissionIntervalNanos * capacity;
+    }
+
+    /**
+     * Tries to consume one token.
+     *
+     * @param nowNanos the current time, as given by {@link System#nanoTime()}
+     * @return the outcome of the attempt, including what the caller needs to build rate limit headers
+     */
+    public Probe tryConsume(long nowNanos) {
+        while (true) {
+            long stored = theoreticalArrivalNanos.get();
+            long arrival = Math.max(stored, nowNanos);
+            long next = arrival + emissionIntervalNanos;
+            long usage = next - nowNanos;
+
+            if (usage > burstToleranceNanos) {
+                return new Probe(false, capacity, 0, usage - burstToleranceNanos, arrival - nowNanos);
+            }
+            if (theoreticalArrivalNanos.compareAndSet(stored, next)) {
+                return new Probe(true, capacity, (burstToleranceNanos - usage) / emissionIntervalNanos, 0, usage);
+            }
+        }
+    }
+
+    /**
+     * Outcome of a consumption attempt.
+     */
+    @Value
+    public static class Probe {
+        boolean consumed;
+        long limit;
+        long remaining;
+        long nanosToWaitForRefill;
+        long nanosToWaitForReset;
+    }
+}
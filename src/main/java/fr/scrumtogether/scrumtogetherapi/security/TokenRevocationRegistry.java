@@ -0,0 +1,123 @@
+package fr.scrumtogether.scrumtogetherapi.security;
+
+import com.google.common.hash.BloomFilter;
+import com.google.common.hash.Funnels;
+import fr.scrumtogether.scrumtogetherapi.entities.TokenRevocation;
+import fr.scrumtogether.scrumtogetherapi.entities.User;
+import fr.scrumtogether.scrumtogetherapi.repositories.TokenRevocationRepository;
+import fr.scrumtogether.scrumtogetherapi.utils.TransactionUtils;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps track of tokens that must no longer be accepted even though their signature is valid.
+ * <p>
+ * Tokens carry the version of the user entity they were issued for. When a security-sensitive
+ * change happens (deletion, role change), every token issued for that version or an older one
+ * is considered stale.
+ * <p>
+ * Revocations are persisted in the {@code token_revocation} table and mirrored in memory:
+ * a Bloom filter over the revoked user ids answers the common "not revoked" case, and an exact
+ * map is only consulted on a possible hit. Neither path touches the database. The in-memory
+ * structures are rebuilt from the table at startup.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class TokenRevocationRegistry {
+    private static final double FALSE_POSITIVE_PROBABILITY = 0.01;
+
+    private final TokenRevocationRepository tokenRevocationRepository;
+
+    private final Map<Long, Long> revokedUpToVersion = new ConcurrentHashMap<>();
+
+    @Value("${security.jwt.expiration-time}")
+    private long jwtExpiration;
+
+    @Value("${security.jwt.revocation.expected-insertions:10000}")
+    private int expectedInsertions;
+
+    private volatile BloomFilter<Long> revokedUsers;
+
+    /**
+     * Drops revocations older than the token lifetime, which cannot match any live token,
+     * and loads the remaining ones in memory.
+     */
+    @PostConstruct
+    void rebuild() {
+        LocalDateTime threshold = LocalDateTime.now().minus(jwtExpiration, ChronoUnit.MILLIS);
+        int pruned = tokenRevocationRepository.deleteExpired(threshold);
+
+        List<TokenRevocation> revocations = tokenRevocationRepository.findByRevokedAtAfter(threshold);
+        revocations.forEach(revocation ->
+                revokedUpToVersion.merge(revocation.getUserId(), revocation.getRevokedVersion(), Math::max));
+        resizeBloomFilter();
+
+        log.info("Token revocation registry rebuilt with {} entries ({} expired entries pruned)",
+                revokedUpToVersion.size(), pruned);
+    }
+
+    /**
+     * Revokes every token issued for the current version of the given user, or an older one.
+     * The revocation is persisted with the current transaction and becomes visible in memory
+     * once it commits.
+     *
+     * @param user the user whose tokens must be revoked
+     */
+    public void revoke(User user) {
+        TokenRevocation revocation = tokenRevocationRepository.findById(user.getId())
+                .orElseGet(() -> TokenRevocation.builder()
+                        .userId(user.getId())
+                        .revokedVersion(user.getVersion())
+                        .build());
+        revocation.setRevokedVersion(Math.max(revocation.getRevokedVersion(), user.getVersion()));
+        revocation.setRevokedAt(LocalDateTime.now());
+        tokenRevocationRepository.save(revocation);
+
+        TransactionUtils.afterCommit(() -> register(user.getId(), revocation.getRevokedVersion()));
+        log.info("Revoked tokens of user {} up to version {}", user.getId(), revocation.getRevokedVersion());
+    }
+
+    /**
+     * Checks whether the token that produced the given principal has been revoked.
+     *
+     * @param principal the principal rebuilt from the token claims
+     * @return true if the token must be rejected
+     */
+    public boolean isRevoked(AuthenticatedUser principal) {
+        if (!revokedUsers.mightContain(principal.getId())) {
+            return false;
+        }
+
+        Long revokedVersion = revokedUpToVersion.get(principal.getId());
+        return revokedVersion != null && principal.getVersion() <= revokedVersion;
+    }
+
+    private void register(Long userId, Long revokedVersion) {
+        revokedUpToVersion.merge(userId, revokedVersion, Math::max);
+        revokedUsers.put(userId);
+
+        if (revokedUsers.approximateElementCount() > expectedInsertions) {
+            resizeBloomFilter();
+        }
+    }
+
+    private synchronized void resizeBloomFilter() {
+        while (expectedInsertions < revokedUpToVersion.size() * 2) {
+            expectedInsertions *= 2;
+        }
+
+        BloomFilter<Long> filter = BloomFilter.create(Funnels.longFunnel(), expectedInsertions, FALSE_POSITIVE_PROBABILITY);
+        revokedUpToVersion.keySet().forEach(filter::put);
+        revokedUsers = filter;
+    }
+}
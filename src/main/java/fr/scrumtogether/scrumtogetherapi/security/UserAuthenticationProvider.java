@@ -0,0 +1,92 @@
+package fr.scrumtogether.scrumtogetherapi.security;
+
+import fr.scrumtogether.scrumtogetherapi.entities.User;
+import fr.scrumtogether.scrumtogetherapi.repositories.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.authentication.AuthenticationProvider;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.DisabledException;
+import org.springframework.security.authentication.LockedException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+
+/**
+ * Authentication provider checking a username and password against the {@code User} table.
+ * <p>
+ * The user is loaded with a single query and handed back as the principal of the returned
+ * {@code Authentication}, so callers of the sign-in flow never need to load it a second time.
+ * When the username is unknown, a password comparison is still performed against a dummy hash
+ * so that response times do not reveal which usernames exist.
+ */
+@RequiredArgsConstructor
+@Component
+public class UserAuthenticationProvider implements AuthenticationProvider {
+    private static final String USER_NOT_FOUND_PASSWORD = "userNotFoundPassword";
+    private static final String BAD_CREDENTIALS_MESSAGE = "Bad credentials";
+
+    private final UserRepository userRepository;
+    private final PasswordEncoder passwordEncoder;
+
+    private volatile String userNotFoundEncodedPassword;
+
+    /**
+     * Authenticates a username and password pair.
+     *
+     * @param authentication the authentication request, holding the username and raw password
+     * @return an authenticated token whose principal is the loaded {@link User}
+     * @throws BadCredentialsException if the user does not exist or the password does not match
+     * @throws DisabledException if the user account is disabled
+     * @throws LockedException if the user account is locked
+     */
+    @Override
+    public Authentication authenticate(Authentication authentication) {
+        String username = authentication.getName();
+        String presentedPassword = authentication.getCredentials() != null
+                ? authentication.getCredentials().toString()
+                : null;
+
+        Optional<User> candidate = userRepository.findByUsernameAndDeletedAtIsNull(username);
+        if (candidate.isEmpty()) {
+            mitigateAgainstTimingAttack(presentedPassword);
+            throw new BadCredentialsException(BAD_CREDENTIALS_MESSAGE);
+        }
+
+        User user = candidate.get();
+        if (presentedPassword == null || !passwordEncoder.matches(presentedPassword, user.getPassword())) {
+            throw new BadCredentialsException(BAD_CREDENTIALS_MESSAGE);
+        }
+        if (!user.isAccountNonLocked()) {
+            throw new LockedException("User account is locked");
+        }
+        if (!user.isEnabled()) {
+            throw new DisabledException("User is disabled");
+        }
+
+        UsernamePasswordAuthenticationToken result = UsernamePasswordAuthenticationToken.authenticated(
+                user,
+                null,
+                user.getAuthorities()
+        );
+        result.setDetails(authentication.getDetails());
+        return result;
+    }
+
+    @Override
+    public boolean supports(Class<?> authentication) {
+        return UsernamePasswordAuthenticationToken.class.isAssignableFrom(authentication);
+    }
+
+    private void mitigateAgainstTimingAttack(String presentedPassword) {
+        if (presentedPassword == null) {
+            return;
+        }
+        if (userNotFoundEncodedPassword == null) {
+            userNotFoundEncodedPassword = passwordEncoder.encode(USER_NOT_FOUND_PASSWORD);
+        }
+        passwordEncoder.matches(presentedPassword, userNotFoundEncodedPassword);
+    }
+}
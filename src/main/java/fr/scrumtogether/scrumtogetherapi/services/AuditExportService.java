@@ -0,0 +1,125 @@
+package fr.scrumtogether.scrumtogetherapi.services;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import fr.scrumtogether.scrumtogetherapi.dtos.AuditFilter;
+import fr.scrumtogether.scrumtogetherapi.dtos.AuditLogDto;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Exports audit records as newline-delimited JSON.
+ * <p>
+ * Records are read with a forward-only, read-only JDBC cursor and written one by one as they
+ * arrive, bypassing the persistence context: memory use does not depend on the number of rows.
+ * The statement fetch size is set to {@code audit.export.fetch-size}, which makes the MariaDB driver
+ * stream the result set, reading that many rows at a time from the socket, with no connection URL
+ * option needed. The connection cannot run another statement until the export has read every row.
+ */
+@Slf4j
+@Service
+public class AuditExportService {
+    private static final byte[] LINE_SEPARATOR = {'\n'};
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final int fetchSize;
+
+    public AuditExportService(JdbcTemplate jdbcTemplate,
+                              ObjectMapper objectMapper,
+                              @Value("${audit.export.fetch-size:1000}") int fetchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+        this.fetchSize = fetchSize;
+    }
+
+    /**
+     * Writes every record matching the filter to the stream, oldest first, one JSON object per line.
+     *
+     * @param filter the criteria, already validated
+     * @param output the stream to write to; it is flushed but not closed
+     * @return the number of records written
+     * @throws IOException if the stream cannot be written
+     */
+    public long export(AuditFilter filter, OutputStream output) throws IOException {
+        StringBuilder sql = new StringBuilder("select id, entity_type, entity_id, action, entity_version, snapshot, " +
+                "old_value, new_value, created_by, created_at from audit_log where 1 = 1");
+        List<Object> args = new ArrayList<>();
+        if (filter.getEntityType() != null) {
+            sql.append(" and entity_type = ?");
+            args.add(filter.getEntityType());
+        }
+        if (filter.getEntityId() != null) {
+            sql.append(" and entity_id = ?");
+            args.add(filter.getEntityId());
+        }
+        if (filter.getActor() != null) {
+            sql.append(" and created_by = ?");
+            args.add(filter.getActor());
+        }
+        if (filter.getFrom() != null) {
+            sql.append(" and created_at >= ?");
+            args.add(Timestamp.valueOf(filter.getFrom()));
+        }
+        if (filter.getTo() != null) {
+            sql.append(" and created_at < ?");
+            args.add(Timestamp.valueOf(filter.getTo()));
+        }
+        sql.append(" order by created_at, id");
+
+        BufferedOutputStream buffered = new BufferedOutputStream(output, 64 * 1024);
+        long[] written = {0};
+        try {
+            jdbcTemplate.query(connection -> {
+                PreparedStatement statement = connection.prepareStatement(sql.toString(),
+                        ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                statement.setFetchSize(fetchSize);
+                for (int i = 0; i < args.size(); i++) {
+                    statement.setObject(i + 1, args.get(i));
+                }
+                return statement;
+            }, resultSet -> {
+                try {
+                    buffered.write(objectMapper.writeValueAsBytes(toDto(resultSet)));
+                    buffered.write(LINE_SEPARATOR);
+                    written[0]++;
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            log.warn("Audit export aborted after {} records: {}", written[0], e.getMessage());
+            throw e.getCause();
+        }
+        buffered.flush();
+
+        log.info("Exported {} audit records", written[0]);
+        return written[0];
+    }
+
+    private AuditLogDto toDto(ResultSet resultSet) throws SQLException {
+        return new AuditLogDto(
+                resultSet.getLong("id"),
+                resultSet.getString("entity_type"),
+                resultSet.getLong("entity_id"),
+                resultSet.getString("action"),
+                resultSet.getObject("entity_version", Long.class),
+                resultSet.getBoolean("snapshot"),
+                resultSet.getString("created_by"),
+                resultSet.getTimestamp("created_at").toLocalDateTime(),
+                resultSet.getString("old_value"),
+                resultSet.getString("new_value"));
+    }
+}
@@ -1,88 +1,246 @@
 package fr.scrumtogether.scrumtogetherapi.services;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import fr.scrumtogether.scrumtogetherapi.dtos.AuditFilter;
+import fr.scrumtogether.scrumtogetherapi.dtos.AuditLogDto;
+import fr.scrumtogether.scrumtogetherapi.dtos.EntityVersionDto;
 import fr.scrumtogether.scrumtogetherapi.entities.AuditLog;
+import fr.scrumtogether.scrumtogetherapi.exceptions.EntityNotFoundException;
+import fr.scrumtogether.scrumtogetherapi.exceptions.ValidationException;
 import fr.scrumtogether.scrumtogetherapi.repositories.AuditRepository;
+import fr.scrumtogether.scrumtogetherapi.utils.KeysetCursor;
 import fr.scrumtogether.scrumtogetherapi.utils.SecurityUtils;
-import lombok.RequiredArgsConstructor;
+import fr.scrumtogether.scrumtogetherapi.utils.TransactionUtils;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Records audit logs of entity changes, and rebuilds past versions of entities from them.
+ * <p>
+ * An update record holds only the changed fields: their previous values in {@code oldValue}
+ * and their new values in {@code newValue}. Every {@code snapshot-interval} versions, and on
+ * deletion and restoration, {@code newValue} holds the full audited state instead, so any version
+ * can be rebuilt by replaying a bounded number of diffs from the nearest snapshot.
+ * <p>
+ * Values are serialized and the author captured on the calling thread, then the record is handed
+ * to the {@link AuditWriter} once the current transaction has committed: a rolled back change is
+ * never audited, and auditing never opens a transaction of its own.
+ */
 @Service
-@RequiredArgsConstructor
 @Slf4j
 public class AuditService {
+    private static final TypeReference<LinkedHashMap<String, Object>> FIELDS_TYPE = new TypeReference<>() {
+    };
+
+    private final AuditWriter auditWriter;
     private final AuditRepository auditRepository;
     private final ObjectMapper objectMapper;
     private final SecurityUtils securityUtils;
+    private final int snapshotInterval;
 
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
-    public void logUpdate(String entityType, Long entityId, Object oldValue, Object newValue) {
-        try {
-            String oldValueJson = objectMapper.writeValueAsString(oldValue);
-            String newValueJson = objectMapper.writeValueAsString(newValue);
+    public AuditService(AuditWriter auditWriter,
+                        AuditRepository auditRepository,
+                        ObjectMapper objectMapper,
+                        SecurityUtils securityUtils,
+                        @Value("${audit.snapshot-interval:20}") int snapshotInterval) {
+        this.auditWriter = auditWriter;
+        this.auditRepository = auditRepository;
+        this.objectMapper = objectMapper;
+        this.securityUtils = securityUtils;
+        this.snapshotInterval = snapshotInterval;
+    }
+
+    /**
+     * Records an update as a diff, or as a snapshot when one is due for this version.
+     *
+     * @param version        the version of the entity after the update
+     * @param previousValues the previous values of the changed fields
+     * @param changes        the new values of the changed fields
+     * @param state          the full audited state after the update
+     */
+    public void logUpdate(String entityType, Long entityId, Long version,
+                          Map<String, Object> previousValues, Map<String, Object> changes, Map<String, Object> state) {
+        boolean snapshot = (version - 1) % snapshotInterval == 0;
+        log(entityType, entityId, "UPDATE", version, previousValues, snapshot ? state : changes, snapshot);
+    }
 
+    /**
+     * Records a deletion, always as a snapshot.
+     *
+     * @param version        the version of the entity after the deletion
+     * @param previousValues the previous values of the fields changed by the deletion
+     * @param state          the full audited state after the deletion
+     */
+    public void logDelete(String entityType, Long entityId, Long version,
+                          Map<String, Object> previousValues, Map<String, Object> state) {
+        log(entityType, entityId, "DELETE", version, previousValues, state, true);
+        log.info("Created delete audit log for {} with ID: {}", entityType, entityId);
+    }
+
+    /**
+     * Records a restoration, always as a snapshot.
+     *
+     * @param version        the version of the entity after the restoration
+     * @param previousValues the previous values of the fields changed by the restoration
+     * @param state          the full audited state after the restoration
+     */
+    public void logRestore(String entityType, Long entityId, Long version,
+                           Map<String, Object> previousValues, Map<String, Object> state) {
+        log(entityType, entityId, "RESTORE", version, previousValues, state, true);
+        log.info("Created restore audit log for {} with ID: {}", entityType, entityId);
+    }
+
+    private void log(String entityType, Long entityId, String action, Long version,
+                     Map<String, Object> oldValue, Map<String, Object> newValue, boolean snapshot) {
+        try {
             AuditLog auditLog = AuditLog.builder()
                     .entityType(entityType)
                     .entityId(entityId)
-                    .action("UPDATE")
-                    .oldValue(oldValueJson)
-                    .newValue(newValueJson)
+                    .action(action)
+                    .entityVersion(version)
+                    .snapshot(snapshot)
+                    .oldValue(objectMapper.writeValueAsString(oldValue))
+                    .newValue(objectMapper.writeValueAsString(newValue))
                     .createdBy(securityUtils.getCurrentUser().getUsername())
+                    .createdAt(LocalDateTime.now())
                     .build();
 
-            auditRepository.save(auditLog);
+            TransactionUtils.afterCommit(() -> auditWriter.enqueue(auditLog));
         } catch (Exception e) {
             // Log error but don't prevent the main transaction from completing
-            log.error("Failed to create audit log", e);
+            log.error("Failed to create {} audit log for {} with ID: {}", action, entityType, entityId, e);
         }
     }
 
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
-    public void logDelete(String entityType, Long entityId, Object deletedEntity) {
-        try {
-            String entityJson = objectMapper.writeValueAsString(deletedEntity);
+    /**
+     * Reads one page of audit records matching the filter, newest first, in keyset mode.
+     *
+     * @param filter        the criteria
+     * @param after         the cursor of the last record of the previous page, or blank for the first page
+     * @param pageSize      the requested page size
+     * @param includeValues whether to return the old and new values
+     * @return the page, telling whether a next one exists
+     */
+    @Transactional(readOnly = true)
+    public Slice<AuditLogDto> search(AuditFilter filter, String after, Integer pageSize, boolean includeValues) {
+        validateFilter(filter);
+        int validatedPageSize = Optional.ofNullable(pageSize)
+                .filter(size -> size > 0 && size <= 100)
+                .orElse(20);
 
-            AuditLog auditLog = AuditLog.builder()
-                    .entityType(entityType)
-                    .entityId(entityId)
-                    .action("DELETE")
-                    .oldValue(entityJson)
-                    .newValue(null) // No new value for deletion
-                    .createdBy(securityUtils.getCurrentUser().getUsername())
-                    .build();
+        if (after == null || after.isBlank()) {
+            return auditRepository.findPage(filter, null, null, validatedPageSize, includeValues);
+        }
 
-            auditRepository.save(auditLog);
-            log.info("Created delete audit log for {} with ID: {}", entityType, entityId);
+        KeysetCursor cursor = KeysetCursor.decode(after);
+        LocalDateTime afterCreatedAt;
+        try {
+            afterCreatedAt = LocalDateTime.parse(cursor.getSortValue());
+        } catch (DateTimeParseException e) {
+            throw new ValidationException("Invalid pagination cursor", e);
+        }
+        return auditRepository.findPage(filter, afterCreatedAt, cursor.getId(), validatedPageSize, includeValues);
+    }
 
-        } catch (Exception e) {
-            // Log error but don't prevent the main transaction from completing
-            log.error("Failed to create delete audit log for {} with ID: {}", entityType, entityId, e);
+    /**
+     * Builds the cursor pointing right after the given record.
+     *
+     * @param auditLog the last record of a page
+     * @return the cursor
+     */
+    public KeysetCursor cursorOf(AuditLogDto auditLog) {
+        return new KeysetCursor(auditLog.getCreatedAt().toString(), auditLog.getId());
+    }
+
+    /**
+     * Checks that the filter can be served by an index: an entity id needs its entity type.
+     */
+    public void validateFilter(AuditFilter filter) {
+        if (filter.getEntityId() != null && filter.getEntityType() == null) {
+            throw new ValidationException("Filtering by entity id requires an entity type");
+        }
+        if (filter.getFrom() != null && filter.getTo() != null && !filter.getFrom().isBefore(filter.getTo())) {
+            throw new ValidationException("The start of the date range must be before its end");
         }
     }
 
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
-    public void logRestore(String entityType, Long entityId, Object restoredEntity) {
-        try {
-            String entityJson = objectMapper.writeValueAsString(restoredEntity);
+    /**
+     * Rebuilds the audited state of an entity at a given version.
+     * <p>
+     * The diffs following the latest snapshot at or before the version are applied forward.
+     * Without such a snapshot, the previous values of the diffs preceding the earliest later
+     * snapshot are applied backward. Either way, the versions replayed must be contiguous.
+     *
+     * @param entityType the audited entity type
+     * @param entityId   the entity id
+     * @param version    the version to rebuild
+     * @return the state of the entity at that version
+     */
+    @Transactional(readOnly = true)
+    public EntityVersionDto reconstruct(String entityType, Long entityId, Long version) {
+        log.debug("Rebuilding {} {} at version {}", entityType, entityId, version);
 
-            AuditLog auditLog = AuditLog.builder()
-                    .entityType(entityType)
-                    .entityId(entityId)
-                    .action("RESTORE")
-                    .oldValue(null) // No old value for restore
-                    .newValue(entityJson)
-                    .createdBy(securityUtils.getCurrentUser().getUsername())
-                    .build();
+        List<AuditLog> before = auditRepository.findSnapshotsAtOrBefore(entityType, entityId, version, PageRequest.of(0, 1));
+        if (!before.isEmpty()) {
+            AuditLog snapshot = before.get(0);
+            Map<String, Object> state = readFields(snapshot.getNewValue());
+            long expected = snapshot.getEntityVersion() + 1;
+            for (AuditLog diff : auditRepository.findVersionsBetween(entityType, entityId, expected, version)) {
+                checkContiguous(diff, expected++);
+                state.putAll(readFields(diff.getNewValue()));
+            }
+            if (expected != version + 1) {
+                throw new EntityNotFoundException("No audit history for " + entityType + " " + entityId + " at version " + version);
+            }
+            return new EntityVersionDto(entityType, entityId, version, state);
+        }
 
-            auditRepository.save(auditLog);
-            log.info("Created restore audit log for {} with ID: {}", entityType, entityId);
+        List<AuditLog> after = auditRepository.findSnapshotsAfter(entityType, entityId, version, PageRequest.of(0, 1));
+        if (after.isEmpty()) {
+            throw new EntityNotFoundException("No audit history for " + entityType + " " + entityId + " at version " + version);
+        }
+        AuditLog snapshot = after.get(0);
+        Map<String, Object> state = readFields(snapshot.getNewValue());
+        List<AuditLog> diffs = auditRepository.findVersionsBetween(entityType, entityId, version + 1, snapshot.getEntityVersion());
+        long expected = snapshot.getEntityVersion();
+        for (int i = diffs.size() - 1; i >= 0; i--) {
+            checkContiguous(diffs.get(i), expected--);
+            state.putAll(readFields(diffs.get(i).getOldValue()));
+        }
+        if (expected != version) {
+            throw new EntityNotFoundException("No audit history for " + entityType + " " + entityId + " at version " + version);
+        }
+        return new EntityVersionDto(entityType, entityId, version, state);
+    }
 
-        } catch (Exception e) {
-            // Log error but don't prevent the main transaction from completing
-            log.error("Failed to create restore audit log for {} with ID: {}", entityType, entityId, e);
+    private void checkContiguous(AuditLog auditLog, long expectedVersion) {
+        if (auditLog.getEntityVersion() != expectedVersion) {
+            throw new ValidationException("Audit history of " + auditLog.getEntityType() + " " + auditLog.getEntityId()
+                    + " is missing version " + expectedVersion);
+        }
+    }
+
+    private Map<String, Object> readFields(String json) {
+        if (json == null) {
+            return new LinkedHashMap<>();
+        }
+        try {
+            return objectMapper.readValue(json, FIELDS_TYPE);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Unreadable audit record", e);
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,194 @@
+package fr.scrumtogether.scrumtogetherapi.services;
+
+import fr.scrumtogether.scrumtogetherapi.config.AuditConfig;
+import fr.scrumtogether.scrumtogetherapi.entities.AuditLog;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Writes audit records in the background, in JDBC batches.
+ * <p>
+ * Records are put on a bounded queue once the business transaction has committed, so auditing
+ * never holds a second connection on the request thread. A single writer thread drains the queue
+ * whenever a batch is full or the flush interval elapses, and writes each batch in one transaction.
+ * <p>
+ * When the queue is full, the caller waits up to the offer timeout, then the record is dropped and
+ * counted: auditing slows writers down under load but never blocks them indefinitely. On shutdown,
+ * the queue is drained before the writer stops.
+ * <p>
+ * Queue size, lag (age of the oldest queued record), written and dropped records are published as metrics.
+ */
+@Slf4j
+@Component
+public class AuditWriter implements DisposableBean {
+    private static final String METRIC_PREFIX = "audit.writer";
+    private static final String INSERT_SQL = "insert into audit_log " +
+            "(entity_type, entity_id, action, entity_version, snapshot, old_value, new_value, created_by, created_at) " +
+            "values (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final AuditConfig config;
+    private final BlockingQueue<AuditLog> queue;
+    private final Thread writerThread;
+    private final Counter writtenCounter;
+    private final Counter droppedCounter;
+    private final Counter failedCounter;
+    private final Timer flushTimer;
+
+    private volatile boolean running = true;
+
+    public AuditWriter(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate,
+                       AuditConfig config, MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.config = config;
+        this.queue = new ArrayBlockingQueue<>(config.getQueueCapacity());
+        this.writerThread = new Thread(this::run, "audit-writer");
+        this.writerThread.setDaemon(true);
+
+        Gauge.builder(METRIC_PREFIX + ".queue.size", queue, BlockingQueue::size)
+                .description("Audit records waiting to be written")
+                .register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".lag", this, writer -> writer.lag().toMillis() / 1000.0)
+                .description("Age of the oldest audit record waiting to be written")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        this.writtenCounter = Counter.builder(METRIC_PREFIX + ".written")
+                .description("Audit records written")
+                .register(meterRegistry);
+        this.droppedCounter = Counter.builder(METRIC_PREFIX + ".dropped")
+                .description("Audit records dropped because the queue was full")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder(METRIC_PREFIX + ".failed")
+                .description("Audit records lost because their batch could not be written")
+                .register(meterRegistry);
+        this.flushTimer = Timer.builder(METRIC_PREFIX + ".flush")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void start() {
+        writerThread.start();
+    }
+
+    /**
+     * Queues a record for writing, waiting up to the offer timeout when the queue is full.
+     *
+     * @param auditLog the record, with its creation date and author set
+     * @return false if the record was dropped
+     */
+    public boolean enqueue(AuditLog auditLog) {
+        try {
+            if (running && queue.offer(auditLog, config.getOfferTimeout().toNanos(), TimeUnit.NANOSECONDS)) {
+                return true;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        droppedCounter.increment();
+        log.warn("Audit queue is full, dropping {} audit log for {} with ID: {}",
+                auditLog.getAction(), auditLog.getEntityType(), auditLog.getEntityId());
+        return false;
+    }
+
+    /**
+     * Stops accepting records and waits for the queued ones to be written. Records enqueued while the
+     * writer was stopping are written here; records still queued when the writer times out are dropped.
+     */
+    @Override
+    public void destroy() throws InterruptedException {
+        running = false;
+        writerThread.join(config.getShutdownTimeout().toMillis());
+
+        List<AuditLog> leftovers = new ArrayList<>();
+        queue.drainTo(leftovers);
+        if (leftovers.isEmpty()) {
+            return;
+        }
+        if (writerThread.isAlive()) {
+            droppedCounter.increment(leftovers.size());
+            log.error("Audit writer did not stop in time, dropping {} queued records", leftovers.size());
+            return;
+        }
+        for (int from = 0; from < leftovers.size(); from += config.getFlushSize()) {
+            flush(new ArrayList<>(leftovers.subList(from, Math.min(from + config.getFlushSize(), leftovers.size()))));
+        }
+    }
+
+    /**
+     * Age of the oldest record waiting to be written.
+     */
+    Duration lag() {
+        AuditLog oldest = queue.peek();
+        return oldest == null ? Duration.ZERO : Duration.between(oldest.getCreatedAt(), LocalDateTime.now());
+    }
+
+    private void run() {
+        List<AuditLog> batch = new ArrayList<>(config.getFlushSize());
+        while (running) {
+            try {
+                AuditLog first = queue.poll(config.getFlushInterval().toNanos(), TimeUnit.NANOSECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, config.getFlushSize() - 1);
+                flush(batch);
+            } catch (InterruptedException e) {
+                log.warn("Audit writer interrupted, draining the queue");
+                break;
+            }
+        }
+
+        while (queue.drainTo(batch, config.getFlushSize()) > 0) {
+            flush(batch);
+        }
+        log.info("Audit writer stopped");
+    }
+
+    private void flush(List<AuditLog> batch) {
+        try {
+            flushTimer.record(() -> transactionTemplate.executeWithoutResult(status ->
+                    jdbcTemplate.batchUpdate(INSERT_SQL, batch.stream().map(this::toRow).toList())));
+            writtenCounter.increment(batch.size());
+        } catch (RuntimeException e) {
+            failedCounter.increment(batch.size());
+            log.error("Failed to write {} audit logs", batch.size(), e);
+        } finally {
+            batch.clear();
+        }
+    }
+
+    private Object[] toRow(AuditLog auditLog) {
+        return new Object[]{
+                auditLog.getEntityType(),
+                auditLog.getEntityId(),
+                auditLog.getAction(),
+                auditLog.getEntityVersion(),
+                auditLog.isSnapshot(),
+                auditLog.getOldValue(),
+                auditLog.getNewValue(),
+                auditLog.getCreatedBy(),
+                Timestamp.valueOf(auditLog.getCreatedAt())
+        };
+    }
+}
@@ -1,14 +1,19 @@
 package fr.scrumtogether.scrumtogetherapi.services;
 
+import fr.scrumtogether.scrumtogetherapi.dtos.AvailabilityResponse;
 import fr.scrumtogether.scrumtogetherapi.dtos.RegistrationDto;
 import fr.scrumtogether.scrumtogetherapi.dtos.SignInRequest;
 import fr.scrumtogether.scrumtogetherapi.entities.User;
 import fr.scrumtogether.scrumtogetherapi.exceptions.AuthenticationException;
+import fr.scrumtogether.scrumtogetherapi.exceptions.ServiceUnavailableException;
+import fr.scrumtogether.scrumtogetherapi.exceptions.ValidationException;
 import fr.scrumtogether.scrumtogetherapi.mappers.UserMapper;
 import fr.scrumtogether.scrumtogetherapi.repositories.UserRepository;
+import fr.scrumtogether.scrumtogetherapi.utils.TransactionUtils;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.authentication.*;
 import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Service;
@@ -29,6 +34,8 @@ public class AuthenticationService {
     private final UserRepository userRepository;
     private final UserMapper userMapper;
     private final AuthenticationManager authManager;
+    private final UserSearchIndex userSearchIndex;
+    private final UserAvailabilityRegistry userAvailabilityRegistry;
 
     /**
      * Registers a new user in the system with validation checks.
@@ -41,13 +48,13 @@ public class AuthenticationService {
         log.debug("Processing registration request for user: {}", registrationDto.getUsername());
 
         // Check for existing username
-        if (userRepository.existsByEmailIgnoreCaseAndDeletedAtIsNull(registrationDto.getUsername().trim().toLowerCase())) {
+        if (!userAvailabilityRegistry.isUsernameAvailable(registrationDto.getUsername())) {
             log.warn("Registration failed - Username already exists: {}", registrationDto.getUsername());
             throw new AuthenticationException("Username already exists");
         }
 
         // Check for existing email
-        if (userRepository.existsByUsernameIgnoreCaseAndDeletedAtIsNull(registrationDto.getEmail().trim().toLowerCase())) {
+        if (!userAvailabilityRegistry.isEmailAvailable(registrationDto.getEmail())) {
             log.warn("Registration failed - Email already exists: {}", registrationDto.getEmail());
             throw new AuthenticationException("Email already exists");
         }
@@ -55,6 +62,10 @@ public class AuthenticationService {
         try {
             User user = userMapper.toEntity(registrationDto);
             userRepository.save(user);
+            TransactionUtils.afterCommit(() -> {
+                userSearchIndex.index(user);
+                userAvailabilityRegistry.record(user.getUsername(), user.getEmail());
+            });
             log.info("User successfully registered: {}", user.getUsername());
 
             // Here you could also:
@@ -62,12 +73,38 @@ public class AuthenticationService {
             // - Create initial user settings
             // - Send welcome notification
 
+        } catch (ServiceUnavailableException e) {
+            log.warn("Registration rejected for user: {} - Password hashing is saturated", registrationDto.getUsername());
+            throw e;
+        } catch (DataIntegrityViolationException e) {
+            // The unique keys caught a concurrent registration of the same username or email
+            log.warn("Registration failed - Username or email taken concurrently: {}", registrationDto.getUsername());
+            throw new AuthenticationException("Username or email already exists", e);
         } catch (Exception e) {
             log.error("Unexpected error during registration for user: {}", registrationDto.getUsername(), e);
             throw new AuthenticationException("Registration failed", e);
         }
     }
 
+    /**
+     * Tells whether a username and an email are still free, for registration forms.
+     * Either may be null, in which case it is not checked.
+     *
+     * @param username the username to check
+     * @param email    the email to check
+     * @return the availability of each given value
+     */
+    public AvailabilityResponse checkAvailability(String username, String email) {
+        if ((username == null || username.isBlank()) && (email == null || email.isBlank())) {
+            throw new ValidationException("A username or an email is required");
+        }
+
+        return new AvailabilityResponse(
+                username == null || username.isBlank() ? null : userAvailabilityRegistry.isUsernameAvailable(username),
+                email == null || email.isBlank() ? null : userAvailabilityRegistry.isEmailAvailable(email)
+        );
+    }
+
     /**
      * Authenticates a user based on the provided sign-in request details.
      *
@@ -88,13 +125,7 @@ public class AuthenticationService {
             );
             log.info("User successfully authenticated: {}", signInRequest.getUsername());
 
-            // TODO  PAs de double appel base
-
-            return userRepository.findByUsernameAndDeletedAtIsNull(authenticate.getName())
-                    .orElseThrow(() -> {
-                        log.error("User not found after successful authentication: {}", signInRequest.getUsername());
-                        return new AuthenticationException("Cannot find user with username " + signInRequest.getUsername());
-                    });
+            return (User) authenticate.getPrincipal();
 
         } catch (BadCredentialsException e) {
             log.warn("Failed authentication attempt for user: {} - Invalid credentials", signInRequest.getUsername());
@@ -105,6 +136,9 @@ public class AuthenticationService {
         } catch (LockedException e) {
             log.warn("Failed authentication attempt for user: {} - Account is locked", signInRequest.getUsername());
             throw new AuthenticationException("Account is locked", e);
+        } catch (ServiceUnavailableException e) {
+            log.warn("Authentication rejected for user: {} - Password hashing is saturated", signInRequest.getUsername());
+            throw e;
         } catch (Exception e) {
             log.error("Unexpected error during authentication for user: {}", signInRequest.getUsername(), e);
             throw new AuthenticationException("Authentication failed", e);
@@ -0,0 +1,162 @@
+package fr.scrumtogether.scrumtogetherapi.services;
+
+import fr.scrumtogether.scrumtogetherapi.dtos.BacklogItemDto;
+import fr.scrumtogether.scrumtogetherapi.dtos.ItemDto;
+import fr.scrumtogether.scrumtogetherapi.entities.*;
+import fr.scrumtogether.scrumtogetherapi.exceptions.EntityNotFoundException;
+import fr.scrumtogether.scrumtogetherapi.exceptions.ValidationException;
+import fr.scrumtogether.scrumtogetherapi.repositories.ItemClosureRepository;
+import fr.scrumtogether.scrumtogetherapi.repositories.ItemRepository;
+import fr.scrumtogether.scrumtogetherapi.repositories.ProjectRepository;
+import fr.scrumtogether.scrumtogetherapi.repositories.projections.BacklogItemView;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Reads and reshapes the backlog of a project: the tree of epics, features and user stories.
+ * <p>
+ * The tree is stored twice: as {@code item.parent_id}, and as the {@link ItemClosure} table holding
+ * every (ancestor, descendant) pair. Every write keeps both in step within its transaction, so a
+ * whole backlog or any subtree is read with one query, and a move rewrites only the pairs linking
+ * the moved subtree to its former and new ancestors, whose task totals it shifts along.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class BacklogService {
+    private final ProjectRepository projectRepository;
+    private final ItemRepository itemRepository;
+    private final ItemClosureRepository itemClosureRepository;
+    private final RollupService rollupService;
+
+    /**
+     * Reads the backlog of a project as a tree.
+     *
+     * @param projectId the project id
+     * @param rootId    the item to read the subtree of, or null for the whole backlog
+     * @return the root items, with their descendants
+     */
+    @Transactional(readOnly = true)
+    public List<BacklogItemDto> getBacklog(Long projectId, Long rootId) {
+        log.debug("Reading backlog of project {} from item {}", projectId, rootId);
+        if (!projectRepository.existsById(projectId)) {
+            throw new EntityNotFoundException("Project not found");
+        }
+
+        List<BacklogItemView> items = rootId == null
+                ? itemRepository.findBacklog(projectId)
+                : itemRepository.findSubtree(projectId, rootId);
+        if (rootId != null && items.isEmpty()) {
+            throw new EntityNotFoundException("Item not found");
+        }
+        return toTree(items, rootId);
+    }
+
+    /**
+     * Creates an item, under the given parent if any.
+     *
+     * @param projectId the project id
+     * @param itemDto   the item to create
+     * @return the created item
+     */
+    @Transactional
+    public BacklogItemDto create(Long projectId, ItemDto itemDto) {
+        log.debug("Creating {} '{}' in project {}", itemDto.getType(), itemDto.getName(), projectId);
+        Project project = projectRepository.findById(projectId)
+                .orElseThrow(() -> new EntityNotFoundException("Project not found"));
+
+        Item item = switch (itemDto.getType()) {
+            case "EPIC" -> new Epic();
+            case "FEATURE" -> new Feature();
+            case "USER_STORY" -> new UserStory();
+            default -> throw new ValidationException("Unknown item type: " + itemDto.getType());
+        };
+        item.setName(itemDto.getName().trim());
+        item.setCode(itemDto.getCode());
+        item.setDescription(itemDto.getDescription());
+        item.setProject(project);
+        Item parent = itemDto.getParentId() != null ? getItem(projectId, itemDto.getParentId()) : null;
+        setParent(item, parent);
+        itemRepository.saveAndFlush(item);
+
+        itemClosureRepository.save(new ItemClosure(new ItemClosureId(item.getId(), item.getId()), 0));
+        itemClosureRepository.flush();
+        if (parent != null) {
+            itemClosureRepository.attach(parent.getId(), item.getId());
+        }
+
+        log.info("Created item {} in project {}", item.getId(), projectId);
+        return BacklogItemDto.from(new BacklogItemView(item.getId(), itemDto.getType(), item.getName(),
+                item.getCode(), parent != null ? parent.getId() : null, null, 0, 0, 0));
+    }
+
+    /**
+     * Moves an item, with its subtree, under another parent.
+     *
+     * @param projectId the project id
+     * @param itemId    the item to move
+     * @param parentId  the new parent, or null to make the item a root
+     */
+    @Transactional
+    public void move(Long projectId, Long itemId, Long parentId) {
+        log.debug("Moving item {} of project {} under {}", itemId, projectId, parentId);
+        Item item = getItem(projectId, itemId);
+        Item parent = parentId != null ? getItem(projectId, parentId) : null;
+        if (parent != null && itemClosureRepository.existsById(new ItemClosureId(itemId, parentId))) {
+            throw new ValidationException("An item cannot be moved under itself or one of its descendants");
+        }
+        setParent(item, parent);
+        itemRepository.flush();
+
+        Rollup rollup = item.getRollup();
+        List<Long> ancestorIds = itemClosureRepository.findAncestorIds(itemId);
+        if (!ancestorIds.isEmpty()) {
+            rollupService.detach(itemId, rollup);
+            itemClosureRepository.detach(itemClosureRepository.findSubtreeIds(itemId), ancestorIds);
+        }
+        if (parent != null) {
+            itemClosureRepository.attach(parentId, itemId);
+            rollupService.attach(itemId, rollup);
+        }
+        log.info("Moved item {} of project {} under {}", itemId, projectId, parentId);
+    }
+
+    private Item getItem(Long projectId, Long itemId) {
+        return itemRepository.findByIdAndProjectId(itemId, projectId)
+                .orElseThrow(() -> new EntityNotFoundException("Item not found"));
+    }
+
+    private void setParent(Item item, Item parent) {
+        try {
+            item.setParent(parent);
+        } catch (IllegalArgumentException e) {
+            throw new ValidationException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Links the rows to their parents in memory. Rows whose parent was not read become roots.
+     */
+    private List<BacklogItemDto> toTree(List<BacklogItemView> items, Long rootId) {
+        Map<Long, BacklogItemDto> nodes = new HashMap<>(items.size() * 2);
+        items.forEach(item -> nodes.put(item.getId(), BacklogItemDto.from(item)));
+
+        List<BacklogItemDto> roots = new ArrayList<>();
+        for (BacklogItemView item : items) {
+            BacklogItemDto parent = item.getId().equals(rootId) ? null : nodes.get(item.getParentId());
+            if (parent != null) {
+                parent.getChildren().add(nodes.get(item.getId()));
+            } else {
+                roots.add(nodes.get(item.getId()));
+            }
+        }
+        return roots;
+    }
+}
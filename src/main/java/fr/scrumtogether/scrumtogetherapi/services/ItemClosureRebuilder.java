@@ -0,0 +1,68 @@
+package fr.scrumtogether.scrumtogetherapi.services;
+
+import fr.scrumtogether.scrumtogetherapi.entities.ItemClosure;
+import fr.scrumtogether.scrumtogetherapi.repositories.ItemClosureRepository;
+import fr.scrumtogether.scrumtogetherapi.repositories.ItemRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Rebuilds, at startup, the {@link ItemClosure} table from {@code item.parent_id} when it does not
+ * cover every item, e.g. for items written before the table existed.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class ItemClosureRebuilder {
+    private final ItemRepository itemRepository;
+    private final ItemClosureRepository itemClosureRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @PostConstruct
+    void rebuildIfIncomplete() {
+        if (itemClosureRepository.countItems() != itemRepository.count()) {
+            rebuild();
+        }
+    }
+
+    /**
+     * Recomputes every pair, one depth level per statement. No path is longer than the number of
+     * items, so reaching that depth, or deriving a pair twice, means {@code parent_id} has a cycle.
+     *
+     * @throws IllegalStateException if the items' parents form a cycle
+     */
+    void rebuild() {
+        long pairs = transactionTemplate.execute(status -> {
+            itemClosureRepository.deleteAllPairs();
+            long items = itemClosureRepository.insertSelfPairs();
+            long inserted = items;
+            int depth = 1;
+            int level;
+            while ((level = insertPairsAtDepth(depth++)) > 0) {
+                if (depth > items) {
+                    throw parentCycle(null);
+                }
+                inserted += level;
+            }
+            return inserted;
+        });
+        log.info("Item closure table rebuilt with {} pairs", pairs);
+    }
+
+    private int insertPairsAtDepth(int depth) {
+        try {
+            return itemClosureRepository.insertPairsAtDepth(depth);
+        } catch (DataIntegrityViolationException e) {
+            throw parentCycle(e);
+        }
+    }
+
+    private IllegalStateException parentCycle(Exception cause) {
+        log.error("Cannot rebuild the item closure table: item.parent_id contains a cycle");
+        return new IllegalStateException("Cannot rebuild the item closure table: item.parent_id contains a cycle", cause);
+    }
+}
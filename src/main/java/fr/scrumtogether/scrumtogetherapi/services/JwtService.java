@@ -1,38 +1,140 @@
 package fr.scrumtogether.scrumtogetherapi.services;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.hash.Hashing;
+import fr.scrumtogether.scrumtogetherapi.entities.User;
+import fr.scrumtogether.scrumtogetherapi.entities.enums.Role;
+import fr.scrumtogether.scrumtogetherapi.security.AuthenticatedUser;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 
 import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 
+/**
+ * Service issuing and verifying the JWT used to authenticate API calls.
+ * <p>
+ * The signing key and the parser are built once at startup. Verified tokens are kept in a
+ * bounded cache keyed by the SHA-256 digest of the token, so a client reusing the same token
+ * only pays for the HMAC verification once. A cached entry is never served past the
+ * expiration of the token it was built from.
+ */
 @RequiredArgsConstructor
 @Service
 public class JwtService {
+    public static final String CLAIM_USER_ID = "uid";
+    public static final String CLAIM_ROLE = "role";
+    public static final String CLAIM_VERSION = "ver";
+
     @Value("${security.jwt.secret-key}")
     private String secretKey;
 
     @Value("${security.jwt.expiration-time}")
     private long jwtExpiration;
 
+    @Value("${security.jwt.verified-cache-size:10000}")
+    private long verifiedCacheSize;
+
+    private SecretKey signInKey;
+    private JwtParser jwtParser;
+    private Cache<String, Claims> verifiedTokens;
+
+    @PostConstruct
+    void init() {
+        byte[] keyBytes = Decoders.BASE64.decode(secretKey);
+        signInKey = Keys.hmacShaKeyFor(keyBytes);
+        jwtParser = Jwts.parser()
+                .verifyWith(signInKey)
+                .build();
+        verifiedTokens = CacheBuilder.newBuilder()
+                .maximumSize(verifiedCacheSize)
+                .expireAfterWrite(jwtExpiration, TimeUnit.MILLISECONDS)
+                .build();
+    }
+
+    /**
+     * Verifies the signature and expiration of a token and returns its claims.
+     * The result is meant to be reused for every subsequent check on the same request.
+     *
+     * @param token the compact JWT
+     * @return the verified claims
+     * @throws io.jsonwebtoken.JwtException if the token is malformed, tampered or expired
+     */
+    public Claims verifyToken(String token) {
+        String digest = digest(token);
+        Claims cached = verifiedTokens.getIfPresent(digest);
+        if (cached != null) {
+            if (!isExpired(cached)) {
+                return cached;
+            }
+            verifiedTokens.invalidate(digest);
+        }
+
+        Claims claims = jwtParser.parseSignedClaims(token).getPayload();
+        verifiedTokens.put(digest, claims);
+        return claims;
+    }
+
     public String extractUsername(String token) {
         return extractClaim(token, Claims::getSubject);
     }
 
     public <T> T extractClaim(String token, Function<Claims, T> claimsResolver) {
-        final Claims claims = extractAllClaims(token);
+        final Claims claims = verifyToken(token);
         return claimsResolver.apply(claims);
     }
 
+    /**
+     * Issues a token embedding the id, role and entity version of the user, so that the
+     * principal can be rebuilt from the token alone on later requests.
+     *
+     * @param user the authenticated user
+     * @return the signed token
+     */
+    public String generateToken(User user) {
+        Map<String, Object> claims = new HashMap<>();
+        claims.put(CLAIM_USER_ID, user.getId());
+        claims.put(CLAIM_ROLE, user.getRole().name());
+        claims.put(CLAIM_VERSION, user.getVersion());
+        return generateToken(claims, user);
+    }
+
+    /**
+     * Rebuilds the principal described by verified claims.
+     *
+     * @param claims claims returned by {@link #verifyToken(String)}
+     * @return the principal, or null if the token was not issued with the principal claims
+     */
+    public AuthenticatedUser extractPrincipal(Claims claims) {
+        Number userId = claims.get(CLAIM_USER_ID, Number.class);
+        String role = claims.get(CLAIM_ROLE, String.class);
+        Number version = claims.get(CLAIM_VERSION, Number.class);
+        if (userId == null || role == null || version == null) {
+            return null;
+        }
+
+        return AuthenticatedUser.builder()
+                .id(userId.longValue())
+                .username(claims.getSubject())
+                .role(Role.valueOf(role))
+                .version(version.longValue())
+                .build();
+    }
+
     public String generateToken(UserDetails userDetails) {
         return generateToken(new HashMap<>(), userDetails);
     }
@@ -58,34 +160,23 @@ public class JwtService {
                     .issuedAt(new Date(System.currentTimeMillis()))
                     .expiration(new Date(System.currentTimeMillis() + expiration))
                     .and()
-                .signWith(getSignInKey())
+                .signWith(signInKey)
                 .compact();
     }
 
     public boolean isTokenValid(String token, UserDetails userDetails) {
-        final String username = extractUsername(token);
-        return (username.equals(userDetails.getUsername())) && !isTokenExpired(token);
+        return isTokenValid(verifyToken(token), userDetails);
     }
 
-    private boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
+    public boolean isTokenValid(Claims claims, UserDetails userDetails) {
+        return claims.getSubject().equals(userDetails.getUsername()) && !isExpired(claims);
     }
 
-    private Date extractExpiration(String token) {
-        return extractClaim(token, Claims::getExpiration);
+    private boolean isExpired(Claims claims) {
+        return claims.getExpiration().before(new Date());
     }
 
-    private Claims extractAllClaims(String token) {
-        return Jwts
-                .parser()
-                .verifyWith(getSignInKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
-    }
-
-    private SecretKey getSignInKey() {
-        byte[] keyBytes = Decoders.BASE64.decode(secretKey);
-        return Keys.hmacShaKeyFor(keyBytes);
+    private String digest(String token) {
+        return Hashing.sha256().hashString(token, StandardCharsets.UTF_8).toString();
     }
 }
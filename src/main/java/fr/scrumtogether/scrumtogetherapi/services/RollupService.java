@@ -0,0 +1,134 @@
+package fr.scrumtogether.scrumtogetherapi.services;
+
+import fr.scrumtogether.scrumtogetherapi.entities.Rollup;
+import fr.scrumtogether.scrumtogetherapi.repositories.ItemClosureRepository;
+import fr.scrumtogether.scrumtogetherapi.repositories.ItemRepository;
+import fr.scrumtogether.scrumtogetherapi.repositories.SprintRepository;
+import fr.scrumtogether.scrumtogetherapi.repositories.TaskRepository;
+import fr.scrumtogether.scrumtogetherapi.repositories.projections.RollupView;
+import fr.scrumtogether.scrumtogetherapi.repositories.projections.TaskRollupView;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Maintains the {@link Rollup} columns of items and sprints.
+ * <p>
+ * Writers call it within their own transaction with the change they made, and it is pushed as a
+ * relative update to every ancestor found through the closure table and to the sprint of the
+ * user story: one statement per level of the hierarchy, whatever the size of the tree.
+ * <p>
+ * {@link #repair(Long)} recomputes the totals of a project from its tasks and fixes the rows that
+ * drifted. A row changed by a writer in the meantime is left for the next pass.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class RollupService {
+    private final ItemRepository itemRepository;
+    private final ItemClosureRepository itemClosureRepository;
+    private final SprintRepository sprintRepository;
+    private final TaskRepository taskRepository;
+
+    /**
+     * Adds the change of the tasks of a user story to the story, its ancestors and its sprint.
+     *
+     * @param userStoryId the user story id
+     * @param delta       the change, e.g. the contribution of a created task
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void add(Long userStoryId, Rollup delta) {
+        if (delta.isZero()) {
+            return;
+        }
+        log.debug("Adding {} to the rollups of item {}", delta, userStoryId);
+        itemRepository.addToRollupOfAncestors(userStoryId, 0,
+                delta.getEstimation(), delta.getDurationSeconds(), delta.getOpenTasks());
+        sprintRepository.addToRollupOfSprintOf(userStoryId,
+                delta.getEstimation(), delta.getDurationSeconds(), delta.getOpenTasks());
+    }
+
+    /**
+     * Removes the totals of an item from its strict ancestors, before it is detached from them.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void detach(Long itemId, Rollup rollup) {
+        addToStrictAncestors(itemId, rollup.negate());
+    }
+
+    /**
+     * Adds the totals of an item to its strict ancestors, once it is attached to them.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void attach(Long itemId, Rollup rollup) {
+        addToStrictAncestors(itemId, rollup);
+    }
+
+    /**
+     * Recomputes the rollups of the items and sprints of a project and fixes the ones that drifted.
+     *
+     * @param projectId the project id
+     * @return the number of rows fixed
+     */
+    @Transactional
+    public int repair(Long projectId) {
+        // Stored values first: a task written after this read makes the compare-and-set below miss
+        List<RollupView> storedItems = itemRepository.findRollups(projectId);
+        List<RollupView> storedSprints = sprintRepository.findRollups(projectId);
+
+        Map<Long, Rollup> ownByStory = new HashMap<>();
+        for (TaskRollupView task : taskRepository.findRollups(projectId)) {
+            ownByStory.merge(task.getUserStoryId(), task.getRollup(), Rollup::plus);
+        }
+
+        Map<Long, Rollup> expectedItems = new HashMap<>();
+        for (Object[] pair : itemClosureRepository.findPairs(projectId)) {
+            Rollup own = ownByStory.get((Long) pair[1]);
+            if (own != null) {
+                expectedItems.merge((Long) pair[0], own, Rollup::plus);
+            }
+        }
+
+        Map<Long, Rollup> expectedSprints = new HashMap<>();
+        for (Object[] item : itemRepository.findSprintIds(projectId)) {
+            Rollup own = ownByStory.get((Long) item[0]);
+            if (own != null) {
+                expectedSprints.merge((Long) item[1], own, Rollup::plus);
+            }
+        }
+
+        int repaired = 0;
+        for (RollupView stored : storedItems) {
+            Rollup expected = expectedItems.getOrDefault(stored.getId(), Rollup.ZERO);
+            if (!expected.equals(stored.getRollup())) {
+                log.warn("Repairing rollup of item {}: {} instead of {}", stored.getId(), expected, stored.getRollup());
+                repaired += itemRepository.replaceRollup(stored.getId(),
+                        expected.getEstimation(), expected.getDurationSeconds(), expected.getOpenTasks(),
+                        stored.getRollup().getEstimation(), stored.getRollup().getDurationSeconds(), stored.getRollup().getOpenTasks());
+            }
+        }
+        for (RollupView stored : storedSprints) {
+            Rollup expected = expectedSprints.getOrDefault(stored.getId(), Rollup.ZERO);
+            if (!expected.equals(stored.getRollup())) {
+                log.warn("Repairing rollup of sprint {}: {} instead of {}", stored.getId(), expected, stored.getRollup());
+                repaired += sprintRepository.replaceRollup(stored.getId(),
+                        expected.getEstimation(), expected.getDurationSeconds(), expected.getOpenTasks(),
+                        stored.getRollup().getEstimation(), stored.getRollup().getDurationSeconds(), stored.getRollup().getOpenTasks());
+            }
+        }
+        return repaired;
+    }
+
+    private void addToStrictAncestors(Long itemId, Rollup delta) {
+        if (!delta.isZero()) {
+            itemRepository.addToRollupOfAncestors(itemId, 1,
+                    delta.getEstimation(), delta.getDurationSeconds(), delta.getOpenTasks());
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package fr.scrumtogether.scrumtogetherapi.services;
+
+import fr.scrumtogether.scrumtogetherapi.config.RollupConfig;
+import fr.scrumtogether.scrumtogetherapi.repositories.ProjectRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Periodically recomputes the rollups of every project, one project per transaction,
+ * and repairs the rows that drifted from their tasks.
+ */
+@Slf4j
+@Component
+public class RollupVerifier {
+    private final RollupService rollupService;
+    private final ProjectRepository projectRepository;
+    private final RollupConfig config;
+    private final Counter repairedCounter;
+
+    public RollupVerifier(RollupService rollupService, ProjectRepository projectRepository, RollupConfig config,
+                          MeterRegistry meterRegistry) {
+        this.rollupService = rollupService;
+        this.projectRepository = projectRepository;
+        this.config = config;
+        this.repairedCounter = Counter.builder("rollup.verifier.repaired")
+                .description("Item and sprint rollups found out of step with their tasks")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(initialDelayString = "#{@rollupConfig.initialDelay}", fixedDelayString = "#{@rollupConfig.interval}")
+    void verify() {
+        if (!config.isEnabled()) {
+            return;
+        }
+        int repaired = 0;
+        for (Long projectId : projectRepository.findAllIds()) {
+            try {
+                repaired += rollupService.repair(projectId);
+            } catch (RuntimeException e) {
+                log.error("Failed to verify the rollups of project {}", projectId, e);
+            }
+        }
+        repairedCounter.increment(repaired);
+        if (repaired > 0) {
+            log.warn("Repaired {} rollups", repaired);
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package fr.scrumtogether.scrumtogetherapi.services;
+
+import fr.scrumtogether.scrumtogetherapi.entities.SprintDailyStatus;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Seeds, at startup, the {@link SprintDailyStatus} rows of sprints whose tasks were written before
+ * task history was recorded. Their past transitions are unknown, so the current tasks of such a
+ * sprint are counted on its first day; charts and velocity start from there instead of from zero.
+ * Sprints with at least one row are left alone.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class SprintDailyStatusBackfill {
+    private static final String BACKFILL_SQL =
+            "insert into sprint_daily_status (sprint_id, sprint_day, status_id, task_count, estimation) " +
+                    "select s.id, s.start_date, t.status_id, count(*), coalesce(sum(t.estimation), 0) " +
+                    "from task t join item i on i.id = t.user_story_id join sprint s on s.id = i.sprint_id " +
+                    "where not exists (select 1 from sprint_daily_status d where d.sprint_id = s.id) " +
+                    "group by s.id, s.start_date, t.status_id";
+    private static final String MARK_CLOSED_SPRINTS_DIRTY_SQL =
+            "update sprint set velocity_dirty = true where closed_at is not null and velocity is null";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @PostConstruct
+    void backfill() {
+        int rows = jdbcTemplate.update(BACKFILL_SQL);
+        if (rows > 0) {
+            int sprints = jdbcTemplate.update(MARK_CLOSED_SPRINTS_DIRTY_SQL);
+            log.info("Backfilled {} daily status rows, {} closed sprints to recompute", rows, sprints);
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package fr.scrumtogether.scrumtogetherapi.services;
+
+import fr.scrumtogether.scrumtogetherapi.dtos.BoardDto;
+import fr.scrumtogether.scrumtogetherapi.dtos.BurndownDto;
+import fr.scrumtogether.scrumtogetherapi.dtos.CumulativeFlowDto;
+import fr.scrumtogether.scrumtogetherapi.dtos.RollupDto;
+import fr.scrumtogether.scrumtogetherapi.entities.Sprint;
+import fr.scrumtogether.scrumtogetherapi.entities.SprintDailyStatus;
+import fr.scrumtogether.scrumtogetherapi.exceptions.EntityNotFoundException;
+import fr.scrumtogether.scrumtogetherapi.repositories.SprintDailyStatusRepository;
+import fr.scrumtogether.scrumtogetherapi.repositories.SprintRepository;
+import fr.scrumtogether.scrumtogetherapi.repositories.TaskRepository;
+import fr.scrumtogether.scrumtogetherapi.repositories.projections.BoardTaskView;
+import fr.scrumtogether.scrumtogetherapi.repositories.projections.TaskStatusView;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class SprintService {
+    private final SprintRepository sprintRepository;
+    private final SprintDailyStatusRepository sprintDailyStatusRepository;
+    private final TaskRepository taskRepository;
+    private final TaskStatusCache taskStatusCache;
+
+    /**
+     * Reads the task totals of a sprint, as maintained by the {@link RollupService}.
+     */
+    @Transactional(readOnly = true)
+    public RollupDto getTotals(Long sprintId) {
+        return RollupDto.from(getSprint(sprintId).getRollup());
+    }
+
+    /**
+     * Computes the burndown of a sprint from its daily rows: the estimation and number of tasks
+     * not in a closed status at the end of each day.
+     */
+    @Transactional(readOnly = true)
+    public BurndownDto getBurndown(Long sprintId) {
+        log.debug("Computing burndown of sprint {}", sprintId);
+        Sprint sprint = getSprint(sprintId);
+
+        List<BurndownDto.Point> points = new ArrayList<>();
+        long sprintDays = sprint.getStartDate().datesUntil(sprint.getEndDate().plusDays(1)).count();
+        long[] committed = {-1};
+        walkDays(sprint, (day, totals) -> {
+            long estimation = 0;
+            int tasks = 0;
+            for (Map.Entry<Long, long[]> status : totals.entrySet()) {
+                if (!taskStatusCache.get(status.getKey()).map(TaskStatusView::isClosed).orElse(false)) {
+                    tasks += (int) status.getValue()[0];
+                    estimation += status.getValue()[1];
+                }
+            }
+            if (committed[0] < 0) {
+                committed[0] = estimation;
+            }
+            double progress = sprintDays > 1 ? (double) points.size() / (sprintDays - 1) : 1;
+            points.add(new BurndownDto.Point(day, estimation, tasks, committed[0] * (1 - progress)));
+        });
+        return new BurndownDto(sprint.getId(), sprint.getStartDate(), sprint.getEndDate(), points);
+    }
+
+    /**
+     * Computes the cumulative flow of a sprint from its daily rows: the number of tasks in each
+     * status at the end of each day.
+     */
+    @Transactional(readOnly = true)
+    public CumulativeFlowDto getCumulativeFlow(Long sprintId) {
+        log.debug("Computing cumulative flow of sprint {}", sprintId);
+        Sprint sprint = getSprint(sprintId);
+        List<TaskStatusView> statuses = taskStatusCache.getAll();
+
+        List<LocalDate> days = new ArrayList<>();
+        Map<Long, List<Integer>> countsByStatus = new HashMap<>();
+        statuses.forEach(status -> countsByStatus.put(status.getId(), new ArrayList<>()));
+        walkDays(sprint, (day, totals) -> {
+            days.add(day);
+            countsByStatus.forEach((statusId, counts) -> {
+                long[] total = totals.get(statusId);
+                counts.add(total != null ? (int) total[0] : 0);
+            });
+        });
+
+        List<CumulativeFlowDto.Series> series = statuses.stream()
+                .map(status -> new CumulativeFlowDto.Series(status.getId(), status.getCode(), status.getName(),
+                        countsByStatus.get(status.getId())))
+                .toList();
+        return new CumulativeFlowDto(sprint.getId(), days, series);
+    }
+
+    /**
+     * Reads the tasks of a sprint grouped by status, with one query whatever their number.
+     * Every status has a column, empty or not.
+     */
+    @Transactional(readOnly = true)
+    public BoardDto getBoard(Long sprintId) {
+        log.debug("Reading board of sprint {}", sprintId);
+        if (!sprintRepository.existsById(sprintId)) {
+            throw new EntityNotFoundException("Sprint not found");
+        }
+
+        Map<Long, List<BoardDto.Card>> cardsByStatus = new LinkedHashMap<>();
+        taskStatusCache.getAll().forEach(status -> cardsByStatus.put(status.getId(), new ArrayList<>()));
+        for (BoardTaskView task : taskRepository.findBoard(sprintId)) {
+            cardsByStatus.computeIfAbsent(task.getStatusId(), id -> new ArrayList<>()).add(BoardDto.Card.from(task));
+        }
+
+        List<BoardDto.Column> columns = new ArrayList<>(cardsByStatus.size());
+        cardsByStatus.forEach((statusId, cards) -> {
+            // A status created since the last refresh has its tasks shown under its id alone
+            TaskStatusView status = taskStatusCache.get(statusId).orElse(new TaskStatusView(statusId, null, null, false));
+            columns.add(new BoardDto.Column(statusId, status.getCode(), status.getName(), status.isClosed(), cards));
+        });
+        return new BoardDto(sprintId, columns);
+    }
+
+    /**
+     * Replays the daily rows of a sprint and hands the running (task count, estimation) of every
+     * status at the end of each day, from the start of the sprint to today or its end.
+     * Changes made before the start are part of the first day.
+     */
+    private void walkDays(Sprint sprint, BiConsumer<LocalDate, Map<Long, long[]>> consumer) {
+        List<SprintDailyStatus> rows = sprintDailyStatusRepository.findBySprintId(sprint.getId());
+        LocalDate today = LocalDate.now();
+        LocalDate last = sprint.getEndDate().isBefore(today) ? sprint.getEndDate() : today;
+
+        Map<Long, long[]> totals = new HashMap<>();
+        int next = 0;
+        for (LocalDate day = sprint.getStartDate(); !day.isAfter(last); day = day.plusDays(1)) {
+            while (next < rows.size() && !rows.get(next).getId().getDay().isAfter(day)) {
+                SprintDailyStatus row = rows.get(next++);
+                long[] total = totals.computeIfAbsent(row.getId().getStatusId(), id -> new long[2]);
+                total[0] += row.getTaskCount();
+                total[1] += row.getEstimation();
+            }
+            consumer.accept(day, totals);
+        }
+    }
+
+    private Sprint getSprint(Long sprintId) {
+        return sprintRepository.findById(sprintId)
+                .orElseThrow(() -> new EntityNotFoundException("Sprint not found"));
+    }
+}
@@ -0,0 +1,110 @@
+package fr.scrumtogether.scrumtogetherapi.services;
+
+import fr.scrumtogether.scrumtogetherapi.entities.Sprint;
+import fr.scrumtogether.scrumtogetherapi.entities.SprintDailyStatus;
+import fr.scrumtogether.scrumtogetherapi.entities.Task;
+import fr.scrumtogether.scrumtogetherapi.entities.TaskStatusEvent;
+import fr.scrumtogether.scrumtogetherapi.repositories.SprintDailyStatusRepository;
+import fr.scrumtogether.scrumtogetherapi.repositories.SprintRepository;
+import fr.scrumtogether.scrumtogetherapi.repositories.TaskStatusEventRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * Records the history of tasks: every change of status, sprint or estimation is appended to the
+ * {@link TaskStatusEvent} log and added to the {@link SprintDailyStatus} rows of the day, within
+ * the transaction of the write. A change to a closed sprint flags its velocity for recomputation.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class TaskEventService {
+    private static final String INSERT_DAILY_STATUS_SQL =
+            "insert into sprint_daily_status (sprint_id, sprint_day, status_id, task_count, estimation) values (?, ?, ?, ?, ?)";
+
+    private final TaskStatusEventRepository taskStatusEventRepository;
+    private final SprintDailyStatusRepository sprintDailyStatusRepository;
+    private final SprintRepository sprintRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * The fields of a task the history follows.
+     */
+    @Value
+    public static class TaskState {
+        Long sprintId;
+        Long statusId;
+        Integer estimation;
+
+        public static TaskState of(Task task) {
+            Sprint sprint = task.getUserStory().getSprint();
+            return new TaskState(sprint != null ? sprint.getId() : null, task.getStatus().getId(), task.getEstimation());
+        }
+
+        long points() {
+            return estimation != null ? estimation : 0;
+        }
+    }
+
+    /**
+     * Records a change of a task.
+     *
+     * @param taskId the task id
+     * @param before the state before the change, or null for a creation
+     * @param after  the state after the change, or null for a deletion
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void record(Long taskId, TaskState before, TaskState after) {
+        if (Objects.equals(before, after)) {
+            return;
+        }
+        log.debug("Recording change of task {} from {} to {}", taskId, before, after);
+        LocalDateTime now = LocalDateTime.now();
+        taskStatusEventRepository.save(TaskStatusEvent.builder()
+                .taskId(taskId)
+                .fromSprintId(before != null ? before.getSprintId() : null)
+                .fromStatusId(before != null ? before.getStatusId() : null)
+                .fromEstimation(before != null ? before.getEstimation() : null)
+                .toSprintId(after != null ? after.getSprintId() : null)
+                .toStatusId(after != null ? after.getStatusId() : null)
+                .toEstimation(after != null ? after.getEstimation() : null)
+                .occurredAt(now)
+                .build());
+
+        LocalDate today = now.toLocalDate();
+        if (before != null && before.getSprintId() != null) {
+            increment(before.getSprintId(), today, before.getStatusId(), -1, -before.points());
+        }
+        if (after != null && after.getSprintId() != null) {
+            increment(after.getSprintId(), today, after.getStatusId(), 1, after.points());
+        }
+    }
+
+    /**
+     * Adds to the row of the day, creating it on the first change of the day. When another
+     * transaction creates the same row first, the insert collides on its key and the change is
+     * added to that row instead.
+     */
+    private void increment(Long sprintId, LocalDate day, Long statusId, int taskCount, long estimation) {
+        if (sprintDailyStatusRepository.increment(sprintId, day, statusId, taskCount, estimation) == 0) {
+            try {
+                // Plain JDBC: a failed JPA statement would mark the whole transaction for rollback
+                jdbcTemplate.update(INSERT_DAILY_STATUS_SQL, sprintId, day, statusId, taskCount, estimation);
+            } catch (DuplicateKeyException e) {
+                log.debug("Daily status row of sprint {} on {} created concurrently", sprintId, day);
+                sprintDailyStatusRepository.increment(sprintId, day, statusId, taskCount, estimation);
+            }
+        }
+        sprintRepository.markVelocityDirty(sprintId);
+    }
+}
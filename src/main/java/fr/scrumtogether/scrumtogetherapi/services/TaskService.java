@@ -0,0 +1,114 @@
+package fr.scrumtogether.scrumtogetherapi.services;
+
+import fr.scrumtogether.scrumtogetherapi.dtos.TaskDto;
+import fr.scrumtogether.scrumtogetherapi.entities.Item;
+import fr.scrumtogether.scrumtogetherapi.entities.Rollup;
+import fr.scrumtogether.scrumtogetherapi.entities.Task;
+import fr.scrumtogether.scrumtogetherapi.entities.TaskStatus;
+import fr.scrumtogether.scrumtogetherapi.entities.UserStory;
+import fr.scrumtogether.scrumtogetherapi.exceptions.EntityNotFoundException;
+import fr.scrumtogether.scrumtogetherapi.exceptions.ValidationException;
+import fr.scrumtogether.scrumtogetherapi.repositories.ItemRepository;
+import fr.scrumtogether.scrumtogetherapi.repositories.TaskRepository;
+import fr.scrumtogether.scrumtogetherapi.repositories.TaskStatusRepository;
+import fr.scrumtogether.scrumtogetherapi.services.TaskEventService.TaskState;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Objects;
+
+/**
+ * Writes the tasks of user stories. Every write pushes its effect on the totals to the
+ * {@link RollupService}, and its change to the {@link TaskEventService}, within the same transaction.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class TaskService {
+    private final TaskRepository taskRepository;
+    private final TaskStatusRepository taskStatusRepository;
+    private final ItemRepository itemRepository;
+    private final RollupService rollupService;
+    private final TaskEventService taskEventService;
+
+    @Transactional(readOnly = true)
+    public TaskDto getById(Long id) {
+        return TaskDto.from(getTask(id));
+    }
+
+    @Transactional
+    public TaskDto create(TaskDto taskDto) {
+        log.debug("Creating task '{}' in user story {}", taskDto.getName(), taskDto.getUserStoryId());
+        Task task = new Task();
+        apply(task, taskDto);
+        taskRepository.save(task);
+
+        rollupService.add(task.getUserStory().getId(), Rollup.of(task));
+        taskEventService.record(task.getId(), null, TaskState.of(task));
+        log.info("Created task {} in user story {}", task.getId(), task.getUserStory().getId());
+        return TaskDto.from(task);
+    }
+
+    /**
+     * Updates a task: re-estimation, logged time, status, or move to another user story.
+     */
+    @Transactional
+    public TaskDto update(Long id, TaskDto taskDto) {
+        log.debug("Updating task {}", id);
+        Task task = getTask(id);
+        Long previousStoryId = task.getUserStory().getId();
+        Rollup previous = Rollup.of(task);
+        TaskState previousState = TaskState.of(task);
+
+        apply(task, taskDto);
+        taskRepository.save(task);
+
+        Rollup current = Rollup.of(task);
+        if (Objects.equals(previousStoryId, task.getUserStory().getId())) {
+            rollupService.add(previousStoryId, current.minus(previous));
+        } else {
+            rollupService.add(previousStoryId, previous.negate());
+            rollupService.add(task.getUserStory().getId(), current);
+        }
+        taskEventService.record(id, previousState, TaskState.of(task));
+        log.info("Updated task {}", id);
+        return TaskDto.from(task);
+    }
+
+    @Transactional
+    public void delete(Long id) {
+        log.debug("Deleting task {}", id);
+        Task task = getTask(id);
+        rollupService.add(task.getUserStory().getId(), Rollup.of(task).negate());
+        taskEventService.record(id, TaskState.of(task), null);
+        taskRepository.delete(task);
+        log.info("Deleted task {}", id);
+    }
+
+    private Task getTask(Long id) {
+        return taskRepository.findById(id)
+                .orElseThrow(() -> new EntityNotFoundException("Task not found"));
+    }
+
+    private void apply(Task task, TaskDto taskDto) {
+        if (taskDto.getDuration() != null && taskDto.getDuration().isNegative()) {
+            throw new ValidationException("Duration cannot be negative");
+        }
+        Item item = itemRepository.findById(taskDto.getUserStoryId())
+                .orElseThrow(() -> new EntityNotFoundException("User story not found"));
+        if (!(item instanceof UserStory userStory)) {
+            throw new ValidationException("Tasks can only belong to user stories");
+        }
+        TaskStatus status = taskStatusRepository.findById(taskDto.getStatusId())
+                .orElseThrow(() -> new EntityNotFoundException("Task status not found"));
+
+        task.setName(taskDto.getName().trim());
+        task.setDescription(taskDto.getDescription());
+        task.setEstimation(taskDto.getEstimation());
+        task.setDuration(taskDto.getDuration());
+        task.setUserStory(userStory);
+        task.setStatus(status);
+    }
+}
@@ -0,0 +1,78 @@
+package fr.scrumtogether.scrumtogetherapi.services;
+
+import fr.scrumtogether.scrumtogetherapi.entities.TaskStatus;
+import fr.scrumtogether.scrumtogetherapi.repositories.TaskStatusRepository;
+import fr.scrumtogether.scrumtogetherapi.repositories.projections.TaskStatusView;
+import jakarta.annotation.PostConstruct;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * In-memory copy of the {@link TaskStatus} table, which is tiny and read on every board and chart.
+ * <p>
+ * Readers get an immutable snapshot without locking. The snapshot is loaded at startup and
+ * replaced whenever a status is written on this node, once the write has committed. Writes made
+ * through another node are only seen at the next periodic refresh, so with several nodes a status
+ * change can take up to {@code task-status.cache.refresh-interval} to show everywhere.
+ */
+@Slf4j
+@Component
+public class TaskStatusCache {
+    private final TaskStatusRepository taskStatusRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    private volatile Snapshot snapshot = new Snapshot(List.of(), Map.of());
+
+    public TaskStatusCache(TaskStatusRepository taskStatusRepository, PlatformTransactionManager transactionManager) {
+        this.taskStatusRepository = taskStatusRepository;
+        // Own transaction: refreshes also run from after-commit callbacks, where the writing one has ended
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.transactionTemplate.setReadOnly(true);
+    }
+
+    @Value
+    private static class Snapshot {
+        List<TaskStatusView> statuses;
+        Map<Long, TaskStatusView> statusesById;
+    }
+
+    @PostConstruct
+    @Scheduled(initialDelayString = "${task-status.cache.refresh-interval:PT1M}",
+            fixedDelayString = "${task-status.cache.refresh-interval:PT1M}")
+    public void refresh() {
+        transactionTemplate.executeWithoutResult(status -> load());
+    }
+
+    /**
+     * Reloads the snapshot within the caller's transaction, so that uncommitted statuses are seen.
+     */
+    void load() {
+        List<TaskStatusView> statuses = List.copyOf(taskStatusRepository.findViews());
+        snapshot = new Snapshot(statuses, statuses.stream()
+                .collect(Collectors.toUnmodifiableMap(TaskStatusView::getId, Function.identity())));
+        log.debug("Task status cache refreshed with {} statuses", statuses.size());
+    }
+
+    /**
+     * @return every status, by id
+     */
+    public List<TaskStatusView> getAll() {
+        return snapshot.getStatuses();
+    }
+
+    public Optional<TaskStatusView> get(Long id) {
+        return Optional.ofNullable(snapshot.getStatusesById().get(id));
+    }
+}
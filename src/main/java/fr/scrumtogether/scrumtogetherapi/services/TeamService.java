@@ -1,35 +1,68 @@
 package fr.scrumtogether.scrumtogetherapi.services;
 
 import fr.scrumtogether.scrumtogetherapi.dtos.TeamDto;
+import fr.scrumtogether.scrumtogetherapi.dtos.TeamMembershipReport;
 import fr.scrumtogether.scrumtogetherapi.dtos.TeamUserDto;
 import fr.scrumtogether.scrumtogetherapi.entities.Team;
 import fr.scrumtogether.scrumtogetherapi.entities.TeamUser;
+import fr.scrumtogether.scrumtogetherapi.entities.TeamUserId;
 import fr.scrumtogether.scrumtogetherapi.entities.User;
+import fr.scrumtogether.scrumtogetherapi.entities.enums.TeamRole;
 import fr.scrumtogether.scrumtogetherapi.exceptions.EntityNotFoundException;
 import fr.scrumtogether.scrumtogetherapi.exceptions.TeamException;
+import fr.scrumtogether.scrumtogetherapi.exceptions.ValidationException;
 import fr.scrumtogether.scrumtogetherapi.mappers.TeamMapper;
 import fr.scrumtogether.scrumtogetherapi.repositories.TeamRepository;
 import fr.scrumtogether.scrumtogetherapi.repositories.UserRepository;
+import fr.scrumtogether.scrumtogetherapi.repositories.projections.TeamMemberView;
+import fr.scrumtogether.scrumtogetherapi.repositories.projections.TeamProjectView;
+import fr.scrumtogether.scrumtogetherapi.repositories.projections.TeamSummary;
+import fr.scrumtogether.scrumtogetherapi.repositories.projections.TeamView;
+import fr.scrumtogether.scrumtogetherapi.utils.KeysetCursor;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.RequestBody;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @RequiredArgsConstructor
 @Slf4j
 @Service
 public class TeamService {
+    private static final int MAX_MEMBERS_PER_REQUEST = 1_000;
+    private static final String INSERT_MEMBER_SQL =
+            "insert into team_user (user_id, team_id, team_role) values (?, ?, ?)";
+    private static final String UPDATE_MEMBER_ROLE_SQL =
+            "update team_user set team_role = ? where user_id = ? and team_id = ?";
+    private static final String DELETE_MEMBER_SQL =
+            "delete from team_user where user_id = ? and team_id = ?";
+
     private final TeamRepository teamRepository;
     private final TeamMapper teamMapper;
     private final UserRepository userRepository;
+    private final JdbcTemplate jdbcTemplate;
 
+    /**
+     * Reads one page of teams as list rows. The page costs three queries (plus the count)
+     * whatever the number of members and projects: teams, then members and projects of the whole page.
+     */
     @Transactional(readOnly = true)
-    public Page<Team> getAll(Integer pageNumber, Integer pageSize) {
+    public Page<TeamView> getAll(Integer pageNumber, Integer pageSize) {
         log.debug("Getting all users - paginated");
 
         // Validate and set default page number
@@ -37,15 +70,73 @@ public class TeamService {
                 .filter(page -> page > 0)
                 .orElse(0);
 
-        // Validate and set default page size with upper bound
-        int validatedPageSize = Optional.ofNullable(pageSize)
-                .filter(size -> size > 0 && size <= 100)
-                .orElse(20);
+        int validatedPageSize = validatePageSize(pageSize);
 
         log.debug("Using page number: {}, page size: {}", validatedPageNumber, validatedPageSize);
 
         PageRequest pageRequest = PageRequest.of(validatedPageNumber, validatedPageSize);
-        return teamRepository.findAll(pageRequest);
+        Page<TeamSummary> teams = teamRepository.findSummaries(pageRequest);
+        return teams.map(viewsOf(teams.getContent()));
+    }
+
+    /**
+     * Reads one page of teams in keyset mode: the page starts right after the given cursor and
+     * no total count is computed, so every page costs the same regardless of its depth.
+     *
+     * @param after    the cursor of the last team of the previous page, or blank for the first page
+     * @param pageSize the requested page size
+     * @return the page, telling whether a next one exists
+     */
+    @Transactional(readOnly = true)
+    public Slice<TeamView> getAllAfter(String after, Integer pageSize) {
+        log.debug("Getting all teams - keyset paginated");
+
+        PageRequest pageRequest = PageRequest.of(0, validatePageSize(pageSize));
+        Slice<TeamSummary> teams;
+        if (after == null || after.isBlank()) {
+            teams = teamRepository.findFirstKeysetPage(pageRequest);
+        } else {
+            KeysetCursor cursor = KeysetCursor.decode(after);
+            teams = teamRepository.findKeysetPageAfter(cursor.getSortValue(), cursor.getId(), pageRequest);
+        }
+        return teams.map(viewsOf(teams.getContent()));
+    }
+
+    /**
+     * Builds the cursor pointing right after the given team.
+     *
+     * @param team the last team of a page
+     * @return the cursor
+     */
+    public KeysetCursor cursorOf(TeamView team) {
+        return new KeysetCursor(team.getTeam().getName(), team.getTeam().getId());
+    }
+
+    /**
+     * Loads the members and projects of a page of teams in one query each, and returns the
+     * function attaching them to each team.
+     */
+    private Function<TeamSummary, TeamView> viewsOf(List<TeamSummary> teams) {
+        if (teams.isEmpty()) {
+            return team -> new TeamView(team, List.of(), List.of());
+        }
+
+        List<Long> teamIds = teams.stream().map(TeamSummary::getId).toList();
+        Map<Long, List<TeamMemberView>> members = teamRepository.findMembersOfTeams(teamIds).stream()
+                .collect(Collectors.groupingBy(TeamMemberView::getTeamId));
+        Map<Long, List<TeamProjectView>> projects = teamRepository.findProjectsOfTeams(teamIds).stream()
+                .collect(Collectors.groupingBy(TeamProjectView::getTeamId));
+
+        return team -> new TeamView(team,
+                members.getOrDefault(team.getId(), List.of()),
+                projects.getOrDefault(team.getId(), List.of()));
+    }
+
+    private int validatePageSize(Integer pageSize) {
+        // Validate and set default page size with upper bound
+        return Optional.ofNullable(pageSize)
+                .filter(size -> size > 0 && size <= 100)
+                .orElse(20);
     }
 
     @Transactional(readOnly = true)
@@ -59,13 +150,13 @@ public class TeamService {
         Team team = teamRepository.findById(teamDto.getId())
                 .orElseThrow(() -> new EntityNotFoundException("User not found"));
         teamMapper.updateEntity(team, teamDto);
+        Map<TeamUserId, TeamUser> teamUsers = team.getTeamUsers().stream()
+                .collect(Collectors.toMap(TeamUser::getId, Function.identity()));
         teamDto.getTeamUsers().forEach(teamUserDto -> {
-            team.getTeamUsers().stream()
-                    .filter(teamUser -> teamUser.getId().equals(teamUserDto.getId()))
-                    .findFirst()
-                    .ifPresent(teamUser -> {
-                        teamUserUpdate(teamUser, teamUserDto, team);
-                    });
+            TeamUser teamUser = teamUsers.get(teamUserDto.getId());
+            if (teamUser != null) {
+                teamUserUpdate(teamUser, teamUserDto, team);
+            }
         });
 
         //TODO gérer les projects
@@ -81,6 +172,127 @@ public class TeamService {
         return update(teamDto);
     }
 
+    /**
+     * Adds members to a team, or changes the role of those already in it.
+     * <p>
+     * All usernames are resolved with one query and diffed against the current membership in memory;
+     * inserts and role changes are then written as two JDBC batches, in the same transaction.
+     * Unknown usernames fail the whole request.
+     *
+     * @param teamId  the team id
+     * @param members the members, by username, with their role (member when absent)
+     * @return the counts of added, updated and unchanged members
+     */
+    @Transactional
+    public TeamMembershipReport addMembers(Long teamId, List<TeamUserDto> members) {
+        validateMembershipRequest(members);
+        Map<String, TeamRole> requested = new LinkedHashMap<>();
+        members.forEach(member -> {
+            if (member.getUserUsername() == null || member.getUserUsername().isBlank()) {
+                throw new ValidationException("Every member must have a username");
+            }
+            requested.put(User.normalizeKey(member.getUserUsername()),
+                    Optional.ofNullable(member.getTeamRole()).orElse(TeamRole.MEMBER));
+        });
+        log.debug("Adding {} members to team {}", requested.size(), teamId);
+
+        Map<String, Long> userIds = resolveUsers(teamId, requested.keySet());
+        Map<Long, TeamRole> current = currentMembers(teamId);
+
+        List<Object[]> inserts = new ArrayList<>();
+        List<Object[]> roleChanges = new ArrayList<>();
+        requested.forEach((username, role) -> {
+            Long userId = userIds.get(username);
+            TeamRole currentRole = current.get(userId);
+            if (!current.containsKey(userId)) {
+                inserts.add(new Object[]{userId, teamId, role.name()});
+            } else if (currentRole != role) {
+                roleChanges.add(new Object[]{role.name(), userId, teamId});
+            }
+        });
+
+        if (!inserts.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_MEMBER_SQL, inserts);
+        }
+        if (!roleChanges.isEmpty()) {
+            jdbcTemplate.batchUpdate(UPDATE_MEMBER_ROLE_SQL, roleChanges);
+        }
+
+        log.info("Team {} membership updated: {} added, {} role changes", teamId, inserts.size(), roleChanges.size());
+        return new TeamMembershipReport(inserts.size(), roleChanges.size(), 0,
+                requested.size() - inserts.size() - roleChanges.size());
+    }
+
+    /**
+     * Removes members from a team, as one JDBC batch. Usernames that are not members are ignored;
+     * unknown usernames fail the whole request.
+     *
+     * @param teamId    the team id
+     * @param usernames the usernames of the members to remove
+     * @return the counts of removed and unchanged members
+     */
+    @Transactional
+    public TeamMembershipReport removeMembers(Long teamId, List<String> usernames) {
+        validateMembershipRequest(usernames);
+        Set<String> requested = new LinkedHashSet<>();
+        usernames.forEach(username -> {
+            if (username == null || username.isBlank()) {
+                throw new ValidationException("Every member must have a username");
+            }
+            requested.add(User.normalizeKey(username));
+        });
+        log.debug("Removing {} members from team {}", requested.size(), teamId);
+
+        Map<String, Long> userIds = resolveUsers(teamId, requested);
+        Map<Long, TeamRole> current = currentMembers(teamId);
+
+        List<Object[]> deletes = userIds.values().stream()
+                .filter(current::containsKey)
+                .map(userId -> new Object[]{userId, teamId})
+                .toList();
+        if (!deletes.isEmpty()) {
+            jdbcTemplate.batchUpdate(DELETE_MEMBER_SQL, deletes);
+        }
+
+        log.info("Team {} membership updated: {} removed", teamId, deletes.size());
+        return new TeamMembershipReport(0, 0, deletes.size(), requested.size() - deletes.size());
+    }
+
+    private void validateMembershipRequest(List<?> members) {
+        if (members == null || members.isEmpty()) {
+            throw new ValidationException("At least one member is required");
+        }
+        if (members.size() > MAX_MEMBERS_PER_REQUEST) {
+            throw new ValidationException("At most " + MAX_MEMBERS_PER_REQUEST + " members can be changed at once");
+        }
+    }
+
+    /**
+     * Resolves the normalized usernames to user ids with one {@code IN} query, after checking the team exists.
+     */
+    private Map<String, Long> resolveUsers(Long teamId, Set<String> usernames) {
+        if (!teamRepository.existsById(teamId)) {
+            throw new EntityNotFoundException("Team not found");
+        }
+
+        Map<String, Long> userIds = new HashMap<>();
+        for (Object[] row : userRepository.findIdsByUsernameKeyIn(usernames)) {
+            userIds.put((String) row[1], (Long) row[0]);
+        }
+        List<String> unknown = usernames.stream().filter(username -> !userIds.containsKey(username)).toList();
+        if (!unknown.isEmpty()) {
+            throw new EntityNotFoundException("Users not found: " + String.join(", ", unknown));
+        }
+        return userIds;
+    }
+
+    private Map<Long, TeamRole> currentMembers(Long teamId) {
+        Map<Long, TeamRole> members = new HashMap<>();
+        teamRepository.findMembersOfTeams(List.of(teamId))
+                .forEach(member -> members.put(member.getUserId(), member.getTeamRole()));
+        return members;
+    }
+
     @Transactional
     public void delete(Long id) {
         Optional<Team> team = teamRepository.findById(id);
@@ -105,16 +317,6 @@ public class TeamService {
         }
     }
 
-    private TeamUser teamUserFromDto(TeamUserDto teamUserDto, Team team) {
-        log.debug("association d'un utilisateur et d'une team, for user: {} ; and for team: {}", teamUserDto.getUserUsername(), team.getName());
-        User user = userRepository.findByUsernameAndDeletedAtIsNull(teamUserDto.getUserUsername()).orElseThrow(() -> new EntityNotFoundException("User " + teamUserDto.getUserUsername() + " not find"));
-        return TeamUser.builder()
-                .team(team)
-                .user(user)
-                .teamRole(teamUserDto.getTeamRole())
-                .build();
-    }
-
     private void teamUserUpdate(TeamUser teamUser, TeamUserDto teamUserDto, Team team) {
         log.debug("association d'un utilisateur et d'une team, for user: {} ; and for team: {}", teamUserDto.getUserUsername(), team.getName());
         if (!team.getId().equals(teamUser.getTeam().getId())) {
@@ -0,0 +1,180 @@
+package fr.scrumtogether.scrumtogetherapi.services;
+
+import com.google.common.hash.BloomFilter;
+import com.google.common.hash.Funnels;
+import fr.scrumtogether.scrumtogetherapi.entities.User;
+import fr.scrumtogether.scrumtogetherapi.repositories.UserRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * Answers username and email availability checks, mostly without touching the database.
+ * <p>
+ * A Bloom filter per field holds the normalized keys of live users. A key absent from the
+ * filter is definitely free; only a possible hit is confirmed with the indexed
+ * {@code existsBy*Key} query. Keys released by deleted users stay in the filters until the
+ * next rebuild, which only costs a database probe.
+ * <p>
+ * The filters are per node, rebuilt from the database at startup and whenever they outgrow their
+ * expected size, and fed by the services creating users once their transaction has committed.
+ * Their memory, expected false positive rate and observed outcomes are published as metrics.
+ */
+@Slf4j
+@Component
+public class UserAvailabilityRegistry {
+    private static final String METRIC_PREFIX = "user.availability";
+    private static final double FALSE_POSITIVE_PROBABILITY = 0.01;
+    private static final int REBUILD_PAGE_SIZE = 10_000;
+
+    private final UserRepository userRepository;
+    private final Checks usernameChecks;
+    private final Checks emailChecks;
+
+    private volatile int expectedInsertions;
+    private volatile BloomFilter<CharSequence> usernames;
+    private volatile BloomFilter<CharSequence> emails;
+
+    public UserAvailabilityRegistry(UserRepository userRepository,
+                                    MeterRegistry meterRegistry,
+                                    @Value("${user.availability.expected-insertions:100000}") int expectedInsertions) {
+        this.userRepository = userRepository;
+        this.expectedInsertions = expectedInsertions;
+        this.usernameChecks = new Checks("username", meterRegistry);
+        this.emailChecks = new Checks("email", meterRegistry);
+
+        Gauge.builder(METRIC_PREFIX + ".bloom.memory", this, registry -> 2 * registry.bitsPerFilter() / 8.0)
+                .description("Memory held by the availability Bloom filters")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".bloom.expected.fpp", this, registry -> registry.usernames.expectedFpp())
+                .description("Expected false positive probability of the username filter")
+                .tag("field", "username")
+                .register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".bloom.expected.fpp", this, registry -> registry.emails.expectedFpp())
+                .description("Expected false positive probability of the email filter")
+                .tag("field", "email")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Loads the keys of every live user in fresh filters, sized for twice their number.
+     */
+    @PostConstruct
+    synchronized void rebuild() {
+        long count = userRepository.countByDeletedAtIsNull();
+        while (expectedInsertions < count * 2) {
+            expectedInsertions *= 2;
+        }
+
+        BloomFilter<CharSequence> newUsernames = newFilter();
+        BloomFilter<CharSequence> newEmails = newFilter();
+        long afterId = 0;
+        List<Object[]> page;
+        do {
+            page = userRepository.findKeysAfter(afterId, PageRequest.of(0, REBUILD_PAGE_SIZE));
+            for (Object[] keys : page) {
+                afterId = (Long) keys[0];
+                putIfPresent(newUsernames, (String) keys[1]);
+                putIfPresent(newEmails, (String) keys[2]);
+            }
+        } while (page.size() == REBUILD_PAGE_SIZE);
+
+        usernames = newUsernames;
+        emails = newEmails;
+        log.info("User availability filters rebuilt for {} users ({} expected insertions)", count, expectedInsertions);
+    }
+
+    /**
+     * @param username the raw username
+     * @return true if no live user holds this username
+     */
+    public boolean isUsernameAvailable(String username) {
+        return usernameChecks.isAvailable(usernames, User.normalizeKey(username), userRepository::existsByUsernameKey);
+    }
+
+    /**
+     * @param email the raw email
+     * @return true if no live user holds this email
+     */
+    public boolean isEmailAvailable(String email) {
+        return emailChecks.isAvailable(emails, User.normalizeKey(email), userRepository::existsByEmailKey);
+    }
+
+    /**
+     * Records the username and email of a user that has been created, restored or has changed them.
+     *
+     * @param username the raw username, may be null
+     * @param email    the raw email, may be null
+     */
+    public synchronized void record(String username, String email) {
+        putIfPresent(usernames, User.normalizeKey(username));
+        putIfPresent(emails, User.normalizeKey(email));
+
+        if (usernames.approximateElementCount() > expectedInsertions
+                || emails.approximateElementCount() > expectedInsertions) {
+            expectedInsertions *= 2;
+            rebuild();
+        }
+    }
+
+    private BloomFilter<CharSequence> newFilter() {
+        return BloomFilter.create(Funnels.stringFunnel(StandardCharsets.UTF_8), expectedInsertions, FALSE_POSITIVE_PROBABILITY);
+    }
+
+    private long bitsPerFilter() {
+        // Same sizing formula as BloomFilter.create
+        return (long) (-expectedInsertions * Math.log(FALSE_POSITIVE_PROBABILITY) / (Math.log(2) * Math.log(2)));
+    }
+
+    private static void putIfPresent(BloomFilter<CharSequence> filter, String key) {
+        if (key != null) {
+            filter.put(key);
+        }
+    }
+
+    /**
+     * Outcome counters of the checks of one field.
+     */
+    private static final class Checks {
+        private final Counter definitelyFree;
+        private final Counter confirmedTaken;
+        private final Counter falsePositives;
+
+        private Checks(String field, MeterRegistry meterRegistry) {
+            this.definitelyFree = counter(meterRegistry, field, "definitely_free");
+            this.confirmedTaken = counter(meterRegistry, field, "taken");
+            this.falsePositives = counter(meterRegistry, field, "false_positive");
+        }
+
+        private static Counter counter(MeterRegistry meterRegistry, String field, String outcome) {
+            return Counter.builder(METRIC_PREFIX + ".checks")
+                    .description("Availability checks by outcome; only non definitely_free outcomes query the database")
+                    .tag("field", field)
+                    .tag("outcome", outcome)
+                    .register(meterRegistry);
+        }
+
+        private boolean isAvailable(BloomFilter<CharSequence> filter, String key, Predicate<String> existsInDatabase) {
+            if (!filter.mightContain(key)) {
+                definitelyFree.increment();
+                return true;
+            }
+            if (existsInDatabase.test(key)) {
+                confirmedTaken.increment();
+                return false;
+            }
+            falsePositives.increment();
+            return true;
+        }
+    }
+}
@@ -0,0 +1,366 @@
+package fr.scrumtogether.scrumtogetherapi.services;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import fr.scrumtogether.scrumtogetherapi.config.BulkImportConfig;
+import fr.scrumtogether.scrumtogetherapi.dtos.BulkImportReport;
+import fr.scrumtogether.scrumtogetherapi.dtos.BulkImportRowResult;
+import fr.scrumtogether.scrumtogetherapi.dtos.RegistrationDto;
+import fr.scrumtogether.scrumtogetherapi.dtos.UserSearchResult;
+import fr.scrumtogether.scrumtogetherapi.entities.User;
+import fr.scrumtogether.scrumtogetherapi.entities.enums.Role;
+import fr.scrumtogether.scrumtogetherapi.exceptions.ValidationException;
+import fr.scrumtogether.scrumtogetherapi.repositories.UserRepository;
+import fr.scrumtogether.scrumtogetherapi.security.BoundedPasswordEncoder;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * Imports users in bulk from a JSON array or a CSV document of registrations.
+ * <p>
+ * The payload is read as a stream and processed in chunks, so its size is not bounded by the heap.
+ * For each chunk, usernames and emails are deduplicated in memory against the whole import,
+ * checked against the database with one set-based query, passwords are hashed in parallel on the
+ * password hashing pool, and the rows are inserted with a JDBC batch in their own transaction.
+ * A failing chunk does not undo the previous ones; every row gets its own outcome in the report.
+ * Created users are added to the {@link UserSearchIndex} and the {@link UserAvailabilityRegistry}
+ * once their chunk has committed.
+ */
+@RequiredArgsConstructor
+@Slf4j
+@Service
+public class UserImportService {
+    private static final String INSERT_USER_SQL = "insert into user " +
+            "(last_name, first_name, email, username, username_key, email_key, password, role, verified_email, version, created_at, updated_at) " +
+            "values (?, ?, ?, ?, ?, ?, ?, ?, ?, 0, ?, ?)";
+    private static final List<String> CSV_REQUIRED_COLUMNS = List.of("lastname", "firstname", "email", "username", "password");
+
+    private final UserRepository userRepository;
+    private final BoundedPasswordEncoder passwordEncoder;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final BulkImportConfig config;
+    private final UserSearchIndex userSearchIndex;
+    private final UserAvailabilityRegistry userAvailabilityRegistry;
+
+    /**
+     * Imports the registrations of a JSON array. Reading stops at the first malformed element.
+     *
+     * @param input the JSON array
+     * @return the per-row report
+     * @throws IOException if the payload cannot be read
+     */
+    public BulkImportReport importJson(InputStream input) throws IOException {
+        Import userImport = new Import();
+        try (JsonParser parser = objectMapper.getFactory().createParser(input)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new ValidationException("Expected a JSON array of registrations");
+            }
+
+            int row = 0;
+            while (parser.nextToken() != JsonToken.END_ARRAY) {
+                row++;
+                if (!userImport.hasRoomFor(row)) {
+                    break;
+                }
+                if (parser.currentToken() != JsonToken.START_OBJECT) {
+                    userImport.stop(row, "Expected a registration object");
+                    break;
+                }
+                try {
+                    userImport.accept(row, objectMapper.readValue(parser, RegistrationDto.class));
+                } catch (JsonProcessingException e) {
+                    userImport.stop(row, "Malformed registration: " + e.getOriginalMessage());
+                    break;
+                }
+            }
+        } catch (JsonParseException e) {
+            userImport.stop(userImport.lastRow() + 1, "Malformed JSON: " + e.getOriginalMessage());
+        }
+        return userImport.finish();
+    }
+
+    /**
+     * Imports the registrations of a CSV document. The first line names the columns:
+     * {@code lastName}, {@code firstName}, {@code email}, {@code username}, {@code password}
+     * and optionally {@code confirmPassword}, which defaults to the password.
+     * Quoted fields are supported, multi-line fields are not.
+     *
+     * @param input the CSV document, UTF-8 encoded
+     * @return the per-row report
+     * @throws IOException if the payload cannot be read
+     */
+    public BulkImportReport importCsv(InputStream input) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+        String header = reader.readLine();
+        if (header == null) {
+            throw new ValidationException("The CSV document is empty");
+        }
+
+        Map<String, Integer> columns = new HashMap<>();
+        List<String> names = parseCsvLine(header);
+        for (int i = 0; i < names.size(); i++) {
+            columns.put(names.get(i).trim().toLowerCase(Locale.ROOT), i);
+        }
+        List<String> missing = CSV_REQUIRED_COLUMNS.stream().filter(name -> !columns.containsKey(name)).toList();
+        if (!missing.isEmpty()) {
+            throw new ValidationException("Missing CSV columns: " + String.join(", ", missing));
+        }
+
+        Import userImport = new Import();
+        int row = 0;
+        String line;
+        while ((line = reader.readLine()) != null) {
+            if (line.isBlank()) {
+                continue;
+            }
+            row++;
+            if (!userImport.hasRoomFor(row)) {
+                break;
+            }
+
+            List<String> fields = parseCsvLine(line);
+            String password = csvField(fields, columns, "password");
+            String confirmPassword = columns.containsKey("confirmpassword")
+                    ? csvField(fields, columns, "confirmpassword")
+                    : password;
+            userImport.accept(row, RegistrationDto.builder()
+                    .lastName(csvField(fields, columns, "lastname"))
+                    .firstName(csvField(fields, columns, "firstname"))
+                    .email(csvField(fields, columns, "email"))
+                    .username(csvField(fields, columns, "username"))
+                    .password(password)
+                    .confirmPassword(confirmPassword)
+                    .build());
+        }
+        return userImport.finish();
+    }
+
+    private String csvField(List<String> fields, Map<String, Integer> columns, String name) {
+        int index = columns.get(name);
+        return index < fields.size() ? fields.get(index) : null;
+    }
+
+    static List<String> parseCsvLine(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    private record Candidate(int row, RegistrationDto registration, String usernameKey, String emailKey) {
+    }
+
+    /**
+     * State of one import: the rows seen so far and the chunk waiting to be written.
+     */
+    private final class Import {
+        private final Set<String> seenUsernames = new HashSet<>();
+        private final Set<String> seenEmails = new HashSet<>();
+        private final List<BulkImportRowResult> results = new ArrayList<>();
+        private final List<Candidate> chunk = new ArrayList<>();
+        private int lastRow;
+
+        boolean hasRoomFor(int row) {
+            if (row <= config.getMaxRows()) {
+                return true;
+            }
+            stop(row, "An import is limited to " + config.getMaxRows() + " rows, remaining rows were ignored");
+            return false;
+        }
+
+        int lastRow() {
+            return lastRow;
+        }
+
+        void accept(int row, RegistrationDto registration) {
+            lastRow = row;
+            Set<ConstraintViolation<RegistrationDto>> violations = validator.validate(registration);
+            if (!violations.isEmpty()) {
+                results.add(BulkImportRowResult.rejected(row, registration.getUsername(), violations.stream()
+                        .map(ConstraintViolation::getMessage)
+                        .sorted()
+                        .collect(Collectors.joining("; "))));
+                return;
+            }
+
+            String usernameKey = User.normalizeKey(registration.getUsername());
+            String emailKey = User.normalizeKey(registration.getEmail());
+            if (!seenUsernames.add(usernameKey)) {
+                results.add(BulkImportRowResult.rejected(row, registration.getUsername(), "Duplicate username in import"));
+                return;
+            }
+            if (!seenEmails.add(emailKey)) {
+                results.add(BulkImportRowResult.rejected(row, registration.getUsername(), "Duplicate email in import"));
+                return;
+            }
+
+            chunk.add(new Candidate(row, registration, usernameKey, emailKey));
+            if (chunk.size() >= config.getChunkSize()) {
+                flush();
+            }
+        }
+
+        void stop(int row, String message) {
+            results.add(BulkImportRowResult.rejected(row, null, message));
+        }
+
+        BulkImportReport finish() {
+            flush();
+            results.sort(Comparator.comparingInt(BulkImportRowResult::getRow));
+            BulkImportReport report = BulkImportReport.of(results);
+            log.info("Bulk import finished: {} rows, {} created, {} rejected",
+                    report.getTotal(), report.getCreated(), report.getRejected());
+            return report;
+        }
+
+        private void flush() {
+            if (chunk.isEmpty()) {
+                return;
+            }
+
+            Set<String> takenUsernames = new HashSet<>();
+            Set<String> takenEmails = new HashSet<>();
+            userRepository.findUsernamesAndEmailsIn(
+                    chunk.stream().map(Candidate::usernameKey).toList(),
+                    chunk.stream().map(Candidate::emailKey).toList()
+            ).forEach(taken -> {
+                takenUsernames.add((String) taken[0]);
+                takenEmails.add((String) taken[1]);
+            });
+
+            List<Candidate> accepted = new ArrayList<>(chunk.size());
+            for (Candidate candidate : chunk) {
+                if (takenUsernames.contains(candidate.usernameKey())) {
+                    results.add(BulkImportRowResult.rejected(candidate.row(), candidate.registration().getUsername(), "Username already exists"));
+                } else if (takenEmails.contains(candidate.emailKey())) {
+                    results.add(BulkImportRowResult.rejected(candidate.row(), candidate.registration().getUsername(), "Email already exists"));
+                } else {
+                    accepted.add(candidate);
+                }
+            }
+            chunk.clear();
+
+            if (!accepted.isEmpty()) {
+                List<String> hashes = passwordEncoder.encodeAll(accepted.stream()
+                        .map(candidate -> candidate.registration().getPassword())
+                        .toList());
+                insert(accepted, hashes);
+            }
+        }
+
+        private void insert(List<Candidate> accepted, List<String> hashes) {
+            Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+            try {
+                KeyHolder keyHolder = new GeneratedKeyHolder();
+                transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(
+                        connection -> connection.prepareStatement(INSERT_USER_SQL, new String[]{"id"}),
+                        new BatchPreparedStatementSetter() {
+                            @Override
+                            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                                bind(ps, accepted.get(i), hashes.get(i), now);
+                            }
+
+                            @Override
+                            public int getBatchSize() {
+                                return accepted.size();
+                            }
+                        },
+                        keyHolder));
+                for (int i = 0; i < accepted.size(); i++) {
+                    created(accepted.get(i), keyHolder.getKeyList().get(i));
+                }
+            } catch (DataIntegrityViolationException e) {
+                // A concurrent registration took one of the names after the check: isolate it row by row
+                log.warn("Bulk insert conflicted with concurrent registrations, retrying rows one by one");
+                for (int i = 0; i < accepted.size(); i++) {
+                    Candidate candidate = accepted.get(i);
+                    String hash = hashes.get(i);
+                    try {
+                        KeyHolder keyHolder = new GeneratedKeyHolder();
+                        transactionTemplate.executeWithoutResult(status -> jdbcTemplate.update(connection -> {
+                            PreparedStatement ps = connection.prepareStatement(INSERT_USER_SQL, new String[]{"id"});
+                            bind(ps, candidate, hash, now);
+                            return ps;
+                        }, keyHolder));
+                        created(candidate, keyHolder.getKeyList().get(0));
+                    } catch (DataIntegrityViolationException conflict) {
+                        results.add(BulkImportRowResult.rejected(candidate.row(), candidate.registration().getUsername(),
+                                "Username or email already exists"));
+                    }
+                }
+            }
+        }
+
+        private void created(Candidate candidate, Map<String, Object> keys) {
+            RegistrationDto registration = candidate.registration();
+            Long id = ((Number) keys.values().iterator().next()).longValue();
+            userSearchIndex.index(new UserSearchResult(id, registration.getUsername(), candidate.emailKey(),
+                    registration.getFirstName(), registration.getLastName()));
+            userAvailabilityRegistry.record(registration.getUsername(), registration.getEmail());
+            results.add(BulkImportRowResult.created(candidate.row(), registration.getUsername()));
+        }
+
+        private void bind(PreparedStatement ps, Candidate candidate, String hash, Timestamp now) throws SQLException {
+            RegistrationDto registration = candidate.registration();
+            ps.setString(1, registration.getLastName());
+            ps.setString(2, registration.getFirstName());
+            ps.setString(3, candidate.emailKey());
+            ps.setString(4, registration.getUsername());
+            ps.setString(5, candidate.usernameKey());
+            ps.setString(6, candidate.emailKey());
+            ps.setString(7, hash);
+            ps.setString(8, Role.DEFAULT.name());
+            ps.setBoolean(9, false);
+            ps.setTimestamp(10, now);
+            ps.setTimestamp(11, now);
+        }
+    }
+}
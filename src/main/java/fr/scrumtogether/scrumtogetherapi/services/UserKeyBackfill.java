@@ -0,0 +1,81 @@
+package fr.scrumtogether.scrumtogetherapi.services;
+
+import fr.scrumtogether.scrumtogetherapi.entities.User;
+import fr.scrumtogether.scrumtogetherapi.repositories.UserRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.DatabaseMetaData;
+import java.util.List;
+
+/**
+ * Migrates, at startup, the users written before {@link User#getUsernameKey()} and
+ * {@link User#getEmailKey()} existed.
+ * <p>
+ * The unique constraints once declared on the raw {@code username} and {@code email} columns are
+ * dropped, since {@code ddl-auto: update} never drops constraints and they would keep deleted
+ * users holding their names. Uniqueness among live users is enforced by the unique indexes on the
+ * keys instead, which are then filled for the existing rows.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class UserKeyBackfill {
+    private static final String LEGACY_UNIQUE_CONSTRAINTS_SQL =
+            "select tc.constraint_name from information_schema.table_constraints tc " +
+                    "join information_schema.key_column_usage kcu on kcu.constraint_name = tc.constraint_name " +
+                    "and kcu.table_schema = tc.table_schema and kcu.table_name = tc.table_name " +
+                    "where tc.constraint_type = 'UNIQUE' and lower(tc.table_name) = 'user' and tc.table_schema = ? " +
+                    "group by tc.constraint_name " +
+                    "having count(*) = 1 and max(lower(kcu.column_name)) in ('username', 'email')";
+
+    private final UserRepository userRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    @PostConstruct
+    void migrate() {
+        dropLegacyUniqueConstraints();
+        backfill();
+    }
+
+    /**
+     * Drops the single-column unique constraints on {@code user.username} and {@code user.email}.
+     *
+     * @return the number of constraints dropped
+     */
+    int dropLegacyUniqueConstraints() {
+        return jdbcTemplate.execute((ConnectionCallback<Integer>) connection -> {
+            DatabaseMetaData metaData = connection.getMetaData();
+            String product = metaData.getDatabaseProductName().toLowerCase();
+            boolean mysql = product.contains("mysql") || product.contains("mariadb");
+            // MySQL and MariaDB expose databases as catalogs, the others as schemas
+            String schema = mysql ? connection.getCatalog() : connection.getSchema();
+
+            List<String> constraints = jdbcTemplate.queryForList(LEGACY_UNIQUE_CONSTRAINTS_SQL, String.class, schema);
+            for (String constraint : constraints) {
+                log.info("Dropping legacy unique constraint {} on user", constraint);
+                jdbcTemplate.execute(mysql
+                        ? "alter table user drop index `" + constraint + "`"
+                        : "alter table user drop constraint \"" + constraint + "\"");
+            }
+            return constraints.size();
+        });
+    }
+
+    void backfill() {
+        try {
+            int updated = userRepository.backfillKeys();
+            if (updated > 0) {
+                log.info("Backfilled normalized username and email keys of {} users", updated);
+            }
+        } catch (DataIntegrityViolationException e) {
+            log.error("Could not backfill normalized user keys: live users share a username or email " +
+                    "differing only by case, they must be fixed by hand", e);
+        }
+    }
+}
@@ -0,0 +1,307 @@
+package fr.scrumtogether.scrumtogetherapi.services;
+
+import fr.scrumtogether.scrumtogetherapi.dtos.UserSearchResult;
+import fr.scrumtogether.scrumtogetherapi.entities.User;
+import fr.scrumtogether.scrumtogetherapi.repositories.UserRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.text.Normalizer;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.regex.Pattern;
+
+/**
+ * In-memory search index over the username, email, first name and last name of live users.
+ * <p>
+ * Every field is split into normalized tokens (lower case, without diacritics). Tokens are kept
+ * in a sorted map, so a prefix query is a range scan. When a term has too few prefix matches,
+ * tokens sharing enough trigrams with it are checked with a bounded prefix edit distance, which
+ * tolerates typos without scanning every token. Several terms must all match.
+ * <p>
+ * The index is rebuilt from the database at startup and kept up to date by the services writing
+ * users, once their transaction has committed. Reads are lock-free; writes are serialized.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class UserSearchIndex {
+    private static final int REBUILD_PAGE_SIZE = 5_000;
+    private static final int MAX_TERM_CANDIDATES = 10_000;
+    private static final int MAX_GRAM_POSTINGS = 20_000;
+    private static final int MIN_FUZZY_TERM_LENGTH = 3;
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+    private static final Pattern NAME_SEPARATORS = Pattern.compile("[\\s-]+");
+
+    private final UserRepository userRepository;
+
+    private final Map<Long, UserSearchResult> users = new ConcurrentHashMap<>();
+    private final ConcurrentSkipListMap<String, Set<Long>> tokens = new ConcurrentSkipListMap<>();
+    private final Map<String, Set<String>> tokensByTrigram = new ConcurrentHashMap<>();
+
+    /**
+     * Loads every live user in the index, page by page.
+     */
+    @PostConstruct
+    void rebuild() {
+        long afterId = 0;
+        List<UserSearchResult> page;
+        do {
+            page = userRepository.findSearchEntriesAfter(afterId, PageRequest.of(0, REBUILD_PAGE_SIZE));
+            page.forEach(this::index);
+            if (!page.isEmpty()) {
+                afterId = page.get(page.size() - 1).getId();
+            }
+        } while (page.size() == REBUILD_PAGE_SIZE);
+
+        log.info("User search index rebuilt with {} users and {} tokens", users.size(), tokens.size());
+    }
+
+    /**
+     * Adds or refreshes a user. A deleted user is removed instead.
+     *
+     * @param user the user as written to the database
+     */
+    public void index(User user) {
+        if (user.isDeleted()) {
+            remove(user.getId());
+        } else {
+            index(UserSearchResult.from(user));
+        }
+    }
+
+    /**
+     * Adds or refreshes the searchable fields of a user.
+     *
+     * @param entry the searchable fields
+     */
+    public synchronized void index(UserSearchResult entry) {
+        UserSearchResult previous = users.put(entry.getId(), entry);
+        if (previous != null) {
+            tokensOf(previous).forEach(token -> unlink(token, previous.getId()));
+        }
+        tokensOf(entry).forEach(token -> link(token, entry.getId()));
+    }
+
+    /**
+     * Removes a user from the index.
+     *
+     * @param id the user id
+     */
+    public synchronized void remove(Long id) {
+        UserSearchResult previous = users.remove(id);
+        if (previous != null) {
+            tokensOf(previous).forEach(token -> unlink(token, id));
+        }
+    }
+
+    /**
+     * Finds the users matching every term of the query, by prefix first and with typos second.
+     * Exact token matches rank first, then prefix matches, then approximate ones.
+     *
+     * @param query the search terms, separated by spaces
+     * @param limit the maximum number of results
+     * @return the best matches, best first
+     */
+    public List<UserSearchResult> search(String query, int limit) {
+        List<String> terms = NAME_SEPARATORS.splitAsStream(normalize(query))
+                .filter(term -> !term.isEmpty())
+                .distinct()
+                .toList();
+        if (terms.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, Integer> scores = null;
+        for (String term : terms) {
+            Map<Long, Integer> termScores = match(term, terms.size() == 1 ? limit : MAX_TERM_CANDIDATES);
+            if (scores == null) {
+                scores = termScores;
+            } else {
+                scores.keySet().retainAll(termScores.keySet());
+                scores.replaceAll((id, score) -> score + termScores.get(id));
+            }
+        }
+
+        return scores.entrySet().stream()
+                .map(entry -> Map.entry(entry.getValue(), users.get(entry.getKey())))
+                .filter(entry -> entry.getValue() != null)
+                .sorted(Map.Entry.<Integer, UserSearchResult>comparingByKey()
+                        .thenComparing(entry -> entry.getValue().getUsername(), String.CASE_INSENSITIVE_ORDER))
+                .limit(limit)
+                .map(Map.Entry::getValue)
+                .toList();
+    }
+
+    /**
+     * Scores the users matching one term: 0 for an exact token, 1 for a prefix,
+     * 2 plus the edit distance for an approximate prefix.
+     */
+    private Map<Long, Integer> match(String term, int wanted) {
+        Map<Long, Integer> matches = new HashMap<>();
+        for (Map.Entry<String, Set<Long>> token : tokens.subMap(term, true, term + Character.MAX_VALUE, true).entrySet()) {
+            int score = token.getKey().equals(term) ? 0 : 1;
+            token.getValue().forEach(id -> matches.merge(id, score, Math::min));
+            if (matches.size() >= MAX_TERM_CANDIDATES) {
+                return matches;
+            }
+        }
+
+        if (matches.size() < wanted && term.length() >= MIN_FUZZY_TERM_LENGTH) {
+            int maxEdits = term.length() <= 5 ? 1 : 2;
+            approximateTokens(term, maxEdits).forEach((token, distance) -> {
+                Set<Long> ids = tokens.get(token);
+                if (ids != null) {
+                    ids.forEach(id -> matches.merge(id, 2 + distance, Math::min));
+                }
+            });
+        }
+        return matches;
+    }
+
+    /**
+     * Finds the tokens starting with a string within {@code maxEdits} edits of the term.
+     * Candidates are the tokens sharing enough leading-anchored trigrams with the term:
+     * one edit changes at most three of them.
+     */
+    private Map<String, Integer> approximateTokens(String term, int maxEdits) {
+        List<String> grams = trigrams(term);
+        Map<String, Integer> sharedGrams = new HashMap<>();
+        int usedGrams = 0;
+        for (String gram : grams) {
+            Set<String> postings = tokensByTrigram.get(gram);
+            if (postings == null) {
+                usedGrams++;
+                continue;
+            }
+            if (postings.size() > MAX_GRAM_POSTINGS) {
+                continue;
+            }
+            usedGrams++;
+            postings.forEach(token -> sharedGrams.merge(token, 1, Integer::sum));
+        }
+
+        int minShared = Math.max(1, usedGrams - 3 * maxEdits);
+        Map<String, Integer> approximate = new HashMap<>();
+        sharedGrams.forEach((token, shared) -> {
+            if (shared >= minShared) {
+                int distance = prefixEditDistance(term, token, maxEdits);
+                if (distance <= maxEdits) {
+                    approximate.put(token, distance);
+                }
+            }
+        });
+        return approximate;
+    }
+
+    /**
+     * Edit distance between the term and the closest prefix of the token,
+     * or {@code maxEdits + 1} when it exceeds {@code maxEdits}.
+     */
+    static int prefixEditDistance(String term, String token, int maxEdits) {
+        int columns = Math.min(token.length(), term.length() + maxEdits);
+        int[] previous = new int[columns + 1];
+        int[] current = new int[columns + 1];
+        for (int j = 0; j <= columns; j++) {
+            previous[j] = j;
+        }
+
+        for (int i = 1; i <= term.length(); i++) {
+            current[0] = i;
+            int rowMin = current[0];
+            for (int j = 1; j <= columns; j++) {
+                int substitution = previous[j - 1] + (term.charAt(i - 1) == token.charAt(j - 1) ? 0 : 1);
+                current[j] = Math.min(substitution, Math.min(previous[j], current[j - 1]) + 1);
+                rowMin = Math.min(rowMin, current[j]);
+            }
+            if (rowMin > maxEdits) {
+                return maxEdits + 1;
+            }
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+
+        int best = Integer.MAX_VALUE;
+        for (int j = 0; j <= columns; j++) {
+            best = Math.min(best, previous[j]);
+        }
+        return Math.min(best, maxEdits + 1);
+    }
+
+    private void link(String token, Long id) {
+        tokens.computeIfAbsent(token, t -> {
+            trigrams(t).forEach(gram -> tokensByTrigram.computeIfAbsent(gram, g -> ConcurrentHashMap.newKeySet()).add(t));
+            return ConcurrentHashMap.newKeySet();
+        }).add(id);
+    }
+
+    private void unlink(String token, Long id) {
+        Set<Long> ids = tokens.get(token);
+        if (ids == null) {
+            return;
+        }
+        ids.remove(id);
+        if (ids.isEmpty()) {
+            tokens.remove(token);
+            trigrams(token).forEach(gram -> {
+                Set<String> postings = tokensByTrigram.get(gram);
+                if (postings != null) {
+                    postings.remove(token);
+                    if (postings.isEmpty()) {
+                        tokensByTrigram.remove(gram);
+                    }
+                }
+            });
+        }
+    }
+
+    private Set<String> tokensOf(UserSearchResult entry) {
+        Set<String> result = new HashSet<>();
+        addToken(result, entry.getUsername());
+        if (entry.getEmail() != null) {
+            String email = normalize(entry.getEmail());
+            result.add(email);
+            int at = email.indexOf('@');
+            if (at > 0) {
+                result.add(email.substring(0, at));
+            }
+        }
+        addNameTokens(result, entry.getFirstName());
+        addNameTokens(result, entry.getLastName());
+        return result;
+    }
+
+    private void addToken(Set<String> result, String value) {
+        if (value != null && !value.isBlank()) {
+            result.add(normalize(value));
+        }
+    }
+
+    private void addNameTokens(Set<String> result, String value) {
+        if (value != null) {
+            NAME_SEPARATORS.splitAsStream(normalize(value))
+                    .filter(token -> !token.isEmpty())
+                    .forEach(result::add);
+        }
+    }
+
+    private static List<String> trigrams(String token) {
+        String padded = "$$" + token;
+        List<String> grams = new ArrayList<>(token.length());
+        for (int i = 0; i + 3 <= padded.length(); i++) {
+            grams.add(padded.substring(i, i + 3));
+        }
+        return grams;
+    }
+
+    private static String normalize(String value) {
+        return DIACRITICS.matcher(Normalizer.normalize(value.trim(), Normalizer.Form.NFD))
+                .replaceAll("")
+                .toLowerCase(Locale.ROOT);
+    }
+}
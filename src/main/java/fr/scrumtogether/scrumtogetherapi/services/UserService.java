@@ -1,25 +1,34 @@
 package fr.scrumtogether.scrumtogetherapi.services;
 
-import com.google.common.util.concurrent.RateLimiter;
-import fr.scrumtogether.scrumtogetherapi.config.RateLimitConfig;
 import fr.scrumtogether.scrumtogetherapi.dtos.UserDto;
+import fr.scrumtogether.scrumtogetherapi.dtos.UserSearchResult;
 import fr.scrumtogether.scrumtogetherapi.entities.User;
 import fr.scrumtogether.scrumtogetherapi.entities.enums.Role;
 import fr.scrumtogether.scrumtogetherapi.exceptions.*;
 import fr.scrumtogether.scrumtogetherapi.repositories.UserRepository;
+import fr.scrumtogether.scrumtogetherapi.repositories.projections.UserSummary;
+import fr.scrumtogether.scrumtogetherapi.security.AuthenticatedUser;
+import fr.scrumtogether.scrumtogetherapi.security.TokenRevocationRegistry;
+import fr.scrumtogether.scrumtogetherapi.utils.KeysetCursor;
 import fr.scrumtogether.scrumtogetherapi.utils.SecurityUtils;
+import fr.scrumtogether.scrumtogetherapi.utils.TransactionUtils;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.BeanWrapper;
+import org.springframework.beans.BeanWrapperImpl;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.validation.annotation.Validated;
 
 import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
-import java.util.concurrent.TimeUnit;
 
 @RequiredArgsConstructor
 @Slf4j
@@ -27,13 +36,22 @@ import java.util.concurrent.TimeUnit;
 @Validated
 @PreAuthorize("isAuthenticated()")
 public class UserService {
+    /**
+     * Properties recorded in audit snapshots; updates record the subset they change.
+     */
+    private static final List<String> AUDITED_PROPERTIES = List.of(
+            "username", "email", "firstName", "lastName", "role", "verifiedEmail", "deletedAt", "deletedBy");
+    private static final List<String> DELETION_PROPERTIES = List.of("deletedAt", "deletedBy");
+
     private final UserRepository userRepository;
     private final SecurityUtils securityUtils;
-    private final RateLimitConfig rateLimitConfig;
     private final AuditService auditService;
+    private final TokenRevocationRegistry tokenRevocationRegistry;
+    private final UserSearchIndex userSearchIndex;
+    private final UserAvailabilityRegistry userAvailabilityRegistry;
 
     @Transactional(readOnly = true)
-    public Page<User> getAll(Integer pageNumber, Integer pageSize) {
+    public Page<UserSummary> getAll(Integer pageNumber, Integer pageSize) {
         log.debug("Getting all users - paginated");
 
         // Validate and set default page number
@@ -41,15 +59,68 @@ public class UserService {
                 .filter(page -> page > 0)
                 .orElse(0);
 
+        int validatedPageSize = validatePageSize(pageSize);
+
+        log.debug("Using page number: {}, page size: {}", validatedPageNumber, validatedPageSize);
+
+        PageRequest pageRequest = PageRequest.of(validatedPageNumber, validatedPageSize);
+        return userRepository.findSummaries(pageRequest);
+    }
+
+    /**
+     * Reads one page of users in keyset mode: the page starts right after the given cursor and
+     * no total count is computed, so every page costs the same regardless of its depth.
+     *
+     * @param after    the cursor of the last user of the previous page, or blank for the first page
+     * @param pageSize the requested page size
+     * @return the page, telling whether a next one exists
+     */
+    @Transactional(readOnly = true)
+    public Slice<UserSummary> getAllAfter(String after, Integer pageSize) {
+        log.debug("Getting all users - keyset paginated");
+
+        PageRequest pageRequest = PageRequest.of(0, validatePageSize(pageSize));
+        if (after == null || after.isBlank()) {
+            return userRepository.findFirstKeysetPage(pageRequest);
+        }
+
+        KeysetCursor cursor = KeysetCursor.decode(after);
+        return userRepository.findKeysetPageAfter(cursor.getSortValue(), cursor.getId(), pageRequest);
+    }
+
+    /**
+     * Builds the cursor pointing right after the given user.
+     *
+     * @param user the last user of a page
+     * @return the cursor
+     */
+    public KeysetCursor cursorOf(UserSummary user) {
+        return new KeysetCursor(user.getUsername(), user.getId());
+    }
+
+    private int validatePageSize(Integer pageSize) {
         // Validate and set default page size with upper bound
-        int validatedPageSize = Optional.ofNullable(pageSize)
+        return Optional.ofNullable(pageSize)
                 .filter(size -> size > 0 && size <= 100)
                 .orElse(20);
+    }
 
-        log.debug("Using page number: {}, page size: {}", validatedPageNumber, validatedPageSize);
+    /**
+     * Searches live users by username, email, first name or last name, tolerating typos.
+     *
+     * @param query the search terms
+     * @param limit the requested maximum number of results
+     * @return the best matches, best first
+     */
+    public List<UserSearchResult> search(String query, Integer limit) {
+        if (query == null || query.isBlank()) {
+            throw new ValidationException("Search query cannot be empty");
+        }
 
-        PageRequest pageRequest = PageRequest.of(validatedPageNumber, validatedPageSize);
-        return userRepository.findAll(pageRequest);
+        int validatedLimit = Optional.ofNullable(limit)
+                .filter(l -> l > 0 && l <= 50)
+                .orElse(20);
+        return userSearchIndex.search(query, validatedLimit);
     }
 
     @Transactional(readOnly = true)
@@ -58,29 +129,53 @@ public class UserService {
                 .orElseThrow(() -> new EntityNotFoundException("User not found"));
     }
 
+    /**
+     * Updates a user with one read and one conditional write.
+     * <p>
+     * The request is validated against the user as read, the changed properties are collected,
+     * and only those columns are written by an {@code UPDATE ... WHERE id = ? AND version = ?}.
+     * A concurrent modification between the read and the write surfaces as an
+     * {@link OptimisticLockException}. The audit entry records only the changed properties.
+     */
     @Transactional
     @PreAuthorize("hasRole('ADMIN') or #id == authentication.principal.id")
     public User update(Long id, UserDto userDto) {
         log.info("Starting update process for user with ID: {}", id);
         try {
-            checkRateLimit();
-            log.debug("Rate limit check passed for user update");
-
             validateUpdateRequest(id, userDto);
-            log.debug("Update request validation passed");
 
             User user = getById(id);
-            User userBeforeUpdate = createUserCopy(user);
+            validateVersion(user, userDto);
+            log.debug("Update request validation passed");
 
             log.debug("Validating update permissions and business rules");
             validateUpdatePermissions(user, userDto);
             validateBusinessRules(user, userDto);
 
             log.debug("Handling sensitive data updates");
-            handleSensitiveDataUpdate(user, userDto);
+            Map<String, Object> changes = new LinkedHashMap<>();
+            handleSensitiveDataUpdate(user, userDto, changes);
+
+            if (changes.isEmpty()) {
+                log.info("No change requested for user with ID: {}", id);
+                return user;
+            }
+
+            Map<String, Object> previousValues = new LinkedHashMap<>();
+            BeanWrapper currentValues = new BeanWrapperImpl(user);
+            changes.keySet().forEach(property -> previousValues.put(property, currentValues.getPropertyValue(property)));
+
+            if (!userRepository.updateIfVersionMatches(user, changes)) {
+                log.warn("Update rejected - user {} was modified concurrently", id);
+                throw new OptimisticLockException("User has been modified by another transaction");
+            }
 
             log.debug("Creating audit log for user update");
-            auditService.logUpdate("USER", id, userBeforeUpdate, user);
+            auditService.logUpdate("USER", id, user.getVersion(), previousValues, changes, auditState(user));
+            TransactionUtils.afterCommit(() -> {
+                userSearchIndex.index(user);
+                userAvailabilityRegistry.record(user.getUsername(), user.getEmail());
+            });
 
             log.info("Successfully updated user with ID: {}", id);
             return user;
@@ -91,43 +186,45 @@ public class UserService {
         }
     }
 
-    private void handleSensitiveDataUpdate(User user, UserDto userDto) {
+    private void handleSensitiveDataUpdate(User user, UserDto userDto, Map<String, Object> changes) {
         log.debug("Processing sensitive data updates for user: {}", user.getId());
         boolean isAdmin = securityUtils.isCurrentUserAdmin();
 
         if (userDto.getEmail() != null) {
             log.debug("Processing email update for user: {}", user.getId());
-            handleEmailUpdate(user, userDto.getEmail());
+            handleEmailUpdate(user, userDto.getEmail(), changes);
         }
 
         if (userDto.getRole() != null) {
             log.debug("Processing role update for user: {}", user.getId());
-            handleRoleUpdate(user, userDto.getRole(), isAdmin);
+            handleRoleUpdate(user, userDto.getRole(), isAdmin, changes);
         }
 
         log.debug("Processing non-sensitive updates for user: {}", user.getId());
-        handleNonSensitiveUpdates(user, userDto);
+        handleNonSensitiveUpdates(user, userDto, changes);
     }
 
-    private void handleEmailUpdate(User user, String newEmail) {
-        if (!user.getEmail().equals(newEmail)) {
+    private void handleEmailUpdate(User user, String newEmail, Map<String, Object> changes) {
+        String sanitizedEmail = sanitizeEmail(newEmail);
+        if (!user.getEmail().equals(sanitizedEmail)) {
             log.info("Email change requested for user: {} from {} to {}",
                     user.getId(),
                     user.getEmail(),
-                    newEmail);
+                    sanitizedEmail);
 
-            String sanitizedEmail = sanitizeEmail(newEmail);
-            validateEmail(sanitizedEmail);
+            validateEmailFormat(sanitizedEmail);
 
-            user.setEmail(sanitizedEmail);
-            user.setVerifiedEmail(false);
+            changes.put("email", sanitizedEmail);
+            if (!Boolean.FALSE.equals(user.getVerifiedEmail())) {
+                changes.put("verifiedEmail", false);
+            }
             log.info("Email updated and verification status reset for user: {}", user.getId());
 
             // TODO: Send verification email
         }
     }
 
-    private void handleRoleUpdate(User user, Role newRole, boolean isAdmin) {
+    private void handleRoleUpdate(User user, Role newRole, boolean isAdmin, Map<String, Object> changes) {
         if (!isAdmin) {
             throw new AccessDeniedException("Only administrators can modify roles");
         }
@@ -135,17 +232,18 @@ public class UserService {
         if (user.getRole() != newRole) {
             // Log role change
             logSensitiveFieldChange("role", user.getRole(), newRole);
-            user.setRole(newRole);
+            tokenRevocationRegistry.revoke(user);
+            changes.put("role", newRole);
         }
     }
 
-    private void handleNonSensitiveUpdates(User user, UserDto userDto) {
+    private void handleNonSensitiveUpdates(User user, UserDto userDto, Map<String, Object> changes) {
         // Update non-sensitive fields
-        if (userDto.getFirstName() != null) {
-            user.setFirstName(userDto.getFirstName().trim());
+        if (userDto.getFirstName() != null && !userDto.getFirstName().trim().equals(user.getFirstName())) {
+            changes.put("firstName", userDto.getFirstName().trim());
         }
-        if (userDto.getLastName() != null) {
-            user.setLastName(userDto.getLastName().trim());
+        if (userDto.getLastName() != null && !userDto.getLastName().trim().equals(user.getLastName())) {
+            changes.put("lastName", userDto.getLastName().trim());
         }
     }
 
@@ -154,14 +252,10 @@ public class UserService {
         return email.toLowerCase().trim();
     }
 
-    private void validateEmail(String email) {
+    private void validateEmailFormat(String email) {
         if (email == null || !email.matches("^[A-Za-z0-9+_.-]+@(.+)$")) {
             throw new ValidationException("Invalid email format");
         }
-
-        if (userRepository.existsByUsernameIgnoreCaseAndDeletedAtIsNull(email)) {
-            throw new ValidationException("Email already in use");
-        }
     }
 
     private void logSensitiveFieldChange(String fieldName, Object oldValue, Object newValue) {
@@ -173,19 +267,8 @@ public class UserService {
         );
     }
 
-    private void checkRateLimit() {
-        String key = "user-update:" + securityUtils.getCurrentUser().getUsername();
-        RateLimiter rateLimiter = rateLimitConfig.getRateLimiter(key);
-
-        if (!rateLimiter.tryAcquire(5, TimeUnit.SECONDS)) {
-            throw new RateLimitExceededException(
-                    "Too many update requests. Please wait before trying again."
-            );
-        }
-    }
-
     private void validateUpdatePermissions(User user, UserDto userDto) {
-        User currentUser = securityUtils.getCurrentUser();
+        AuthenticatedUser currentUser = securityUtils.getCurrentUser();
 
         // Self-update checks
         if (user.getId().equals(currentUser.getId())) {
@@ -225,14 +308,15 @@ public class UserService {
             throw new ValidationException("ID in path and body must match");
         }
 
-        User currentUser = getById(id);
-        if (!currentUser.getVersion().equals(userDto.getVersion())) {
+        log.debug("Update request validation passed for user ID: {}", id);
+    }
+
+    private void validateVersion(User user, UserDto userDto) {
+        if (!user.getVersion().equals(userDto.getVersion())) {
             log.warn("Update request rejected - Version mismatch for user: {}. Expected: {}, Received: {}",
-                    id, currentUser.getVersion(), userDto.getVersion());
+                    user.getId(), user.getVersion(), userDto.getVersion());
             throw new OptimisticLockException("User has been modified by another transaction");
         }
-
-        log.debug("Update request validation passed for user ID: {}", id);
     }
 
     private void validateBusinessRules(User user, UserDto userDto) {
@@ -250,7 +334,7 @@ public class UserService {
         if (userDto.getEmail() != null &&
                 !userDto.getEmail().equalsIgnoreCase(user.getEmail())) {
 
-            if (userRepository.existsByUsernameIgnoreCaseAndDeletedAtIsNull(userDto.getEmail())) {
+            if (userRepository.existsByEmailKey(User.normalizeKey(userDto.getEmail()))) {
                 log.warn("Email uniqueness validation failed - email already in use: {}", userDto.getEmail());
                 throw new ValidationException("Email already in use");
             }
@@ -259,7 +343,7 @@ public class UserService {
         if (userDto.getUsername() != null &&
                 !userDto.getUsername().equalsIgnoreCase(user.getUsername())) {
 
-            if (userRepository.existsByEmailIgnoreCaseAndDeletedAtIsNull(userDto.getUsername())) {
+            if (userRepository.existsByUsernameKey(User.normalizeKey(userDto.getUsername()))) {
                 log.warn("Username uniqueness validation failed - username already in use: {}", userDto.getUsername());
                 throw new ValidationException("Username already in use");
             }
@@ -282,15 +366,17 @@ public class UserService {
         validateDeletionPermissions(user);
         validateDeletionBusinessRules(user);
 
+        Map<String, Object> previousValues = auditState(user, DELETION_PROPERTIES);
         softDelete(user);
+        userRepository.saveAndFlush(user);
 
-        auditService.logDelete("USER", id, user);
+        auditService.logDelete("USER", id, user.getVersion(), previousValues, auditState(user));
 
         log.info("Successfully soft-deleted user with ID: {}", id);
     }
 
     private void validateDeletionPermissions(User user) {
-        User currentUser = securityUtils.getCurrentUser();
+        AuthenticatedUser currentUser = securityUtils.getCurrentUser();
 
         // Cannot delete your own account if you're the last admin
         if (user.getId().equals(currentUser.getId()) &&
@@ -324,10 +410,22 @@ public class UserService {
         user.setDeletedAt(LocalDateTime.now());
         user.setDeletedBy(securityUtils.getCurrentUser().getUsername());
 
-        // TODO invalidate or expire user tokens
+        tokenRevocationRegistry.revoke(user);
+        TransactionUtils.afterCommit(() -> userSearchIndex.remove(user.getId()));
         // TODO send notification email
     }
 
+    private Map<String, Object> auditState(User user) {
+        return auditState(user, AUDITED_PROPERTIES);
+    }
+
+    private Map<String, Object> auditState(User user, List<String> properties) {
+        BeanWrapper values = new BeanWrapperImpl(user);
+        Map<String, Object> state = new LinkedHashMap<>();
+        properties.forEach(property -> state.put(property, values.getPropertyValue(property)));
+        return state;
+    }
+
     private boolean isLastAdmin() {
         return userRepository.countByRoleAndDeletedAtIsNull(Role.ADMIN) <= 1;
     }
@@ -343,24 +441,23 @@ public class UserService {
             throw new ValidationException("User is not deleted");
         }
 
+        // Deleted users release their username and email, which may have been taken since
+        if (userRepository.existsByUsernameKey(User.normalizeKey(user.getUsername()))
+                || userRepository.existsByEmailKey(User.normalizeKey(user.getEmail()))) {
+            throw new ValidationException("Username or email is now used by another user");
+        }
+
+        Map<String, Object> previousValues = auditState(user, DELETION_PROPERTIES);
         user.setDeletedAt(null);
         user.setDeletedBy(null);
+        userRepository.saveAndFlush(user);
 
-        auditService.logRestore("USER", id, user);
+        auditService.logRestore("USER", id, user.getVersion(), previousValues, auditState(user));
+        TransactionUtils.afterCommit(() -> {
+            userSearchIndex.index(user);
+            userAvailabilityRegistry.record(user.getUsername(), user.getEmail());
+        });
 
         return user;
     }
-
-    private User createUserCopy(User user) {
-        return User.builder()
-                .id(user.getId())
-                .firstName(user.getFirstName())
-                .lastName(user.getLastName())
-                .email(user.getEmail())
-                .username(user.getUsername())
-                .role(user.getRole())
-                .verifiedEmail(user.getVerifiedEmail())
-                .version(user.getVersion())
-                .build();
-    }
 }
@@ -0,0 +1,33 @@
+package fr.scrumtogether.scrumtogetherapi.services;
+
+import fr.scrumtogether.scrumtogetherapi.config.VelocityConfig;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Periodically recomputes the velocity of the closed sprints whose tasks changed,
+ * one batch per transaction until none is left.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class VelocityRecomputer {
+    private final VelocityService velocityService;
+    private final VelocityConfig config;
+
+    @Scheduled(fixedDelayString = "#{@velocityConfig.recomputeInterval}")
+    void recompute() {
+        int total = 0;
+        int recomputed;
+        do {
+            recomputed = velocityService.recomputeDirty();
+            total += recomputed;
+        } while (recomputed == config.getBatchSize());
+
+        if (total > 0) {
+            log.info("Recomputed the velocity of {} sprints", total);
+        }
+    }
+}
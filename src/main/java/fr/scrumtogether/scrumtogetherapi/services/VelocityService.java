@@ -0,0 +1,187 @@
+package fr.scrumtogether.scrumtogetherapi.services;
+
+import fr.scrumtogether.scrumtogetherapi.config.VelocityConfig;
+import fr.scrumtogether.scrumtogetherapi.dtos.VelocityDto;
+import fr.scrumtogether.scrumtogetherapi.dtos.VelocityForecastDto;
+import fr.scrumtogether.scrumtogetherapi.entities.Sprint;
+import fr.scrumtogether.scrumtogetherapi.exceptions.EntityNotFoundException;
+import fr.scrumtogether.scrumtogetherapi.exceptions.ValidationException;
+import fr.scrumtogether.scrumtogetherapi.repositories.ProjectRepository;
+import fr.scrumtogether.scrumtogetherapi.repositories.SprintDailyStatusRepository;
+import fr.scrumtogether.scrumtogetherapi.repositories.SprintRepository;
+import fr.scrumtogether.scrumtogetherapi.repositories.TaskRepository;
+import fr.scrumtogether.scrumtogetherapi.repositories.projections.SprintVelocityView;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.OptionalDouble;
+
+/**
+ * Computes the velocity of sprints: the estimation of their tasks in a closed status.
+ * <p>
+ * Velocities are summed from the {@link fr.scrumtogether.scrumtogetherapi.entities.SprintDailyStatus}
+ * rows of the sprints, never from the tasks. A sprint gets its velocity when it closes; a later
+ * change of one of its tasks flags it, and flagged sprints are recomputed in batches.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class VelocityService {
+    private static final String UPDATE_VELOCITY_SQL = "update sprint set velocity = ? where id = ?";
+
+    private final SprintRepository sprintRepository;
+    private final SprintDailyStatusRepository sprintDailyStatusRepository;
+    private final ProjectRepository projectRepository;
+    private final TaskRepository taskRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final VelocityConfig config;
+
+    /**
+     * Closes a sprint and computes its velocity.
+     * <p>
+     * The sprint is marked closed first, which locks its row: a task change committing after the sums
+     * are read waits for this transaction and then flags the now closed sprint for recomputation, while
+     * one committed before is seen by the sums, read under READ COMMITTED.
+     *
+     * @param sprintId the sprint id
+     * @return the velocity of the sprint
+     */
+    @Transactional(isolation = Isolation.READ_COMMITTED)
+    public VelocityDto.SprintVelocity close(Long sprintId) {
+        log.debug("Closing sprint {}", sprintId);
+        if (sprintRepository.close(sprintId, LocalDateTime.now()) == 0) {
+            if (!sprintRepository.existsById(sprintId)) {
+                throw new EntityNotFoundException("Sprint not found");
+            }
+            throw new ValidationException("Sprint is already closed");
+        }
+
+        Float velocity = computeVelocities(List.of(sprintId)).get(sprintId);
+        sprintRepository.updateVelocity(sprintId, velocity);
+        Sprint sprint = sprintRepository.findById(sprintId)
+                .orElseThrow(() -> new EntityNotFoundException("Sprint not found"));
+
+        log.info("Closed sprint {} with a velocity of {}", sprintId, velocity);
+        return new VelocityDto.SprintVelocity(sprint.getId(), sprint.getNumber(), sprint.getName(), velocity);
+    }
+
+    /**
+     * Recomputes the velocity of one batch of flagged sprints.
+     *
+     * <p>Runs under READ COMMITTED so the sums read after the flags are cleared see every task change
+     * committed before the clear; a REPEATABLE READ snapshot could predate them and lose the change.
+     *
+     * @return the number of sprints recomputed, equal to the batch size when more may be left
+     */
+    @Transactional(isolation = Isolation.READ_COMMITTED)
+    public int recomputeDirty() {
+        List<Long> sprintIds = sprintRepository.findVelocityDirtyIds(PageRequest.of(0, config.getBatchSize()));
+        if (sprintIds.isEmpty()) {
+            return 0;
+        }
+        // Cleared first: clearing locks the sprint rows, so a task change committing after the sums are read
+        // waits for this transaction before flagging its sprint again, and one committed before is read
+        sprintRepository.clearVelocityDirty(sprintIds);
+
+        Map<Long, Float> velocities = computeVelocities(sprintIds);
+        jdbcTemplate.batchUpdate(UPDATE_VELOCITY_SQL, sprintIds.stream()
+                .map(id -> new Object[]{velocities.get(id), id})
+                .toList());
+
+        log.debug("Recomputed the velocity of {} sprints", sprintIds.size());
+        return sprintIds.size();
+    }
+
+    /**
+     * Reads the velocity of the latest closed sprints of a project.
+     *
+     * @param projectId the project id
+     * @param window    the number of sprints, or null for the default
+     */
+    @Transactional(readOnly = true)
+    public VelocityDto getVelocity(Long projectId, Integer window) {
+        int validatedWindow = validateWindow(window);
+        if (!projectRepository.existsById(projectId)) {
+            throw new EntityNotFoundException("Project not found");
+        }
+
+        List<SprintVelocityView> sprints = sprintRepository.findClosedVelocities(projectId, PageRequest.of(0, validatedWindow));
+        return new VelocityDto(projectId, validatedWindow, average(sprints),
+                sprints.stream()
+                        .map(sprint -> new VelocityDto.SprintVelocity(sprint.getId(), sprint.getNumber(), sprint.getName(), sprint.getVelocity()))
+                        .toList());
+    }
+
+    /**
+     * Forecasts the number of sprints left to finish the open tasks of a project, at the average
+     * velocity and sprint length of its latest closed sprints.
+     *
+     * @param projectId the project id
+     * @param window    the number of sprints to average, or null for the default
+     */
+    @Transactional(readOnly = true)
+    public VelocityForecastDto getForecast(Long projectId, Integer window) {
+        int validatedWindow = validateWindow(window);
+        if (!projectRepository.existsById(projectId)) {
+            throw new EntityNotFoundException("Project not found");
+        }
+
+        List<SprintVelocityView> sprints = sprintRepository.findClosedVelocities(projectId, PageRequest.of(0, validatedWindow));
+        long remaining = taskRepository.sumOpenEstimation(projectId);
+        Double averageVelocity = average(sprints);
+        if (averageVelocity == null || averageVelocity <= 0) {
+            return new VelocityForecastDto(projectId, remaining, averageVelocity, null, null);
+        }
+
+        int remainingSprints = (int) Math.ceil(remaining / averageVelocity);
+        double averageLength = sprints.stream()
+                .mapToLong(sprint -> ChronoUnit.DAYS.between(sprint.getStartDate(), sprint.getEndDate()) + 1)
+                .average()
+                .orElse(0);
+        LocalDate estimatedEndDate = LocalDate.now().plusDays(Math.round(remainingSprints * averageLength));
+        return new VelocityForecastDto(projectId, remaining, averageVelocity, remainingSprints, estimatedEndDate);
+    }
+
+    /**
+     * Sums the closed estimation of the given sprints, 0 for a sprint without any.
+     */
+    private Map<Long, Float> computeVelocities(Collection<Long> sprintIds) {
+        Map<Long, Float> velocities = new HashMap<>();
+        sprintIds.forEach(id -> velocities.put(id, 0f));
+        for (Object[] sum : sprintDailyStatusRepository.sumClosedEstimations(sprintIds)) {
+            velocities.put((Long) sum[0], ((Number) sum[1]).floatValue());
+        }
+        return velocities;
+    }
+
+    private Double average(List<SprintVelocityView> sprints) {
+        OptionalDouble average = sprints.stream()
+                .map(SprintVelocityView::getVelocity)
+                .filter(Objects::nonNull)
+                .mapToDouble(Float::doubleValue)
+                .average();
+        return average.isPresent() ? average.getAsDouble() : null;
+    }
+
+    private int validateWindow(Integer window) {
+        int validatedWindow = Optional.ofNullable(window).orElse(config.getDefaultWindow());
+        if (validatedWindow < 1 || validatedWindow > config.getMaxWindow()) {
+            throw new ValidationException("Window must be between 1 and " + config.getMaxWindow());
+        }
+        return validatedWindow;
+    }
+}
@@ -0,0 +1,52 @@
+package fr.scrumtogether.scrumtogetherapi.utils;
+
+import fr.scrumtogether.scrumtogetherapi.exceptions.ValidationException;
+import lombok.Value;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Position in a listing ordered by a (sort key, id) pair, exchanged with clients as an opaque token.
+ * <p>
+ * The next page is read with a {@code WHERE (key, id) > (:key, :id)} predicate, so its cost does
+ * not depend on how deep the client has paged.
+ */
+@Value
+public class KeysetCursor {
+    String sortValue;
+    Long id;
+
+    /**
+     * Encodes this position as a URL-safe token.
+     *
+     * @return the opaque token
+     */
+    public String encode() {
+        byte[] value = sortValue.getBytes(StandardCharsets.UTF_8);
+        ByteBuffer buffer = ByteBuffer.allocate(Long.BYTES + value.length)
+                .putLong(id)
+                .put(value);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(buffer.array());
+    }
+
+    /**
+     * Decodes a token produced by {@link #encode()}.
+     *
+     * @param token the opaque token
+     * @return the decoded position
+     * @throws ValidationException if the token is malformed
+     */
+    public static KeysetCursor decode(String token) {
+        try {
+            ByteBuffer buffer = ByteBuffer.wrap(Base64.getUrlDecoder().decode(token));
+            long id = buffer.getLong();
+            byte[] value = new byte[buffer.remaining()];
+            buffer.get(value);
+            return new KeysetCursor(new String(value, StandardCharsets.UTF_8), id);
+        } catch (RuntimeException e) {
+            throw new ValidationException("Invalid pagination cursor", e);
+        }
+    }
+}
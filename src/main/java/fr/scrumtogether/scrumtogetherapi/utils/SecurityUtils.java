@@ -1,6 +1,7 @@
 package fr.scrumtogether.scrumtogetherapi.utils;
 
 import fr.scrumtogether.scrumtogetherapi.entities.User;
+import fr.scrumtogether.scrumtogetherapi.security.AuthenticatedUser;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
@@ -14,8 +15,11 @@ public class SecurityUtils {
                 .anyMatch(a -> a.getAuthority().equals("ROLE_ADMIN"));
     }
 
-    public User getCurrentUser() {
+    public AuthenticatedUser getCurrentUser() {
         Authentication auth = SecurityContextHolder.getContext().getAuthentication();
-        return (User) auth.getPrincipal();
+        if (auth.getPrincipal() instanceof User user) {
+            return AuthenticatedUser.from(user);
+        }
+        return (AuthenticatedUser) auth.getPrincipal();
     }
 }
\ No newline at end of file
@@ -0,0 +1,29 @@
+package fr.scrumtogether.scrumtogetherapi.utils.jpa;
+
+import fr.scrumtogether.scrumtogetherapi.entities.TaskStatus;
+import fr.scrumtogether.scrumtogetherapi.services.TaskStatusCache;
+import fr.scrumtogether.scrumtogetherapi.utils.TransactionUtils;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+
+/**
+ * Refreshes the {@link TaskStatusCache} of this node after a {@link TaskStatus} is written, once the
+ * transaction has committed; other nodes pick the change up at their periodic refresh. The cache
+ * is looked up lazily as it depends on the persistence unit.
+ */
+public class TaskStatusCacheListener {
+    private final ObjectProvider<TaskStatusCache> taskStatusCache;
+
+    public TaskStatusCacheListener(ObjectProvider<TaskStatusCache> taskStatusCache) {
+        this.taskStatusCache = taskStatusCache;
+    }
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    void onWrite(TaskStatus taskStatus) {
+        taskStatusCache.ifAvailable(cache -> TransactionUtils.afterCommit(cache::refresh));
+    }
+}
@@ -0,0 +1,44 @@
+package fr.scrumtogether.scrumtogetherapi.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class WebSecurityConfigTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    @WithMockUser(roles = "DEFAULT")
+    void auditEndpoints_WhenCallerIsNotAdmin_ShouldBeForbidden() throws Exception {
+        mockMvc.perform(get("/api/v1/audit")).andExpect(status().isForbidden());
+        mockMvc.perform(get("/api/v1/audit/export").param("gzip", "true")).andExpect(status().isForbidden());
+        mockMvc.perform(get("/api/v1/audit/user/1/versions/1")).andExpect(status().isForbidden());
+    }
+
+    @Test
+    @WithMockUser(roles = "DEFAULT")
+    void bulkImport_WhenCallerIsNotAdmin_ShouldBeForbidden() throws Exception {
+        mockMvc.perform(post("/api/v1/users/bulk").contentType(MediaType.APPLICATION_JSON).content("[]"))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(post("/api/v1/users/bulk").contentType("text/csv").content("lastname,firstname,email,username,password\n"))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void auditEndpoints_WhenCallerIsAdmin_ShouldBeAllowed() throws Exception {
+        mockMvc.perform(get("/api/v1/audit")).andExpect(status().isOk());
+    }
+}
@@ -0,0 +1,74 @@
+package fr.scrumtogether.scrumtogetherapi.repositories;
+
+import fr.scrumtogether.scrumtogetherapi.config.JpaConfig;
+import fr.scrumtogether.scrumtogetherapi.dtos.AuditFilter;
+import fr.scrumtogether.scrumtogetherapi.dtos.AuditLogDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Slice;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(JpaConfig.class)
+class AuditRepositoryTest {
+    private static final LocalDateTime START = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+    @Autowired
+    private AuditRepository auditRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < 5; i++) {
+            insert("USER", 42L, "admin", START.plusHours(i));
+        }
+        insert("USER", 43L, "admin", START.plusHours(1));
+        insert("USER", 42L, "alice", START.plusHours(2));
+    }
+
+    @Test
+    void findPage_ShouldPageNewestFirstThroughTheCursor() {
+        AuditFilter filter = AuditFilter.builder().entityType("USER").entityId(42L).actor("admin").build();
+
+        Slice<AuditLogDto> first = auditRepository.findPage(filter, null, null, 3, true);
+        AuditLogDto last = first.getContent().get(2);
+        Slice<AuditLogDto> second = auditRepository.findPage(filter, last.getCreatedAt(), last.getId(), 3, true);
+
+        assertTrue(first.hasNext());
+        assertEquals(List.of(START.plusHours(4), START.plusHours(3), START.plusHours(2)),
+                first.getContent().stream().map(AuditLogDto::getCreatedAt).toList());
+        assertFalse(second.hasNext());
+        assertEquals(List.of(START.plusHours(1), START),
+                second.getContent().stream().map(AuditLogDto::getCreatedAt).toList());
+    }
+
+    @Test
+    void findPage_WithDateRangeAndWithoutValues_ShouldSkipTheValueColumns() {
+        AuditFilter filter = AuditFilter.builder().from(START.plusHours(1)).to(START.plusHours(2)).build();
+
+        Slice<AuditLogDto> page = auditRepository.findPage(filter, null, null, 10, false);
+
+        assertEquals(2, page.getNumberOfElements());
+        assertTrue(page.getContent().stream().allMatch(row -> row.getCreatedAt().equals(START.plusHours(1))));
+        assertTrue(page.getContent().stream().allMatch(row -> row.getOldValue() == null && row.getNewValue() == null));
+    }
+
+    private void insert(String entityType, Long entityId, String actor, LocalDateTime createdAt) {
+        jdbcTemplate.update("insert into audit_log (entity_type, entity_id, action, snapshot, old_value, new_value, created_by, created_at) " +
+                        "values (?, ?, 'UPDATE', false, '{}', '{}', ?, ?)",
+                entityType, entityId, actor, Timestamp.valueOf(createdAt));
+    }
+}
@@ -0,0 +1,118 @@
+package fr.scrumtogether.scrumtogetherapi.repositories;
+
+import fr.scrumtogether.scrumtogetherapi.config.JpaConfig;
+import fr.scrumtogether.scrumtogetherapi.dtos.TeamDto;
+import fr.scrumtogether.scrumtogetherapi.entities.Project;
+import fr.scrumtogether.scrumtogetherapi.entities.Team;
+import fr.scrumtogether.scrumtogetherapi.entities.TeamUser;
+import fr.scrumtogether.scrumtogetherapi.entities.TeamUserId;
+import fr.scrumtogether.scrumtogetherapi.entities.User;
+import fr.scrumtogether.scrumtogetherapi.entities.enums.TeamRole;
+import fr.scrumtogether.scrumtogetherapi.mappers.TeamMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(JpaConfig.class)
+class TeamRepositoryTest {
+    private static final int TEAMS = 5;
+    private static final int MEMBERS_PER_TEAM = 20;
+
+    @Autowired
+    private TeamRepository teamRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private final TeamMapper teamMapper = new TeamMapper();
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        for (int t = 0; t < TEAMS; t++) {
+            Team team = new Team();
+            team.setName("Team " + t);
+            team.setEmail("team" + t + "@example.com");
+            entityManager.persist(team);
+
+            for (int m = 0; m < MEMBERS_PER_TEAM; m++) {
+                User user = User.builder()
+                        .username("user" + t + "_" + m)
+                        .email("user" + t + "_" + m + "@example.com")
+                        .firstName("First")
+                        .lastName("Last")
+                        .password("{noop}password")
+                        .build();
+                entityManager.persist(user);
+                entityManager.persist(TeamUser.builder()
+                        .id(new TeamUserId(user.getId(), team.getId()))
+                        .user(user)
+                        .team(team)
+                        .teamRole(TeamRole.MEMBER)
+                        .build());
+            }
+
+            Project project = new Project();
+            project.setName("Project " + t);
+            project.setStartDate(LocalDate.now());
+            project.setEndDate(LocalDate.now().plusMonths(1));
+            project.setTeam(team);
+            entityManager.persist(project);
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void findAll_WhenMappingAPage_ShouldRunAFixedNumberOfStatements() {
+        Page<Team> page = teamRepository.findAll(PageRequest.of(0, 10));
+        List<TeamDto> dtos = page.getContent().stream().map(teamMapper::toModel).toList();
+
+        assertEquals(TEAMS, dtos.size());
+        assertTrue(dtos.stream().allMatch(dto -> dto.getTeamUsers().size() == MEMBERS_PER_TEAM));
+        // teams, members with their users, projects
+        assertTrue(statistics.getPrepareStatementCount() <= 4,
+                "Expected at most 4 statements but got " + statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void findById_WhenMappingATeam_ShouldRunAFixedNumberOfStatements() {
+        Long id = teamRepository.findAll().get(0).getId();
+        entityManager.clear();
+        statistics.clear();
+
+        Team team = teamRepository.findById(id).orElseThrow();
+        TeamDto dto = teamMapper.toModel(team);
+
+        assertEquals(MEMBERS_PER_TEAM, dto.getTeamUsers().size());
+        assertEquals(1, dto.getProjects().size());
+        assertEquals(team.getProjects().iterator().next().getId(), dto.getProjects().iterator().next().getId());
+        // team with members and users, projects
+        assertTrue(statistics.getPrepareStatementCount() <= 2,
+                "Expected at most 2 statements but got " + statistics.getPrepareStatementCount());
+    }
+}
@@ -0,0 +1,99 @@
+package fr.scrumtogether.scrumtogetherapi.repositories;
+
+import fr.scrumtogether.scrumtogetherapi.config.JpaConfig;
+import fr.scrumtogether.scrumtogetherapi.entities.User;
+import fr.scrumtogether.scrumtogetherapi.repositories.projections.UserSummary;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(JpaConfig.class)
+class UserRepositoryTest {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void save_ShouldMaintainNormalizedKeys() {
+        User user = userRepository.saveAndFlush(user("JohnDoe", " John.Doe@Example.com"));
+
+        assertEquals("johndoe", user.getUsernameKey());
+        assertEquals("john.doe@example.com", user.getEmailKey());
+        assertTrue(userRepository.existsByUsernameKey("johndoe"));
+        assertTrue(userRepository.existsByEmailKey("john.doe@example.com"));
+    }
+
+    @Test
+    void save_WhenLiveUserDiffersOnlyByCase_ShouldBeRejectedByTheDatabase() {
+        userRepository.saveAndFlush(user("JohnDoe", "john@example.com"));
+
+        assertThrows(DataIntegrityViolationException.class,
+                () -> userRepository.saveAndFlush(user("johndoe", "other@example.com")));
+    }
+
+    @Test
+    void save_WhenUserIsDeleted_ShouldReleaseUsernameAndEmail() {
+        User deleted = userRepository.saveAndFlush(user("JohnDoe", "john@example.com"));
+        deleted.setDeletedAt(LocalDateTime.now());
+        userRepository.saveAndFlush(deleted);
+
+        assertNull(deleted.getUsernameKey());
+        assertFalse(userRepository.existsByUsernameKey("johndoe"));
+        assertDoesNotThrow(() -> userRepository.saveAndFlush(user("johndoe", "JOHN@example.com")));
+    }
+
+    @Test
+    void backfillKeys_ShouldFillKeysOfLiveUsersOnly() {
+        userRepository.saveAndFlush(user("Alice", "Alice@Example.com"));
+        User deleted = user("Bob", "bob@example.com");
+        deleted.setDeletedAt(LocalDateTime.now());
+        userRepository.saveAndFlush(deleted);
+        jdbcTemplate.update("update user set username_key = null, email_key = null");
+
+        assertEquals(1, userRepository.backfillKeys());
+        assertTrue(userRepository.existsByUsernameKey("alice"));
+        assertTrue(userRepository.existsByEmailKey("alice@example.com"));
+        assertFalse(userRepository.existsByUsernameKey("bob"));
+    }
+
+    @Test
+    void findKeysetPageAfter_ShouldReturnSummariesInUsernameOrder() {
+        userRepository.saveAndFlush(user("Carol", "carol@example.com"));
+        User alice = userRepository.saveAndFlush(user("Alice", "alice@example.com"));
+        userRepository.saveAndFlush(user("Bob", "bob@example.com"));
+
+        Slice<UserSummary> page = userRepository.findKeysetPageAfter(alice.getUsername(), alice.getId(), PageRequest.of(0, 1));
+
+        assertEquals(1, page.getNumberOfElements());
+        assertTrue(page.hasNext());
+        UserSummary bob = page.getContent().get(0);
+        assertEquals("Bob", bob.getUsername());
+        assertEquals("bob@example.com", bob.getEmail());
+        assertNotNull(bob.getVersion());
+    }
+
+    private User user(String username, String email) {
+        return User.builder()
+                .username(username)
+                .email(email)
+                .firstName("First")
+                .lastName("Last")
+                .password("{noop}password")
+                .build();
+    }
+}
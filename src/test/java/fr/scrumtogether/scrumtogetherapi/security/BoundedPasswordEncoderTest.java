@@ -0,0 +1,85 @@
+package fr.scrumtogether.scrumtogetherapi.security;
+
+import fr.scrumtogether.scrumtogetherapi.config.PasswordHashingConfig;
+import fr.scrumtogether.scrumtogetherapi.exceptions.ServiceUnavailableException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class BoundedPasswordEncoderTest {
+
+    private PasswordEncoder delegate;
+    private SimpleMeterRegistry meterRegistry;
+    private BoundedPasswordEncoder encoder;
+    private ExecutorService callers;
+
+    @BeforeEach
+    void setUp() {
+        delegate = mock(PasswordEncoder.class);
+        meterRegistry = new SimpleMeterRegistry();
+
+        PasswordHashingConfig config = new PasswordHashingConfig();
+        config.setPoolSize(1);
+        config.setQueueCapacity(1);
+        config.setRetryAfterSeconds(3);
+        encoder = new BoundedPasswordEncoder(delegate, config, meterRegistry);
+        callers = Executors.newFixedThreadPool(2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        callers.shutdownNow();
+        encoder.destroy();
+    }
+
+    @Test
+    void encode_ShouldDelegateAndRecordLatency() {
+        when(delegate.encode("password")).thenReturn("{bcrypt}hash");
+
+        assertEquals("{bcrypt}hash", encoder.encode("password"));
+        assertEquals(1, meterRegistry.get("security.password.hashing").tag("operation", "encode").timer().count());
+    }
+
+    @Test
+    void matches_WhenPoolAndQueueAreFull_ShouldFailFastWithRetryAfter() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(delegate.matches(any(), any())).thenAnswer(invocation -> {
+            started.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return true;
+        });
+
+        callers.submit(() -> encoder.matches("password", "hash"));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        callers.submit(() -> encoder.matches("password", "hash"));
+        waitForQueuedTask();
+
+        ServiceUnavailableException exception = assertThrows(ServiceUnavailableException.class,
+                () -> encoder.matches("password", "hash"));
+        assertEquals(3, exception.getRetryAfterSeconds());
+        assertEquals(1.0, meterRegistry.get("security.password.hashing.rejected").counter().count());
+
+        release.countDown();
+    }
+
+    private void waitForQueuedTask() throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (meterRegistry.get("security.password.hashing.queue.size").gauge().value() < 1
+                && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+}
@@ -1,16 +1,18 @@
 package fr.scrumtogether.scrumtogetherapi.security;
 
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.web.servlet.HandlerExceptionResolver;
+import fr.scrumtogether.scrumtogetherapi.entities.enums.Role;
 import fr.scrumtogether.scrumtogetherapi.services.JwtService;
 
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.isNull;
@@ -19,16 +21,16 @@ import static org.mockito.Mockito.*;
 class JwtAuthenticationFilterTest {
 
     private JwtService jwtService;
-    private UserDetailsService userDetailsService;
+    private TokenRevocationRegistry tokenRevocationRegistry;
     private HandlerExceptionResolver handlerExceptionResolver;
     private JwtAuthenticationFilter jwtAuthenticationFilter;
 
     @BeforeEach
     void setUp() {
         jwtService = mock(JwtService.class);
-        userDetailsService = mock(UserDetailsService.class);
+        tokenRevocationRegistry = mock(TokenRevocationRegistry.class);
         handlerExceptionResolver = mock(HandlerExceptionResolver.class);
-        jwtAuthenticationFilter = new JwtAuthenticationFilter(handlerExceptionResolver, jwtService, userDetailsService);
+        jwtAuthenticationFilter = new JwtAuthenticationFilter(handlerExceptionResolver, jwtService, tokenRevocationRegistry);
         SecurityContextHolder.clearContext(); // Clear security context before each test
     }
 
@@ -68,15 +70,43 @@ class JwtAuthenticationFilterTest {
         String username = "testuser";
 
         when(request.getHeader("Authorization")).thenReturn("Bearer " + jwt);
-        when(jwtService.extractUsername(jwt)).thenReturn(username);
+        Claims claims = mock(Claims.class);
+        when(claims.getSubject()).thenReturn(username);
+        when(jwtService.verifyToken(jwt)).thenReturn(claims);
 
-        UserDetails userDetails = mock(UserDetails.class);
-        when(userDetailsService.loadUserByUsername(username)).thenReturn(userDetails);
-        when(jwtService.isTokenValid(jwt, userDetails)).thenReturn(true);
+        AuthenticatedUser principal = principal(username);
+        when(jwtService.extractPrincipal(claims)).thenReturn(principal);
+        when(jwtService.isTokenValid(claims, principal)).thenReturn(true);
 
         jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
 
-        verify(userDetailsService, times(1)).loadUserByUsername(username);
+        verify(jwtService, times(1)).verifyToken(jwt);
+        assertSame(principal, SecurityContextHolder.getContext().getAuthentication().getPrincipal());
+        verify(filterChain, times(1)).doFilter(request, response);
+    }
+
+    @Test
+    void shouldNotAuthenticateWhenTokenIsRevoked() throws Exception {
+        HttpServletRequest request = mock(HttpServletRequest.class);
+        HttpServletResponse response = mock(HttpServletResponse.class);
+        FilterChain filterChain = mock(FilterChain.class);
+
+        String jwt = "revokedJwtToken";
+        String username = "testuser";
+
+        when(request.getHeader("Authorization")).thenReturn("Bearer " + jwt);
+        Claims claims = mock(Claims.class);
+        when(claims.getSubject()).thenReturn(username);
+        when(jwtService.verifyToken(jwt)).thenReturn(claims);
+
+        AuthenticatedUser principal = principal(username);
+        when(jwtService.extractPrincipal(claims)).thenReturn(principal);
+        when(jwtService.isTokenValid(claims, principal)).thenReturn(true);
+        when(tokenRevocationRegistry.isRevoked(principal)).thenReturn(true);
+
+        jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
+
+        assertNull(SecurityContextHolder.getContext().getAuthentication());
         verify(filterChain, times(1)).doFilter(request, response);
     }
 
@@ -88,7 +118,7 @@ class JwtAuthenticationFilterTest {
 
         String jwt = "invalidJwtToken";
         when(request.getHeader("Authorization")).thenReturn("Bearer " + jwt);
-        when(jwtService.extractUsername(jwt)).thenThrow(new RuntimeException("JWT Error"));
+        when(jwtService.verifyToken(jwt)).thenThrow(new RuntimeException("JWT Error"));
 
         jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
 
@@ -96,4 +126,13 @@ class JwtAuthenticationFilterTest {
                 .resolveException(eq(request), eq(response), isNull(), any(RuntimeException.class));
         verify(filterChain, never()).doFilter(request, response);
     }
+
+    private AuthenticatedUser principal(String username) {
+        return AuthenticatedUser.builder()
+                .id(1L)
+                .username(username)
+                .role(Role.DEFAULT)
+                .version(0L)
+                .build();
+    }
 }
\ No newline at end of file
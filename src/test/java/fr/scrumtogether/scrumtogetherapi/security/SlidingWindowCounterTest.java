@@ -0,0 +1,143 @@
+package fr.scrumtogether.scrumtogetherapi.security;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class SlidingWindowCounterTest {
+    private static final long ORIGIN = 0L;
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    @Test
+    void increment_WhenCalledConcurrently_ShouldNotLoseAnyEvent() throws Exception {
+        int threads = 64;
+        int incrementsPerThread = 10_000;
+        SlidingWindowCounter counter = new SlidingWindowCounter(Duration.ofHours(1), 6, 1000, ORIGIN);
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        try {
+            for (int t = 0; t < threads; t++) {
+                String ownKey = "user:" + t;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < incrementsPerThread; i++) {
+                        counter.increment("ip:shared", ORIGIN);
+                        counter.increment(ownKey, ORIGIN);
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals((long) threads * incrementsPerThread, counter.count("ip:shared", ORIGIN));
+        for (int t = 0; t < threads; t++) {
+            assertEquals(incrementsPerThread, counter.count("user:" + t, ORIGIN));
+        }
+    }
+
+    @Test
+    void increment_WhenCalledConcurrentlyAcrossSlots_ShouldCountEveryEventInWindow() throws Exception {
+        int threads = 32;
+        int incrementsPerThread = 5_000;
+        SlidingWindowCounter counter = new SlidingWindowCounter(Duration.ofSeconds(60), 6, 1000, ORIGIN);
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        try {
+            for (int t = 0; t < threads; t++) {
+                long at = (t % 5) * 10 * SECOND;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < incrementsPerThread; i++) {
+                        counter.increment("key", at);
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals((long) threads * incrementsPerThread, counter.count("key", 45 * SECOND));
+    }
+
+    @Test
+    void count_WhenEventsLeaveTheWindow_ShouldSlideInsteadOfResetting() {
+        SlidingWindowCounter counter = new SlidingWindowCounter(Duration.ofSeconds(60), 6, 1000, ORIGIN);
+
+        counter.increment("key", 0);
+        counter.increment("key", 0);
+        counter.increment("key", 30 * SECOND);
+
+        assertEquals(3, counter.count("key", 55 * SECOND));
+        assertEquals(1, counter.count("key", 65 * SECOND));
+        assertEquals(0, counter.count("key", 95 * SECOND));
+    }
+
+    @Test
+    void increment_WhenSlotIsReused_ShouldDiscardThePreviousLap() {
+        SlidingWindowCounter counter = new SlidingWindowCounter(Duration.ofSeconds(60), 6, 1000, ORIGIN);
+
+        counter.increment("key", 0);
+        counter.increment("key", 0);
+
+        assertEquals(1, counter.increment("key", 60 * SECOND));
+    }
+
+    @Test
+    void release_ShouldWithdrawTheEventFromItsSlotOnly() {
+        SlidingWindowCounter counter = new SlidingWindowCounter(Duration.ofSeconds(60), 6, 1000, ORIGIN);
+        counter.increment("key", 0);
+        counter.increment("key", 30 * SECOND);
+
+        counter.release("key", 30 * SECOND);
+        counter.release("key", 30 * SECOND);
+
+        assertEquals(1, counter.count("key", 30 * SECOND));
+    }
+
+    @Test
+    void release_WhenSlotWasReused_ShouldNotTouchTheNewLap() {
+        SlidingWindowCounter counter = new SlidingWindowCounter(Duration.ofSeconds(60), 6, 1000, ORIGIN);
+        counter.increment("key", 0);
+        counter.increment("key", 60 * SECOND);
+
+        counter.release("key", 0);
+
+        assertEquals(1, counter.count("key", 60 * SECOND));
+    }
+
+    @Test
+    void reset_ShouldForgetOnlyTheGivenKey() {
+        SlidingWindowCounter counter = new SlidingWindowCounter(Duration.ofSeconds(60), 6, 1000, ORIGIN);
+        counter.increment("user:alice", 0);
+        counter.increment("ip:10.0.0.1", 0);
+
+        counter.reset("user:alice");
+
+        assertEquals(0, counter.count("user:alice", 0));
+        assertEquals(1, counter.count("ip:10.0.0.1", 0));
+    }
+}
@@ -0,0 +1,73 @@
+package fr.scrumtogether.scrumtogetherapi.security;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TokenBucketTest {
+
+    @Test
+    void tryConsume_WhenBucketIsFull_ShouldAllowCapacityThenReject() {
+        TokenBucket bucket = new TokenBucket(2, Duration.ofMinutes(1));
+        long now = 0;
+
+        TokenBucket.Probe first = bucket.tryConsume(now);
+        TokenBucket.Probe second = bucket.tryConsume(now);
+        TokenBucket.Probe third = bucket.tryConsume(now);
+
+        assertTrue(first.isConsumed());
+        assertEquals(1, first.getRemaining());
+        assertTrue(second.isConsumed());
+        assertEquals(0, second.getRemaining());
+        assertFalse(third.isConsumed());
+        assertEquals(TimeUnit.SECONDS.toNanos(30), third.getNanosToWaitForRefill());
+    }
+
+    @Test
+    void tryConsume_WhenRefillIntervalElapsed_ShouldAllowAgain() {
+        TokenBucket bucket = new TokenBucket(2, Duration.ofMinutes(1));
+
+        bucket.tryConsume(0);
+        bucket.tryConsume(0);
+
+        assertFalse(bucket.tryConsume(TimeUnit.SECONDS.toNanos(29)).isConsumed());
+        assertTrue(bucket.tryConsume(TimeUnit.SECONDS.toNanos(30)).isConsumed());
+    }
+
+    @Test
+    void tryConsume_UnderContention_ShouldGrantExactlyCapacity() throws Exception {
+        int capacity = 10_000;
+        int threads = 32;
+        int attemptsPerThread = 1_000;
+        TokenBucket bucket = new TokenBucket(capacity, Duration.ofHours(1));
+        AtomicInteger granted = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int j = 0; j < attemptsPerThread; j++) {
+                    if (bucket.tryConsume(0).isConsumed()) {
+                        granted.incrementAndGet();
+                    }
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        assertEquals(capacity, granted.get());
+    }
+}
@@ -0,0 +1,69 @@
+package fr.scrumtogether.scrumtogetherapi.security;
+
+import fr.scrumtogether.scrumtogetherapi.entities.TokenRevocation;
+import fr.scrumtogether.scrumtogetherapi.entities.User;
+import fr.scrumtogether.scrumtogetherapi.entities.enums.Role;
+import fr.scrumtogether.scrumtogetherapi.repositories.TokenRevocationRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class TokenRevocationRegistryTest {
+
+    private TokenRevocationRepository tokenRevocationRepository;
+    private TokenRevocationRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        tokenRevocationRepository = mock(TokenRevocationRepository.class);
+        when(tokenRevocationRepository.findByRevokedAtAfter(any())).thenReturn(List.of(
+                TokenRevocation.builder().userId(7L).revokedVersion(2L).revokedAt(LocalDateTime.now()).build()
+        ));
+        when(tokenRevocationRepository.findById(any())).thenReturn(Optional.empty());
+
+        registry = new TokenRevocationRegistry(tokenRevocationRepository);
+        ReflectionTestUtils.setField(registry, "jwtExpiration", 60_000L);
+        ReflectionTestUtils.setField(registry, "expectedInsertions", 100);
+        registry.rebuild();
+    }
+
+    @Test
+    void isRevoked_WhenRevocationLoadedAtStartup_ShouldRejectOlderVersions() {
+        assertTrue(registry.isRevoked(principal(7L, 2L)));
+        assertFalse(registry.isRevoked(principal(7L, 3L)));
+    }
+
+    @Test
+    void isRevoked_WhenUserNeverRevoked_ShouldAcceptToken() {
+        assertFalse(registry.isRevoked(principal(1L, 0L)));
+    }
+
+    @Test
+    void revoke_ShouldPersistAndRejectTokensUpToCurrentVersion() {
+        User user = User.builder().id(1L).username("testuser").role(Role.DEFAULT).version(4L).build();
+
+        registry.revoke(user);
+
+        verify(tokenRevocationRepository, times(1)).save(any(TokenRevocation.class));
+        assertTrue(registry.isRevoked(principal(1L, 4L)));
+        assertFalse(registry.isRevoked(principal(1L, 5L)));
+    }
+
+    private AuthenticatedUser principal(Long id, Long version) {
+        return AuthenticatedUser.builder()
+                .id(id)
+                .username("testuser")
+                .role(Role.DEFAULT)
+                .version(version)
+                .build();
+    }
+}
@@ -0,0 +1,74 @@
+package fr.scrumtogether.scrumtogetherapi.security;
+
+import fr.scrumtogether.scrumtogetherapi.config.JpaConfig;
+import fr.scrumtogether.scrumtogetherapi.entities.User;
+import fr.scrumtogether.scrumtogetherapi.repositories.UserRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.crypto.factory.PasswordEncoderFactories;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(JpaConfig.class)
+class UserAuthenticationProviderTest {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private UserAuthenticationProvider provider;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        userRepository.saveAndFlush(User.builder()
+                .username("testuser")
+                .email("testuser@example.com")
+                .firstName("Test")
+                .lastName("User")
+                .password("{noop}securePassword")
+                .build());
+        entityManager.clear();
+
+        provider = new UserAuthenticationProvider(userRepository, PasswordEncoderFactories.createDelegatingPasswordEncoder());
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void authenticate_WhenCredentialsAreValid_ShouldRunASingleStatement() {
+        Authentication authentication = provider.authenticate(
+                UsernamePasswordAuthenticationToken.unauthenticated("testuser", "securePassword"));
+
+        assertEquals("testuser", ((User) authentication.getPrincipal()).getUsername());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void authenticate_WhenPasswordIsWrong_ShouldRunASingleStatement() {
+        assertThrows(BadCredentialsException.class, () -> provider.authenticate(
+                UsernamePasswordAuthenticationToken.unauthenticated("testuser", "wrongPassword")));
+
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+}
@@ -0,0 +1,73 @@
+package fr.scrumtogether.scrumtogetherapi.services;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import fr.scrumtogether.scrumtogetherapi.config.JpaConfig;
+import fr.scrumtogether.scrumtogetherapi.dtos.AuditFilter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(JpaConfig.class)
+class AuditExportServiceTest {
+    private static final LocalDateTime START = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    private AuditExportService auditExportService;
+
+    @BeforeEach
+    void setUp() {
+        auditExportService = new AuditExportService(jdbcTemplate, objectMapper, 2);
+        for (int i = 0; i < 5; i++) {
+            jdbcTemplate.update("insert into audit_log (entity_type, entity_id, action, entity_version, snapshot, " +
+                            "old_value, new_value, created_by, created_at) values (?, ?, 'UPDATE', ?, false, '{}', ?, 'admin', ?)",
+                    "USER", i % 2 == 0 ? 42L : 43L, (long) i, "{\"n\":" + i + "}", Timestamp.valueOf(START.plusHours(i)));
+        }
+    }
+
+    @Test
+    void export_ShouldWriteOneJsonObjectPerMatchingRowOldestFirst() throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        long written = auditExportService.export(AuditFilter.builder().entityType("USER").entityId(42L).build(), output);
+
+        String[] lines = output.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(3, written);
+        assertEquals(3, lines.length);
+        JsonNode first = objectMapper.readTree(lines[0]);
+        assertEquals(42L, first.get("entityId").asLong());
+        assertEquals("{\"n\":0}", first.get("newValue").asText());
+        assertEquals(0L, first.get("entityVersion").asLong());
+        assertEquals(4L, objectMapper.readTree(lines[2]).get("entityVersion").asLong());
+    }
+
+    @Test
+    void export_WithDateRange_ShouldExcludeTheEndOfTheRange() throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        long written = auditExportService.export(AuditFilter.builder()
+                .from(START.plusHours(1))
+                .to(START.plusHours(3))
+                .build(), output);
+
+        assertEquals(2, written);
+    }
+}
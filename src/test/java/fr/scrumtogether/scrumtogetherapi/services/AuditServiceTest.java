@@ -0,0 +1,106 @@
+package fr.scrumtogether.scrumtogetherapi.services;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import fr.scrumtogether.scrumtogetherapi.dtos.EntityVersionDto;
+import fr.scrumtogether.scrumtogetherapi.entities.AuditLog;
+import fr.scrumtogether.scrumtogetherapi.entities.User;
+import fr.scrumtogether.scrumtogetherapi.entities.enums.Role;
+import fr.scrumtogether.scrumtogetherapi.exceptions.ValidationException;
+import fr.scrumtogether.scrumtogetherapi.repositories.AuditRepository;
+import fr.scrumtogether.scrumtogetherapi.security.AuthenticatedUser;
+import fr.scrumtogether.scrumtogetherapi.utils.SecurityUtils;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class AuditServiceTest {
+
+    private AuditWriter auditWriter;
+    private AuditRepository auditRepository;
+    private AuditService auditService;
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+    @BeforeEach
+    void setUp() {
+        auditWriter = mock(AuditWriter.class);
+        auditRepository = mock(AuditRepository.class);
+        SecurityUtils securityUtils = mock(SecurityUtils.class);
+        when(securityUtils.getCurrentUser()).thenReturn(AuthenticatedUser.from(User.builder()
+                .id(1L).username("admin").role(Role.ADMIN).build()));
+        auditService = new AuditService(auditWriter, auditRepository, objectMapper, securityUtils, 20);
+    }
+
+    @Test
+    void logUpdate_ShouldStoreChangedFieldsOnlyUnlessASnapshotIsDue() {
+        Map<String, Object> state = Map.of("firstName", "Johnny", "lastName", "Doe");
+
+        auditService.logUpdate("USER", 1L, 5L, Map.of("firstName", "John"), Map.of("firstName", "Johnny"), state);
+        auditService.logUpdate("USER", 1L, 21L, Map.of("firstName", "John"), Map.of("firstName", "Johnny"), state);
+
+        ArgumentCaptor<AuditLog> captor = ArgumentCaptor.forClass(AuditLog.class);
+        verify(auditWriter, times(2)).enqueue(captor.capture());
+        AuditLog diff = captor.getAllValues().get(0);
+        assertFalse(diff.isSnapshot());
+        assertEquals("{\"firstName\":\"Johnny\"}", diff.getNewValue());
+        AuditLog snapshot = captor.getAllValues().get(1);
+        assertTrue(snapshot.isSnapshot());
+        assertTrue(snapshot.getNewValue().contains("lastName"));
+    }
+
+    @Test
+    void reconstruct_ShouldReplayDiffsForwardFromTheLatestSnapshot() {
+        when(auditRepository.findSnapshotsAtOrBefore(eq("USER"), eq(1L), eq(3L), any()))
+                .thenReturn(List.of(record(1L, true, null, "{\"firstName\":\"John\",\"lastName\":\"Doe\"}")));
+        when(auditRepository.findVersionsBetween("USER", 1L, 2L, 3L)).thenReturn(List.of(
+                record(2L, false, "{\"firstName\":\"John\"}", "{\"firstName\":\"Johnny\"}"),
+                record(3L, false, "{\"lastName\":\"Doe\"}", "{\"lastName\":\"Dane\"}")));
+
+        EntityVersionDto version = auditService.reconstruct("USER", 1L, 3L);
+
+        assertEquals(Map.of("firstName", "Johnny", "lastName", "Dane"), version.getState());
+    }
+
+    @Test
+    void reconstruct_WithoutEarlierSnapshot_ShouldReplayPreviousValuesBackward() {
+        when(auditRepository.findSnapshotsAtOrBefore(eq("USER"), eq(1L), eq(0L), any())).thenReturn(List.of());
+        when(auditRepository.findSnapshotsAfter(eq("USER"), eq(1L), eq(0L), any()))
+                .thenReturn(List.of(record(2L, true, "{\"lastName\":\"Doe\"}", "{\"firstName\":\"Johnny\",\"lastName\":\"Dane\"}")));
+        when(auditRepository.findVersionsBetween("USER", 1L, 1L, 2L)).thenReturn(List.of(
+                record(1L, false, "{\"firstName\":\"John\"}", "{\"firstName\":\"Johnny\"}"),
+                record(2L, true, "{\"lastName\":\"Doe\"}", "{\"firstName\":\"Johnny\",\"lastName\":\"Dane\"}")));
+
+        EntityVersionDto version = auditService.reconstruct("USER", 1L, 0L);
+
+        assertEquals(Map.of("firstName", "John", "lastName", "Doe"), version.getState());
+    }
+
+    @Test
+    void reconstruct_WhenAVersionIsMissing_ShouldFail() {
+        when(auditRepository.findSnapshotsAtOrBefore(eq("USER"), eq(1L), eq(3L), any()))
+                .thenReturn(List.of(record(1L, true, null, "{\"firstName\":\"John\"}")));
+        when(auditRepository.findVersionsBetween("USER", 1L, 2L, 3L))
+                .thenReturn(List.of(record(3L, false, "{\"firstName\":\"John\"}", "{\"firstName\":\"Johnny\"}")));
+
+        assertThrows(ValidationException.class, () -> auditService.reconstruct("USER", 1L, 3L));
+    }
+
+    private AuditLog record(Long version, boolean snapshot, String oldValue, String newValue) {
+        return AuditLog.builder()
+                .entityType("USER")
+                .entityId(1L)
+                .action("UPDATE")
+                .entityVersion(version)
+                .snapshot(snapshot)
+                .oldValue(oldValue)
+                .newValue(newValue)
+                .build();
+    }
+}
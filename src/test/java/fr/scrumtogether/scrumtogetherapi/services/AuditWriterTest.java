@@ -0,0 +1,104 @@
+package fr.scrumtogether.scrumtogetherapi.services;
+
+import fr.scrumtogether.scrumtogetherapi.config.AuditConfig;
+import fr.scrumtogether.scrumtogetherapi.entities.AuditLog;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class AuditWriterTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate transactionTemplate;
+    private AuditConfig config;
+    private MeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = mock(JdbcTemplate.class);
+        transactionTemplate = mock(TransactionTemplate.class);
+        doAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null))
+                .when(transactionTemplate).execute(any());
+        doCallRealMethod().when(transactionTemplate).executeWithoutResult(any());
+
+        config = new AuditConfig();
+        config.setQueueCapacity(2);
+        config.setFlushSize(10);
+        config.setFlushInterval(Duration.ofMillis(20));
+        config.setOfferTimeout(Duration.ZERO);
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void destroy_ShouldWriteQueuedRecordsInOneBatch() throws InterruptedException {
+        AuditWriter writer = new AuditWriter(jdbcTemplate, transactionTemplate, config, meterRegistry);
+
+        assertTrue(writer.enqueue(auditLog(1L)));
+        assertTrue(writer.enqueue(auditLog(2L)));
+        writer.start();
+        writer.destroy();
+
+        verify(jdbcTemplate, times(1)).batchUpdate(startsWith("insert into audit_log"), anyList());
+        assertEquals(2, meterRegistry.get("audit.writer.written").counter().count());
+        assertEquals(Duration.ZERO, writer.lag());
+    }
+
+    @Test
+    void destroy_WhenRecordsAreLeftAfterTheWriterStopped_ShouldWriteThem() throws InterruptedException {
+        AuditWriter writer = new AuditWriter(jdbcTemplate, transactionTemplate, config, meterRegistry);
+
+        assertTrue(writer.enqueue(auditLog(1L)));
+        writer.destroy();
+
+        verify(jdbcTemplate, times(1)).batchUpdate(startsWith("insert into audit_log"), anyList());
+        assertEquals(1, meterRegistry.get("audit.writer.written").counter().count());
+        assertEquals(Duration.ZERO, writer.lag());
+    }
+
+    @Test
+    void enqueue_WhenQueueIsFull_ShouldDropAndCount() {
+        AuditWriter writer = new AuditWriter(jdbcTemplate, transactionTemplate, config, meterRegistry);
+
+        assertTrue(writer.enqueue(auditLog(1L)));
+        assertTrue(writer.enqueue(auditLog(2L)));
+        assertFalse(writer.enqueue(auditLog(3L)));
+
+        assertEquals(1, meterRegistry.get("audit.writer.dropped").counter().count());
+        assertTrue(writer.lag().compareTo(Duration.ZERO) > 0);
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    void flush_WhenBatchFails_ShouldCountLostRecordsAndKeepRunning() throws InterruptedException {
+        when(jdbcTemplate.batchUpdate(anyString(), anyList())).thenThrow(new RuntimeException("down"));
+        AuditWriter writer = new AuditWriter(jdbcTemplate, transactionTemplate, config, meterRegistry);
+        writer.start();
+
+        writer.enqueue(auditLog(1L));
+        writer.destroy();
+
+        assertEquals(1, meterRegistry.get("audit.writer.failed").counter().count());
+    }
+
+    private AuditLog auditLog(Long entityId) {
+        return AuditLog.builder()
+                .entityType("USER")
+                .entityId(entityId)
+                .action("UPDATE")
+                .createdBy("admin")
+                .createdAt(LocalDateTime.now().minusSeconds(1))
+                .build();
+    }
+}
@@ -0,0 +1,83 @@
+package fr.scrumtogether.scrumtogetherapi.services;
+
+import fr.scrumtogether.scrumtogetherapi.dtos.SignInRequest;
+import fr.scrumtogether.scrumtogetherapi.entities.User;
+import fr.scrumtogether.scrumtogetherapi.entities.enums.Role;
+import fr.scrumtogether.scrumtogetherapi.exceptions.AuthenticationException;
+import fr.scrumtogether.scrumtogetherapi.mappers.UserMapper;
+import fr.scrumtogether.scrumtogetherapi.repositories.UserRepository;
+import fr.scrumtogether.scrumtogetherapi.security.UserAuthenticationProvider;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.ProviderManager;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+class AuthenticationServiceTest {
+
+    private UserRepository userRepository;
+    private PasswordEncoder passwordEncoder;
+    private AuthenticationService authenticationService;
+
+    @BeforeEach
+    void setUp() {
+        userRepository = mock(UserRepository.class);
+        passwordEncoder = mock(PasswordEncoder.class);
+        UserAuthenticationProvider provider = new UserAuthenticationProvider(userRepository, passwordEncoder);
+        authenticationService = new AuthenticationService(userRepository, mock(UserMapper.class), new ProviderManager(provider),
+                mock(UserSearchIndex.class), mock(UserAvailabilityRegistry.class));
+    }
+
+    @Test
+    void authenticate_WhenCredentialsAreValid_ShouldLoadUserExactlyOnce() {
+        User user = User.builder()
+                .id(1L)
+                .username("testuser")
+                .password("{bcrypt}hash")
+                .role(Role.DEFAULT)
+                .build();
+        when(userRepository.findByUsernameAndDeletedAtIsNull("testuser")).thenReturn(Optional.of(user));
+        when(passwordEncoder.matches("securePassword", "{bcrypt}hash")).thenReturn(true);
+
+        User authenticated = authenticationService.authenticate(new SignInRequest("testuser", "securePassword"));
+
+        assertSame(user, authenticated);
+        verify(userRepository, times(1)).findByUsernameAndDeletedAtIsNull("testuser");
+        verifyNoMoreInteractions(userRepository);
+    }
+
+    @Test
+    void authenticate_WhenPasswordIsWrong_ShouldThrowAfterSingleLookup() {
+        User user = User.builder()
+                .id(1L)
+                .username("testuser")
+                .password("{bcrypt}hash")
+                .role(Role.DEFAULT)
+                .build();
+        when(userRepository.findByUsernameAndDeletedAtIsNull("testuser")).thenReturn(Optional.of(user));
+        when(passwordEncoder.matches("wrongPassword", "{bcrypt}hash")).thenReturn(false);
+
+        assertThrows(AuthenticationException.class,
+                () -> authenticationService.authenticate(new SignInRequest("testuser", "wrongPassword")));
+        verify(userRepository, times(1)).findByUsernameAndDeletedAtIsNull("testuser");
+        verifyNoMoreInteractions(userRepository);
+    }
+
+    @Test
+    void authenticate_WhenUserIsUnknown_ShouldStillCompareAPasswordHash() {
+        when(userRepository.findByUsernameAndDeletedAtIsNull("unknown")).thenReturn(Optional.empty());
+        when(passwordEncoder.encode(anyString())).thenReturn("{bcrypt}dummy");
+
+        assertThrows(AuthenticationException.class,
+                () -> authenticationService.authenticate(new SignInRequest("unknown", "securePassword")));
+        verify(passwordEncoder, times(1)).matches("securePassword", "{bcrypt}dummy");
+        verify(userRepository, times(1)).findByUsernameAndDeletedAtIsNull("unknown");
+        verifyNoMoreInteractions(userRepository);
+    }
+}
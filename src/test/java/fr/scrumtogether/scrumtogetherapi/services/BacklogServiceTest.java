@@ -0,0 +1,115 @@
+package fr.scrumtogether.scrumtogetherapi.services;
+
+import fr.scrumtogether.scrumtogetherapi.config.JpaConfig;
+import fr.scrumtogether.scrumtogetherapi.dtos.BacklogItemDto;
+import fr.scrumtogether.scrumtogetherapi.dtos.ItemDto;
+import fr.scrumtogether.scrumtogetherapi.entities.ItemClosureId;
+import fr.scrumtogether.scrumtogetherapi.entities.Project;
+import fr.scrumtogether.scrumtogetherapi.exceptions.ValidationException;
+import fr.scrumtogether.scrumtogetherapi.repositories.ItemClosureRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({JpaConfig.class, BacklogService.class, ItemClosureRebuilder.class, RollupService.class})
+class BacklogServiceTest {
+    @Autowired
+    private BacklogService backlogService;
+
+    @Autowired
+    private ItemClosureRebuilder itemClosureRebuilder;
+
+    @Autowired
+    private ItemClosureRepository itemClosureRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Long projectId;
+    private BacklogItemDto epic;
+    private BacklogItemDto feature;
+    private BacklogItemDto story;
+    private BacklogItemDto otherEpic;
+
+    @BeforeEach
+    void setUp() {
+        Project project = new Project();
+        project.setName("Project");
+        project.setStartDate(LocalDate.now());
+        project.setEndDate(LocalDate.now().plusMonths(1));
+        entityManager.persist(project);
+        projectId = project.getId();
+
+        epic = backlogService.create(projectId, new ItemDto("EPIC", "Epic", "E-1", null, null));
+        feature = backlogService.create(projectId, new ItemDto("FEATURE", "Feature", "F-1", null, epic.getId()));
+        story = backlogService.create(projectId, new ItemDto("USER_STORY", "Story", "US-1", null, feature.getId()));
+        otherEpic = backlogService.create(projectId, new ItemDto("EPIC", "Other epic", "E-2", null, null));
+        entityManager.clear();
+    }
+
+    @Test
+    void getBacklog_WhenItemsAreNested_ShouldReturnTheTree() {
+        List<BacklogItemDto> backlog = backlogService.getBacklog(projectId, null);
+
+        assertEquals(List.of(epic.getId(), otherEpic.getId()), backlog.stream().map(BacklogItemDto::getId).toList());
+        BacklogItemDto readFeature = backlog.get(0).getChildren().get(0);
+        assertEquals("FEATURE", readFeature.getType());
+        assertEquals(story.getId(), readFeature.getChildren().get(0).getId());
+        assertEquals("USER_STORY", readFeature.getChildren().get(0).getType());
+        assertTrue(backlog.get(1).getChildren().isEmpty());
+    }
+
+    @Test
+    void move_WhenMovingASubtree_ShouldRelinkItsDescendants() {
+        backlogService.move(projectId, feature.getId(), otherEpic.getId());
+        entityManager.clear();
+
+        List<BacklogItemDto> subtree = backlogService.getBacklog(projectId, otherEpic.getId());
+        assertEquals(1, subtree.size());
+        assertEquals(feature.getId(), subtree.get(0).getChildren().get(0).getId());
+        assertEquals(story.getId(), subtree.get(0).getChildren().get(0).getChildren().get(0).getId());
+        assertFalse(itemClosureRepository.existsById(new ItemClosureId(epic.getId(), story.getId())));
+        assertEquals(2, itemClosureRepository.findById(new ItemClosureId(otherEpic.getId(), story.getId()))
+                .orElseThrow().getDepth());
+    }
+
+    @Test
+    void move_WhenParentTypeIsInvalid_ShouldThrowValidationException() {
+        assertThrows(ValidationException.class, () -> backlogService.move(projectId, epic.getId(), otherEpic.getId()));
+    }
+
+    @Test
+    void rebuild_WhenPairsAreMissing_ShouldRestoreThemFromParents() {
+        List<Long> before = itemClosureRepository.findSubtreeIds(epic.getId());
+        itemClosureRepository.deleteAllPairs();
+
+        itemClosureRebuilder.rebuild();
+
+        assertEquals(4, itemClosureRepository.countItems());
+        assertEquals(before, itemClosureRepository.findSubtreeIds(epic.getId()));
+        assertEquals(List.of(feature.getId(), epic.getId()).stream().sorted().toList(),
+                itemClosureRepository.findAncestorIds(story.getId()).stream().sorted().toList());
+    }
+
+    @Test
+    void rebuild_WhenParentsFormACycle_ShouldFailInsteadOfLooping() {
+        entityManager.createNativeQuery("update item set parent_id = :parentId where id = :id")
+                .setParameter("parentId", story.getId())
+                .setParameter("id", epic.getId())
+                .executeUpdate();
+
+        IllegalStateException exception = assertThrows(IllegalStateException.class, () -> itemClosureRebuilder.rebuild());
+        assertTrue(exception.getMessage().contains("cycle"));
+    }
+}
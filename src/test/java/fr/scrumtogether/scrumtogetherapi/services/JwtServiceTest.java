@@ -0,0 +1,93 @@
+package fr.scrumtogether.scrumtogetherapi.services;
+
+import fr.scrumtogether.scrumtogetherapi.entities.enums.Role;
+import fr.scrumtogether.scrumtogetherapi.security.AuthenticatedUser;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JwtServiceTest {
+    private static final String SECRET = "AwesomeScrumTogetherSecretKey1WhichIsTheMostSECRETEverAwesomeScrumTogetherSecretKey1";
+
+    private JwtService jwtService;
+    private UserDetails userDetails;
+
+    @BeforeEach
+    void setUp() {
+        jwtService = new JwtService();
+        ReflectionTestUtils.setField(jwtService, "secretKey", SECRET);
+        ReflectionTestUtils.setField(jwtService, "jwtExpiration", 60_000L);
+        ReflectionTestUtils.setField(jwtService, "verifiedCacheSize", 100L);
+        jwtService.init();
+
+        userDetails = new User("testuser", "password", List.of());
+    }
+
+    @Test
+    void verifyToken_WhenTokenIsValid_ShouldReturnClaims() {
+        String token = jwtService.generateToken(userDetails);
+
+        Claims claims = jwtService.verifyToken(token);
+
+        assertEquals("testuser", claims.getSubject());
+        assertTrue(jwtService.isTokenValid(claims, userDetails));
+    }
+
+    @Test
+    void verifyToken_WhenTokenIsReused_ShouldServeVerifiedClaimsFromCache() {
+        String token = jwtService.generateToken(userDetails);
+
+        Claims first = jwtService.verifyToken(token);
+        Claims second = jwtService.verifyToken(token);
+
+        assertSame(first, second);
+    }
+
+    @Test
+    void verifyToken_WhenTokenIsTampered_ShouldThrow() {
+        String token = jwtService.generateToken(userDetails);
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("A") ? "BB" : "AA");
+
+        assertThrows(JwtException.class, () -> jwtService.verifyToken(tampered));
+    }
+
+    @Test
+    void isTokenValid_WhenSubjectDiffers_ShouldReturnFalse() {
+        String token = jwtService.generateToken(userDetails);
+        UserDetails other = new User("otheruser", "password", List.of());
+
+        assertFalse(jwtService.isTokenValid(token, other));
+    }
+
+    @Test
+    void extractPrincipal_WhenTokenIssuedForUserEntity_ShouldRebuildPrincipalFromClaims() {
+        fr.scrumtogether.scrumtogetherapi.entities.User user = fr.scrumtogether.scrumtogetherapi.entities.User.builder()
+                .id(42L)
+                .username("testuser")
+                .role(Role.ADMIN)
+                .version(3L)
+                .build();
+
+        AuthenticatedUser principal = jwtService.extractPrincipal(jwtService.verifyToken(jwtService.generateToken(user)));
+
+        assertEquals(42L, principal.getId());
+        assertEquals("testuser", principal.getUsername());
+        assertEquals(Role.ADMIN, principal.getRole());
+        assertEquals(3L, principal.getVersion());
+    }
+
+    @Test
+    void extractPrincipal_WhenTokenHasNoPrincipalClaims_ShouldReturnNull() {
+        String token = jwtService.generateToken(userDetails);
+
+        assertNull(jwtService.extractPrincipal(jwtService.verifyToken(token)));
+    }
+}
@@ -0,0 +1,84 @@
+package fr.scrumtogether.scrumtogetherapi.services;
+
+import fr.scrumtogether.scrumtogetherapi.dtos.ItemDto;
+import fr.scrumtogether.scrumtogetherapi.dtos.TaskDto;
+import fr.scrumtogether.scrumtogetherapi.entities.Item;
+import fr.scrumtogether.scrumtogetherapi.entities.Project;
+import fr.scrumtogether.scrumtogetherapi.entities.Sprint;
+import fr.scrumtogether.scrumtogetherapi.entities.TaskStatus;
+import jakarta.persistence.EntityManager;
+import org.springframework.context.annotation.Import;
+
+import java.time.Duration;
+import java.time.LocalDate;
+
+/**
+ * Creates the projects, sprints, statuses and backlog items shared by the planning service tests.
+ * Importing it also imports the services that write backlog items and tasks.
+ */
+@Import({BacklogService.class, ItemClosureRebuilder.class, RollupService.class, TaskService.class, TaskEventService.class})
+class PlanningTestData {
+    private final EntityManager entityManager;
+    private final BacklogService backlogService;
+
+    PlanningTestData(EntityManager entityManager, BacklogService backlogService) {
+        this.entityManager = entityManager;
+        this.backlogService = backlogService;
+    }
+
+    Project project(LocalDate start) {
+        Project project = new Project();
+        project.setName("Project");
+        project.setStartDate(start);
+        project.setEndDate(start.plusMonths(6));
+        entityManager.persist(project);
+        return project;
+    }
+
+    Sprint sprint(Project project, int number, LocalDate start, LocalDate end) {
+        Sprint sprint = new Sprint();
+        sprint.setName("Sprint " + number);
+        sprint.setNumber(number);
+        sprint.setStartDate(start);
+        sprint.setEndDate(end);
+        sprint.setProject(project);
+        entityManager.persist(sprint);
+        return sprint;
+    }
+
+    Long status(String code, boolean closed) {
+        TaskStatus status = new TaskStatus();
+        status.setCode(code);
+        status.setClosed(closed);
+        entityManager.persist(status);
+        return status.getId();
+    }
+
+    Long item(Project project, String type, Long parentId) {
+        return backlogService.create(project.getId(), new ItemDto(type, type, null, null, parentId)).getId();
+    }
+
+    /**
+     * Creates a user story at the top of the backlog, planned in the given sprint.
+     */
+    Long story(Project project, Sprint sprint) {
+        Long storyId = item(project, "USER_STORY", null);
+        entityManager.find(Item.class, storyId).setSprint(sprint);
+        entityManager.flush();
+        return storyId;
+    }
+
+    static TaskDto task(Long userStoryId, Integer estimation, Long statusId) {
+        return task(userStoryId, estimation, null, statusId);
+    }
+
+    static TaskDto task(Long userStoryId, Integer estimation, Duration duration, Long statusId) {
+        return TaskDto.builder()
+                .name("Task")
+                .estimation(estimation)
+                .duration(duration)
+                .userStoryId(userStoryId)
+                .statusId(statusId)
+                .build();
+    }
+}
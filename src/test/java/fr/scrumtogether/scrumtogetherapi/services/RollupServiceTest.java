@@ -0,0 +1,134 @@
+package fr.scrumtogether.scrumtogetherapi.services;
+
+import fr.scrumtogether.scrumtogetherapi.config.JpaConfig;
+import fr.scrumtogether.scrumtogetherapi.dtos.TaskDto;
+import fr.scrumtogether.scrumtogetherapi.entities.*;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.time.Duration;
+import java.time.LocalDate;
+
+import static fr.scrumtogether.scrumtogetherapi.services.PlanningTestData.task;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({JpaConfig.class, PlanningTestData.class})
+class RollupServiceTest {
+    @Autowired
+    private RollupService rollupService;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private BacklogService backlogService;
+
+    @Autowired
+    private PlanningTestData planningTestData;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Long projectId;
+    private Long sprintId;
+    private Long epicId;
+    private Long otherEpicId;
+    private Long featureId;
+    private Long storyId;
+    private Long otherStoryId;
+    private Long openStatusId;
+    private Long closedStatusId;
+
+    @BeforeEach
+    void setUp() {
+        Project project = planningTestData.project(LocalDate.now());
+        projectId = project.getId();
+        Sprint sprint = planningTestData.sprint(project, 1, LocalDate.now(), LocalDate.now().plusWeeks(2));
+        sprintId = sprint.getId();
+
+        openStatusId = planningTestData.status("TODO", false);
+        closedStatusId = planningTestData.status("DONE", true);
+
+        epicId = planningTestData.item(project, "EPIC", null);
+        otherEpicId = planningTestData.item(project, "EPIC", null);
+        featureId = planningTestData.item(project, "FEATURE", epicId);
+        storyId = planningTestData.item(project, "USER_STORY", featureId);
+        otherStoryId = planningTestData.item(project, "USER_STORY", otherEpicId);
+        entityManager.find(Item.class, storyId).setSprint(sprint);
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void taskWrites_ShouldMoveTheRollupsOfAncestorsAndSprint() {
+        TaskDto first = taskService.create(task(storyId, 3, Duration.ofHours(2), openStatusId));
+        taskService.create(task(storyId, 5, null, closedStatusId));
+        assertRollup(new Rollup(8, 7200, 1), itemRollup(epicId));
+        assertRollup(new Rollup(8, 7200, 1), sprintRollup());
+
+        taskService.update(first.getId(), task(storyId, 1, Duration.ofHours(3), closedStatusId));
+        assertRollup(new Rollup(6, 10800, 0), itemRollup(featureId));
+        assertRollup(new Rollup(6, 10800, 0), sprintRollup());
+
+        taskService.update(first.getId(), task(otherStoryId, 1, Duration.ofHours(3), openStatusId));
+        assertRollup(new Rollup(5, 0, 0), itemRollup(epicId));
+        assertRollup(new Rollup(1, 10800, 1), itemRollup(otherEpicId));
+        assertRollup(new Rollup(5, 0, 0), sprintRollup());
+
+        taskService.delete(first.getId());
+        assertRollup(Rollup.ZERO, itemRollup(otherEpicId));
+        assertRollup(Rollup.ZERO, itemRollup(otherStoryId));
+    }
+
+    @Test
+    void move_WhenMovingASubtree_ShouldShiftItsRollup() {
+        taskService.create(task(storyId, 3, Duration.ofMinutes(30), openStatusId));
+        entityManager.flush();
+        entityManager.clear();
+
+        backlogService.move(projectId, featureId, otherEpicId);
+
+        assertRollup(Rollup.ZERO, itemRollup(epicId));
+        assertRollup(new Rollup(3, 1800, 1), itemRollup(otherEpicId));
+        assertRollup(new Rollup(3, 1800, 1), itemRollup(featureId));
+    }
+
+    @Test
+    void repair_WhenRollupsDrifted_ShouldRecomputeThem() {
+        taskService.create(task(storyId, 3, Duration.ofMinutes(30), openStatusId));
+        taskService.create(task(otherStoryId, 2, null, openStatusId));
+        entityManager.createNativeQuery("update item set total_estimation = 42, open_task_count = 0").executeUpdate();
+        entityManager.createNativeQuery("update sprint set total_duration_seconds = 0").executeUpdate();
+
+        int repaired = rollupService.repair(projectId);
+
+        assertEquals(6, repaired);
+        assertRollup(new Rollup(3, 1800, 1), itemRollup(epicId));
+        assertRollup(new Rollup(2, 0, 1), itemRollup(otherEpicId));
+        assertRollup(new Rollup(3, 1800, 1), sprintRollup());
+        assertEquals(0, rollupService.repair(projectId));
+    }
+
+    private Rollup itemRollup(Long itemId) {
+        entityManager.flush();
+        entityManager.clear();
+        return entityManager.find(Item.class, itemId).getRollup();
+    }
+
+    private Rollup sprintRollup() {
+        entityManager.flush();
+        entityManager.clear();
+        return entityManager.find(Sprint.class, sprintId).getRollup();
+    }
+
+    private void assertRollup(Rollup expected, Rollup actual) {
+        assertEquals(expected, actual);
+    }
+}
@@ -0,0 +1,193 @@
+package fr.scrumtogether.scrumtogetherapi.services;
+
+import fr.scrumtogether.scrumtogetherapi.config.JpaConfig;
+import fr.scrumtogether.scrumtogetherapi.dtos.BoardDto;
+import fr.scrumtogether.scrumtogetherapi.dtos.BurndownDto;
+import fr.scrumtogether.scrumtogetherapi.dtos.CumulativeFlowDto;
+import fr.scrumtogether.scrumtogetherapi.dtos.TaskDto;
+import fr.scrumtogether.scrumtogetherapi.entities.*;
+import fr.scrumtogether.scrumtogetherapi.entities.enums.SeverityLevel;
+import fr.scrumtogether.scrumtogetherapi.repositories.TaskStatusEventRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static fr.scrumtogether.scrumtogetherapi.services.PlanningTestData.task;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({JpaConfig.class, PlanningTestData.class, SprintService.class, TaskStatusCache.class,
+        SprintDailyStatusBackfill.class})
+class SprintServiceTest {
+    @Autowired
+    private SprintService sprintService;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private PlanningTestData planningTestData;
+
+    @Autowired
+    private TaskStatusEventRepository taskStatusEventRepository;
+
+    @Autowired
+    private TaskStatusCache taskStatusCache;
+
+    @Autowired
+    private SprintDailyStatusBackfill sprintDailyStatusBackfill;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private final LocalDate start = LocalDate.now().minusDays(2);
+    private Long sprintId;
+    private Long storyId;
+    private Long openStatusId;
+    private Long closedStatusId;
+
+    @BeforeEach
+    void setUp() {
+        Project project = planningTestData.project(start);
+        Sprint sprint = planningTestData.sprint(project, 1, start, start.plusDays(9));
+        sprintId = sprint.getId();
+
+        openStatusId = planningTestData.status("TODO", false);
+        closedStatusId = planningTestData.status("DONE", true);
+        storyId = planningTestData.story(project, sprint);
+
+        // Two tasks committed on the first day, one of them done the day after
+        dailyRow(start, openStatusId, 2, 8);
+        dailyRow(start.plusDays(1), openStatusId, -1, -5);
+        dailyRow(start.plusDays(1), closedStatusId, 1, 5);
+        entityManager.flush();
+        entityManager.clear();
+        taskStatusCache.load();
+    }
+
+    @Test
+    void getBoard_ShouldGroupTasksAndBugReportsByStatus() {
+        User reporter = User.builder()
+                .username("reporter")
+                .email("reporter@example.com")
+                .firstName("First")
+                .lastName("Last")
+                .password("{noop}password")
+                .build();
+        entityManager.persist(reporter);
+        BugReport bug = new BugReport();
+        bug.setName("Bug");
+        bug.setUserStory(entityManager.find(UserStory.class, storyId));
+        bug.setStatus(entityManager.find(TaskStatus.class, openStatusId));
+        bug.setSeverityLevel(SeverityLevel.MAJOR);
+        bug.setDetectionDate(LocalDateTime.now());
+        bug.setReporter(reporter);
+        entityManager.persist(bug);
+        TaskDto done = taskService.create(task(storyId, 3, closedStatusId));
+        entityManager.flush();
+        entityManager.clear();
+
+        BoardDto board = sprintService.getBoard(sprintId);
+
+        assertEquals(List.of("TODO", "DONE"), board.getColumns().stream().map(BoardDto.Column::getCode).toList());
+        BoardDto.Card bugCard = board.getColumns().get(0).getTasks().get(0);
+        assertEquals(bug.getId(), bugCard.getId());
+        assertEquals(SeverityLevel.MAJOR, bugCard.getSeverityLevel());
+        assertEquals(storyId, bugCard.getUserStoryId());
+        BoardDto.Card taskCard = board.getColumns().get(1).getTasks().get(0);
+        assertEquals(done.getId(), taskCard.getId());
+        assertNull(taskCard.getSeverityLevel());
+    }
+
+    @Test
+    void getBurndown_WhenTasksAreClosed_ShouldReturnTheRemainingWorkOfEachDay() {
+        TaskDto task = taskService.create(task(storyId, 3, openStatusId));
+        taskService.update(task.getId(), task(storyId, 3, closedStatusId));
+        entityManager.flush();
+        entityManager.clear();
+
+        BurndownDto burndown = sprintService.getBurndown(sprintId);
+
+        assertEquals(List.of(start, start.plusDays(1), start.plusDays(2)),
+                burndown.getPoints().stream().map(BurndownDto.Point::getDate).toList());
+        assertEquals(List.of(8L, 3L, 3L),
+                burndown.getPoints().stream().map(BurndownDto.Point::getRemainingEstimation).toList());
+        assertEquals(List.of(2, 1, 1),
+                burndown.getPoints().stream().map(BurndownDto.Point::getRemainingTasks).toList());
+        assertEquals(8 * (1 - 1 / 9.0), burndown.getPoints().get(1).getIdealEstimation(), 1e-9);
+    }
+
+    @Test
+    void getCumulativeFlow_ShouldReturnTheTasksOfEachStatusPerDay() {
+        TaskDto task = taskService.create(task(storyId, 3, openStatusId));
+        taskService.update(task.getId(), task(storyId, 3, closedStatusId));
+        entityManager.flush();
+        entityManager.clear();
+
+        CumulativeFlowDto cumulativeFlow = sprintService.getCumulativeFlow(sprintId);
+
+        assertEquals(3, cumulativeFlow.getDays().size());
+        assertEquals(List.of(2, 1, 1), series(cumulativeFlow, "TODO").getTaskCounts());
+        assertEquals(List.of(0, 1, 2), series(cumulativeFlow, "DONE").getTaskCounts());
+    }
+
+    @Test
+    void taskWrites_ShouldAppendOneEventPerChange() {
+        TaskDto task = taskService.create(task(storyId, 3, openStatusId));
+        taskService.update(task.getId(), task(storyId, 3, openStatusId));
+        taskService.update(task.getId(), task(storyId, 3, closedStatusId));
+        taskService.delete(task.getId());
+
+        List<TaskStatusEvent> events = taskStatusEventRepository.findByTaskIdOrderByOccurredAtAscIdAsc(task.getId());
+        assertEquals(3, events.size());
+        assertNull(events.get(0).getFromStatusId());
+        assertEquals(openStatusId, events.get(1).getFromStatusId());
+        assertEquals(closedStatusId, events.get(1).getToStatusId());
+        assertEquals(sprintId, events.get(2).getFromSprintId());
+        assertNull(events.get(2).getToStatusId());
+    }
+
+    @Test
+    void backfill_WhenTasksPredateTheHistory_ShouldCountThemOnTheFirstDay() {
+        Sprint legacy = planningTestData.sprint(entityManager.find(Sprint.class, sprintId).getProject(), 0,
+                start, start.plusDays(9));
+        UserStory story = entityManager.find(UserStory.class, storyId);
+        story.setSprint(legacy);
+        Task task = new Task();
+        task.setName("Legacy task");
+        task.setEstimation(4);
+        task.setUserStory(story);
+        task.setStatus(entityManager.find(TaskStatus.class, closedStatusId));
+        entityManager.persist(task);
+        entityManager.flush();
+
+        sprintDailyStatusBackfill.backfill();
+        sprintDailyStatusBackfill.backfill();
+        entityManager.clear();
+
+        CumulativeFlowDto cumulativeFlow = sprintService.getCumulativeFlow(legacy.getId());
+        assertEquals(List.of(1, 1, 1), series(cumulativeFlow, "DONE").getTaskCounts());
+        assertEquals(List.of(2, 1, 1), series(sprintService.getCumulativeFlow(sprintId), "TODO").getTaskCounts());
+    }
+
+    private CumulativeFlowDto.Series series(CumulativeFlowDto cumulativeFlow, String code) {
+        return cumulativeFlow.getSeries().stream()
+                .filter(series -> series.getCode().equals(code))
+                .findFirst()
+                .orElseThrow();
+    }
+
+    private void dailyRow(LocalDate day, Long statusId, int taskCount, long estimation) {
+        entityManager.persist(new SprintDailyStatus(new SprintDailyStatusId(sprintId, day, statusId), taskCount, estimation));
+    }
+}
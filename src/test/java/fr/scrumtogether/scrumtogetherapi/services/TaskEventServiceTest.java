@@ -0,0 +1,47 @@
+package fr.scrumtogether.scrumtogetherapi.services;
+
+import fr.scrumtogether.scrumtogetherapi.repositories.SprintDailyStatusRepository;
+import fr.scrumtogether.scrumtogetherapi.repositories.SprintRepository;
+import fr.scrumtogether.scrumtogetherapi.repositories.TaskStatusEventRepository;
+import fr.scrumtogether.scrumtogetherapi.services.TaskEventService.TaskState;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class TaskEventServiceTest {
+    private SprintDailyStatusRepository sprintDailyStatusRepository;
+    private JdbcTemplate jdbcTemplate;
+    private TaskEventService taskEventService;
+
+    @BeforeEach
+    void setUp() {
+        sprintDailyStatusRepository = mock(SprintDailyStatusRepository.class);
+        jdbcTemplate = mock(JdbcTemplate.class);
+        taskEventService = new TaskEventService(mock(TaskStatusEventRepository.class), sprintDailyStatusRepository,
+                mock(SprintRepository.class), jdbcTemplate);
+    }
+
+    @Test
+    void record_WhenDailyRowIsMissing_ShouldInsertIt() {
+        when(sprintDailyStatusRepository.increment(anyLong(), any(), anyLong(), anyInt(), anyLong())).thenReturn(0);
+
+        taskEventService.record(1L, null, new TaskState(2L, 3L, 5));
+
+        verify(jdbcTemplate).update(anyString(), eq(2L), any(), eq(3L), eq(1), eq(5L));
+        verify(sprintDailyStatusRepository, times(1)).increment(anyLong(), any(), anyLong(), anyInt(), anyLong());
+    }
+
+    @Test
+    void record_WhenDailyRowIsCreatedConcurrently_ShouldAddToIt() {
+        when(sprintDailyStatusRepository.increment(anyLong(), any(), anyLong(), anyInt(), anyLong())).thenReturn(0, 1);
+        when(jdbcTemplate.update(anyString(), any(Object[].class))).thenThrow(new DuplicateKeyException("duplicate"));
+
+        taskEventService.record(1L, null, new TaskState(2L, 3L, 5));
+
+        verify(sprintDailyStatusRepository, times(2)).increment(eq(2L), any(), eq(3L), eq(1), eq(5L));
+    }
+}
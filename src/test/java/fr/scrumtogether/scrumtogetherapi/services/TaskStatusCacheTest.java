@@ -0,0 +1,53 @@
+package fr.scrumtogether.scrumtogetherapi.services;
+
+import fr.scrumtogether.scrumtogetherapi.config.JpaConfig;
+import fr.scrumtogether.scrumtogetherapi.entities.TaskStatus;
+import fr.scrumtogether.scrumtogetherapi.repositories.TaskStatusRepository;
+import fr.scrumtogether.scrumtogetherapi.repositories.projections.TaskStatusView;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({JpaConfig.class, TaskStatusCache.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class TaskStatusCacheTest {
+    @Autowired
+    private TaskStatusCache taskStatusCache;
+
+    @Autowired
+    private TaskStatusRepository taskStatusRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void writes_ShouldRefreshTheCacheOnceCommitted() {
+        TaskStatus status = new TaskStatus();
+        status.setCode("REVIEW");
+        status.setName("In review");
+        transactionTemplate.executeWithoutResult(tx -> {
+            taskStatusRepository.save(status);
+            assertTrue(taskStatusCache.get(status.getId()).isEmpty());
+        });
+        assertEquals("In review", taskStatusCache.get(status.getId()).map(TaskStatusView::getName).orElseThrow());
+
+        transactionTemplate.executeWithoutResult(tx -> {
+            TaskStatus stored = taskStatusRepository.findById(status.getId()).orElseThrow();
+            stored.setClosed(true);
+        });
+        assertTrue(taskStatusCache.get(status.getId()).orElseThrow().isClosed());
+
+        transactionTemplate.executeWithoutResult(tx -> taskStatusRepository.deleteById(status.getId()));
+        assertTrue(taskStatusCache.get(status.getId()).isEmpty());
+        assertThrows(UnsupportedOperationException.class, () -> taskStatusCache.getAll().add(null));
+    }
+}
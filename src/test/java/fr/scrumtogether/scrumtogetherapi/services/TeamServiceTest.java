@@ -0,0 +1,90 @@
+package fr.scrumtogether.scrumtogetherapi.services;
+
+import fr.scrumtogether.scrumtogetherapi.dtos.TeamMembershipReport;
+import fr.scrumtogether.scrumtogetherapi.dtos.TeamUserDto;
+import fr.scrumtogether.scrumtogetherapi.entities.enums.TeamRole;
+import fr.scrumtogether.scrumtogetherapi.exceptions.EntityNotFoundException;
+import fr.scrumtogether.scrumtogetherapi.mappers.TeamMapper;
+import fr.scrumtogether.scrumtogetherapi.repositories.TeamRepository;
+import fr.scrumtogether.scrumtogetherapi.repositories.UserRepository;
+import fr.scrumtogether.scrumtogetherapi.repositories.projections.TeamMemberView;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class TeamServiceTest {
+    private static final Long TEAM_ID = 7L;
+
+    private TeamRepository teamRepository;
+    private UserRepository userRepository;
+    private JdbcTemplate jdbcTemplate;
+    private TeamService teamService;
+
+    @BeforeEach
+    void setUp() {
+        teamRepository = mock(TeamRepository.class);
+        userRepository = mock(UserRepository.class);
+        jdbcTemplate = mock(JdbcTemplate.class);
+        teamService = new TeamService(teamRepository, mock(TeamMapper.class), userRepository, jdbcTemplate);
+
+        when(teamRepository.existsById(TEAM_ID)).thenReturn(true);
+        when(userRepository.findIdsByUsernameKeyIn(anyCollection())).thenReturn(List.of(
+                new Object[]{1L, "alice"},
+                new Object[]{2L, "bob"},
+                new Object[]{3L, "carol"}));
+        when(teamRepository.findMembersOfTeams(List.of(TEAM_ID))).thenReturn(List.of(
+                new TeamMemberView(TEAM_ID, 2L, "bob", TeamRole.MEMBER),
+                new TeamMemberView(TEAM_ID, 3L, "carol", TeamRole.OWNER)));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void addMembers_ShouldResolveOnceAndBatchOnlyTheDifferences() {
+        TeamMembershipReport report = teamService.addMembers(TEAM_ID, List.of(
+                member("Alice", TeamRole.MEMBER),
+                member("bob", TeamRole.OWNER),
+                member("carol", TeamRole.OWNER)));
+
+        assertEquals(new TeamMembershipReport(1, 1, 0, 1), report);
+        verify(userRepository, times(1)).findIdsByUsernameKeyIn(anyCollection());
+
+        ArgumentCaptor<List<Object[]>> inserts = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(startsWith("insert"), inserts.capture());
+        assertArrayEquals(new Object[]{1L, TEAM_ID, "MEMBER"}, inserts.getValue().get(0));
+
+        ArgumentCaptor<List<Object[]>> updates = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(startsWith("update"), updates.capture());
+        assertArrayEquals(new Object[]{"OWNER", 2L, TEAM_ID}, updates.getValue().get(0));
+    }
+
+    @Test
+    void addMembers_WhenAUsernameIsUnknown_ShouldWriteNothing() {
+        EntityNotFoundException exception = assertThrows(EntityNotFoundException.class,
+                () -> teamService.addMembers(TEAM_ID, List.of(member("alice", null), member("dave", null))));
+
+        assertTrue(exception.getMessage().contains("dave"));
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void removeMembers_ShouldDeleteOnlyCurrentMembers() {
+        TeamMembershipReport report = teamService.removeMembers(TEAM_ID, List.of("alice", "bob", "carol"));
+
+        assertEquals(new TeamMembershipReport(0, 0, 2, 1), report);
+        ArgumentCaptor<List<Object[]>> deletes = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(startsWith("delete"), deletes.capture());
+        assertEquals(2, deletes.getValue().size());
+    }
+
+    private TeamUserDto member(String username, TeamRole role) {
+        return TeamUserDto.builder().userUsername(username).teamRole(role).build();
+    }
+}
@@ -0,0 +1,78 @@
+package fr.scrumtogether.scrumtogetherapi.services;
+
+import fr.scrumtogether.scrumtogetherapi.repositories.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class UserAvailabilityRegistryTest {
+
+    private UserRepository userRepository;
+    private SimpleMeterRegistry meterRegistry;
+    private UserAvailabilityRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        userRepository = mock(UserRepository.class);
+        meterRegistry = new SimpleMeterRegistry();
+        when(userRepository.countByDeletedAtIsNull()).thenReturn(1L);
+        when(userRepository.findKeysAfter(eq(0L), any(Pageable.class)))
+                .thenReturn(List.<Object[]>of(new Object[]{1L, "johndoe", "john@example.com"}));
+        when(userRepository.existsByUsernameKey("johndoe")).thenReturn(true);
+
+        registry = new UserAvailabilityRegistry(userRepository, meterRegistry, 100);
+        registry.rebuild();
+    }
+
+    @Test
+    void isUsernameAvailable_WhenNotInFilter_ShouldAnswerWithoutQuerying() {
+        assertTrue(registry.isUsernameAvailable("someone-else"));
+
+        verify(userRepository, never()).existsByUsernameKey(anyString());
+        assertEquals(1.0, meterRegistry.get("user.availability.checks")
+                .tag("field", "username").tag("outcome", "definitely_free").counter().count());
+    }
+
+    @Test
+    void isUsernameAvailable_WhenPossiblyTaken_ShouldConfirmWithNormalizedKey() {
+        assertFalse(registry.isUsernameAvailable(" JohnDoe "));
+
+        verify(userRepository).existsByUsernameKey("johndoe");
+    }
+
+    @Test
+    void isEmailAvailable_WhenFilterHitIsFalsePositive_ShouldReportItAvailable() {
+        when(userRepository.existsByEmailKey("john@example.com")).thenReturn(false);
+
+        assertTrue(registry.isEmailAvailable("John@Example.com"));
+        assertEquals(1.0, meterRegistry.get("user.availability.checks")
+                .tag("field", "email").tag("outcome", "false_positive").counter().count());
+    }
+
+    @Test
+    void record_ShouldMakeNewUsersVisibleToTheFilter() {
+        registry.record("NewUser", "new@example.com");
+
+        registry.isUsernameAvailable("newuser");
+        verify(userRepository).existsByUsernameKey("newuser");
+    }
+
+    @Test
+    void record_WhenFilterOutgrowsItsSize_ShouldRebuildFromDatabase() {
+        for (int i = 0; i <= 100; i++) {
+            registry.record("user" + i, null);
+        }
+
+        verify(userRepository, times(2)).findKeysAfter(eq(0L), any(Pageable.class));
+        assertTrue(meterRegistry.get("user.availability.bloom.memory").gauge().value() > 0);
+    }
+}
@@ -0,0 +1,163 @@
+package fr.scrumtogether.scrumtogetherapi.services;
+
+import fr.scrumtogether.scrumtogetherapi.config.BulkImportConfig;
+import fr.scrumtogether.scrumtogetherapi.config.PasswordHashingConfig;
+import fr.scrumtogether.scrumtogetherapi.dtos.BulkImportReport;
+import fr.scrumtogether.scrumtogetherapi.dtos.BulkImportRowResult;
+import fr.scrumtogether.scrumtogetherapi.dtos.UserSearchResult;
+import fr.scrumtogether.scrumtogetherapi.repositories.UserRepository;
+import fr.scrumtogether.scrumtogetherapi.security.BoundedPasswordEncoder;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class UserImportServiceTest {
+
+    private UserRepository userRepository;
+    private JdbcTemplate jdbcTemplate;
+    private BulkImportConfig config;
+    private BoundedPasswordEncoder passwordEncoder;
+    private UserSearchIndex userSearchIndex;
+    private UserImportService userImportService;
+
+    @BeforeEach
+    void setUp() {
+        userRepository = mock(UserRepository.class);
+        jdbcTemplate = mock(JdbcTemplate.class);
+        config = new BulkImportConfig();
+        userSearchIndex = mock(UserSearchIndex.class);
+        AtomicLong ids = new AtomicLong();
+        when(jdbcTemplate.batchUpdate(any(PreparedStatementCreator.class), any(BatchPreparedStatementSetter.class), any(KeyHolder.class)))
+                .thenAnswer(invocation -> {
+                    BatchPreparedStatementSetter batch = invocation.getArgument(1);
+                    KeyHolder keyHolder = invocation.getArgument(2);
+                    for (int i = 0; i < batch.getBatchSize(); i++) {
+                        keyHolder.getKeyList().add(Map.of("id", ids.incrementAndGet()));
+                    }
+                    return new int[batch.getBatchSize()];
+                });
+
+        PasswordEncoder delegate = mock(PasswordEncoder.class);
+        when(delegate.encode(any())).thenAnswer(invocation -> "hash:" + invocation.getArgument(0));
+        passwordEncoder = new BoundedPasswordEncoder(delegate, new PasswordHashingConfig(), new SimpleMeterRegistry());
+
+        userImportService = new UserImportService(
+                userRepository,
+                passwordEncoder,
+                jdbcTemplate,
+                new TransactionTemplate(mock(PlatformTransactionManager.class)),
+                Validation.buildDefaultValidatorFactory().getValidator(),
+                Jackson2ObjectMapperBuilder.json().build(),
+                config,
+                userSearchIndex,
+                mock(UserAvailabilityRegistry.class)
+        );
+    }
+
+    @AfterEach
+    void tearDown() {
+        passwordEncoder.destroy();
+    }
+
+    @Test
+    void importJson_ShouldDedupeCheckExistingOnceAndInsertRemainingRowsInOneBatch() throws Exception {
+        when(userRepository.findUsernamesAndEmailsIn(anyCollection(), anyCollection()))
+                .thenReturn(List.<Object[]>of(new Object[]{"someone", "taken@example.com"}));
+        String json = "[" +
+                registration("alice", "alice@example.com", "password1", "password1") + "," +
+                registration("ALICE", "alice2@example.com", "password1", "password1") + "," +
+                registration("bob", "taken@example.com", "password1", "password1") + "," +
+                registration("carol", "carol@example.com", "password1", "mismatch1") + "," +
+                registration("dave", "dave@example.com", "password1", "password1") +
+                "]";
+
+        BulkImportReport report = userImportService.importJson(stream(json));
+
+        assertEquals(5, report.getTotal());
+        assertEquals(2, report.getCreated());
+        assertEquals(List.of(
+                BulkImportRowResult.Status.CREATED,
+                BulkImportRowResult.Status.REJECTED,
+                BulkImportRowResult.Status.REJECTED,
+                BulkImportRowResult.Status.REJECTED,
+                BulkImportRowResult.Status.CREATED
+        ), report.getRows().stream().map(BulkImportRowResult::getStatus).toList());
+        assertEquals("Duplicate username in import", report.getRows().get(1).getMessage());
+        assertEquals("Email already exists", report.getRows().get(2).getMessage());
+
+        verify(userRepository, times(1)).findUsernamesAndEmailsIn(anyCollection(), anyCollection());
+        ArgumentCaptor<BatchPreparedStatementSetter> batch = ArgumentCaptor.forClass(BatchPreparedStatementSetter.class);
+        verify(jdbcTemplate, times(1)).batchUpdate(any(PreparedStatementCreator.class), batch.capture(), any(KeyHolder.class));
+        assertEquals(2, batch.getValue().getBatchSize());
+        verify(userSearchIndex).index(new UserSearchResult(1L, "alice", "alice@example.com", "First", "Last"));
+        verify(userSearchIndex).index(new UserSearchResult(2L, "dave", "dave@example.com", "First", "Last"));
+    }
+
+    @Test
+    void importCsv_ShouldReadQuotedFieldsAndFlushOneBatchPerChunk() throws Exception {
+        config.setChunkSize(2);
+        when(userRepository.findUsernamesAndEmailsIn(anyCollection(), anyCollection())).thenReturn(List.of());
+        String csv = """
+                firstName,lastName,email,username,password
+                "Jean, Marie",Dupont,u1@example.com,user1,password1
+                Ann,"O""Neil",u2@example.com,user2,password1
+
+                Bob,Smith,u3@example.com,user3,password1
+                """;
+
+        BulkImportReport report = userImportService.importCsv(stream(csv));
+
+        assertEquals(3, report.getTotal());
+        assertEquals(3, report.getCreated());
+        verify(userRepository, times(2)).findUsernamesAndEmailsIn(anyCollection(), anyCollection());
+        verify(jdbcTemplate, times(2)).batchUpdate(any(PreparedStatementCreator.class), any(BatchPreparedStatementSetter.class), any(KeyHolder.class));
+        assertEquals(List.of("Jean, Marie", "Dupont", "u1@example.com", "user1", "password1"),
+                UserImportService.parseCsvLine("\"Jean, Marie\",Dupont,u1@example.com,user1,password1"));
+        assertEquals(List.of("Ann", "O\"Neil"), UserImportService.parseCsvLine("Ann,\"O\"\"Neil\""));
+    }
+
+    @Test
+    void importJson_WhenPayloadIsTruncated_ShouldKeepProcessedRowsAndReportWhereItStopped() throws Exception {
+        when(userRepository.findUsernamesAndEmailsIn(anyCollection(), anyCollection())).thenReturn(List.of());
+        String json = "[" + registration("alice", "alice@example.com", "password1", "password1") + ", {\"username\": ";
+
+        BulkImportReport report = userImportService.importJson(stream(json));
+
+        assertEquals(2, report.getTotal());
+        assertEquals(1, report.getCreated());
+        assertEquals(BulkImportRowResult.Status.REJECTED, report.getRows().get(1).getStatus());
+        assertNull(report.getRows().get(1).getUsername());
+    }
+
+    private String registration(String username, String email, String password, String confirmPassword) {
+        return String.format("{\"firstName\":\"First\",\"lastName\":\"Last\",\"email\":\"%s\",\"username\":\"%s\"," +
+                "\"password\":\"%s\",\"confirmPassword\":\"%s\"}", email, username, password, confirmPassword);
+    }
+
+    private InputStream stream(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,54 @@
+package fr.scrumtogether.scrumtogetherapi.services;
+
+import fr.scrumtogether.scrumtogetherapi.config.JpaConfig;
+import fr.scrumtogether.scrumtogetherapi.entities.User;
+import fr.scrumtogether.scrumtogetherapi.repositories.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({JpaConfig.class, UserKeyBackfill.class})
+class UserKeyBackfillTest {
+    @Autowired
+    private UserKeyBackfill userKeyBackfill;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void dropLegacyUniqueConstraints_ShouldLetDeletedUsersReleaseTheirNames() {
+        jdbcTemplate.execute("alter table user add constraint uk_legacy_username unique (username)");
+        jdbcTemplate.execute("alter table user add constraint uk_legacy_email unique (email)");
+
+        assertEquals(2, userKeyBackfill.dropLegacyUniqueConstraints());
+        assertEquals(0, userKeyBackfill.dropLegacyUniqueConstraints());
+
+        User deleted = userRepository.saveAndFlush(user());
+        deleted.setDeletedAt(LocalDateTime.now());
+        userRepository.saveAndFlush(deleted);
+        assertDoesNotThrow(() -> userRepository.saveAndFlush(user()));
+    }
+
+    private User user() {
+        return User.builder()
+                .username("JohnDoe")
+                .email("john@example.com")
+                .firstName("First")
+                .lastName("Last")
+                .password("{noop}password")
+                .build();
+    }
+}
@@ -0,0 +1,94 @@
+package fr.scrumtogether.scrumtogetherapi.services;
+
+import fr.scrumtogether.scrumtogetherapi.dtos.UserSearchResult;
+import fr.scrumtogether.scrumtogetherapi.repositories.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class UserSearchIndexTest {
+
+    private UserRepository userRepository;
+    private UserSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        userRepository = mock(UserRepository.class);
+        index = new UserSearchIndex(userRepository);
+
+        index.index(new UserSearchResult(1L, "jdoe", "john.doe@example.com", "John", "Doe"));
+        index.index(new UserSearchResult(2L, "jsmith", "jane@smith.io", "Jane", "Smith"));
+        index.index(new UserSearchResult(3L, "hmuller", "helene@example.com", "Hélène", "Müller-Durand"));
+    }
+
+    @Test
+    void search_ShouldMatchPrefixesOfEveryField() {
+        assertEquals(List.of(1L), ids(index.search("jdo", 10)));
+        assertEquals(List.of(2L), ids(index.search("smi", 10)));
+        assertEquals(List.of(1L), ids(index.search("john.doe@", 10)));
+        assertEquals(List.of(1L, 2L), ids(index.search("j", 10)));
+    }
+
+    @Test
+    void search_ShouldIgnoreCaseAndDiacritics() {
+        assertEquals(List.of(3L), ids(index.search("HELENE", 10)));
+        assertEquals(List.of(3L), ids(index.search("muller", 10)));
+        assertEquals(List.of(3L), ids(index.search("durand", 10)));
+    }
+
+    @Test
+    void search_ShouldRequireEveryTermAndRankExactMatchesFirst() {
+        index.index(new UserSearchResult(4L, "johnny", "johnny@example.com", "Johnny", "Walker"));
+
+        assertEquals(List.of(1L), ids(index.search("john doe", 10)));
+        assertEquals(List.of(1L, 4L), ids(index.search("john", 10)));
+    }
+
+    @Test
+    void search_WhenTermHasTypo_ShouldFindApproximateMatches() {
+        assertEquals(List.of(2L), ids(index.search("smiht", 10)));
+        assertEquals(List.of(1L), ids(index.search("jonh", 10)));
+        assertTrue(index.search("zzzzz", 10).isEmpty());
+    }
+
+    @Test
+    void index_WhenUserChanges_ShouldDropItsOldTokens() {
+        index.index(new UserSearchResult(2L, "jsmith", "jane@smith.io", "Jane", "Brown"));
+
+        assertTrue(index.search("smith", 10).stream().noneMatch(user -> user.getLastName().equals("Smith")));
+        assertEquals(List.of(2L), ids(index.search("brown", 10)));
+
+        index.remove(2L);
+        assertTrue(index.search("brown", 10).isEmpty());
+    }
+
+    @Test
+    void rebuild_ShouldLoadEveryPage() {
+        UserSearchIndex rebuilt = new UserSearchIndex(userRepository);
+        when(userRepository.findSearchEntriesAfter(eq(0L), any(Pageable.class)))
+                .thenReturn(List.of(new UserSearchResult(7L, "alice", "alice@example.com", "Alice", "Martin")));
+
+        rebuilt.rebuild();
+
+        assertEquals(List.of(7L), ids(rebuilt.search("martin", 10)));
+    }
+
+    @Test
+    void prefixEditDistance_ShouldCompareAgainstTheClosestPrefix() {
+        assertEquals(0, UserSearchIndex.prefixEditDistance("john", "johnny", 2));
+        assertEquals(1, UserSearchIndex.prefixEditDistance("jonn", "johnny", 2));
+        assertEquals(3, UserSearchIndex.prefixEditDistance("xyz", "johnny", 2));
+    }
+
+    private List<Long> ids(List<UserSearchResult> results) {
+        return results.stream().map(UserSearchResult::getId).toList();
+    }
+}
@@ -0,0 +1,106 @@
+package fr.scrumtogether.scrumtogetherapi.services;
+
+import fr.scrumtogether.scrumtogetherapi.dtos.UserDto;
+import fr.scrumtogether.scrumtogetherapi.entities.User;
+import fr.scrumtogether.scrumtogetherapi.entities.enums.Role;
+import fr.scrumtogether.scrumtogetherapi.exceptions.OptimisticLockException;
+import fr.scrumtogether.scrumtogetherapi.repositories.UserRepository;
+import fr.scrumtogether.scrumtogetherapi.security.AuthenticatedUser;
+import fr.scrumtogether.scrumtogetherapi.security.TokenRevocationRegistry;
+import fr.scrumtogether.scrumtogetherapi.utils.SecurityUtils;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class UserServiceTest {
+
+    private UserRepository userRepository;
+    private AuditService auditService;
+    private UserService userService;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        userRepository = mock(UserRepository.class);
+        auditService = mock(AuditService.class);
+        SecurityUtils securityUtils = mock(SecurityUtils.class);
+        userService = new UserService(userRepository, securityUtils, auditService, mock(TokenRevocationRegistry.class),
+                mock(UserSearchIndex.class), mock(UserAvailabilityRegistry.class));
+
+        user = User.builder()
+                .id(1L)
+                .firstName("John")
+                .lastName("Doe")
+                .email("john@doe.com")
+                .username("jdoe")
+                .role(Role.DEFAULT)
+                .verifiedEmail(true)
+                .version(4L)
+                .build();
+        when(userRepository.findByIdAndDeletedAtIsNull(1L)).thenReturn(Optional.of(user));
+        when(securityUtils.getCurrentUser()).thenReturn(AuthenticatedUser.from(user));
+    }
+
+    @Test
+    void update_WhenFieldsChange_ShouldReadOnceAndWriteOnlyChangedColumns() {
+        UserDto userDto = dtoOf(user);
+        userDto.setFirstName(" Johnny ");
+        when(userRepository.updateIfVersionMatches(eq(user), anyMap())).thenReturn(true);
+
+        User updated = userService.update(1L, userDto);
+
+        assertSame(user, updated);
+        verify(userRepository, times(1)).findByIdAndDeletedAtIsNull(1L);
+        verify(userRepository).updateIfVersionMatches(user, Map.of("firstName", "Johnny"));
+        verify(auditService).logUpdate(eq("USER"), eq(1L), eq(4L), eq(Map.of("firstName", "John")), eq(Map.of("firstName", "Johnny")), anyMap());
+        verifyNoMoreInteractions(userRepository);
+    }
+
+    @Test
+    void update_WhenRowChangedConcurrently_ShouldThrowOptimisticLockException() {
+        UserDto userDto = dtoOf(user);
+        userDto.setLastName("Smith");
+        when(userRepository.updateIfVersionMatches(eq(user), anyMap())).thenReturn(false);
+
+        assertThrows(OptimisticLockException.class, () -> userService.update(1L, userDto));
+        verifyNoInteractions(auditService);
+    }
+
+    @Test
+    void update_WhenVersionIsStale_ShouldThrowWithoutWriting() {
+        UserDto userDto = dtoOf(user);
+        userDto.setVersion(3L);
+        userDto.setLastName("Smith");
+
+        assertThrows(OptimisticLockException.class, () -> userService.update(1L, userDto));
+        verify(userRepository, never()).updateIfVersionMatches(any(), anyMap());
+    }
+
+    @Test
+    void update_WhenNothingChanges_ShouldNotWrite() {
+        userService.update(1L, dtoOf(user));
+
+        verify(userRepository, never()).updateIfVersionMatches(any(), anyMap());
+        verifyNoInteractions(auditService);
+    }
+
+    private UserDto dtoOf(User user) {
+        UserDto userDto = new UserDto();
+        userDto.setId(user.getId());
+        userDto.setFirstName(user.getFirstName());
+        userDto.setLastName(user.getLastName());
+        userDto.setEmail(user.getEmail());
+        userDto.setUsername(user.getUsername());
+        userDto.setVersion(user.getVersion());
+        return userDto;
+    }
+}
@@ -0,0 +1,125 @@
+package fr.scrumtogether.scrumtogetherapi.services;
+
+import fr.scrumtogether.scrumtogetherapi.config.JpaConfig;
+import fr.scrumtogether.scrumtogetherapi.config.VelocityConfig;
+import fr.scrumtogether.scrumtogetherapi.dtos.TaskDto;
+import fr.scrumtogether.scrumtogetherapi.dtos.VelocityDto;
+import fr.scrumtogether.scrumtogetherapi.dtos.VelocityForecastDto;
+import fr.scrumtogether.scrumtogetherapi.entities.*;
+import fr.scrumtogether.scrumtogetherapi.exceptions.EntityNotFoundException;
+import fr.scrumtogether.scrumtogetherapi.exceptions.ValidationException;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static fr.scrumtogether.scrumtogetherapi.services.PlanningTestData.task;
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({JpaConfig.class, PlanningTestData.class, VelocityConfig.class, VelocityService.class})
+class VelocityServiceTest {
+    @Autowired
+    private VelocityService velocityService;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private PlanningTestData planningTestData;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Project project;
+    private Long openStatusId;
+    private Long closedStatusId;
+
+    @BeforeEach
+    void setUp() {
+        project = planningTestData.project(LocalDate.now());
+        openStatusId = planningTestData.status("TODO", false);
+        closedStatusId = planningTestData.status("DONE", true);
+    }
+
+    @Test
+    void close_WhenTasksAreDone_ShouldComputeTheVelocityAndFollowLaterChanges() {
+        Sprint sprint = sprint(1, null);
+        Long storyId = story(sprint);
+        TaskDto pending = taskService.create(task(storyId, 3, openStatusId));
+        taskService.create(task(storyId, 5, closedStatusId));
+
+        VelocityDto.SprintVelocity closed = velocityService.close(sprint.getId());
+        assertEquals(5f, closed.getVelocity());
+        assertEquals(0, velocityService.recomputeDirty());
+
+        taskService.update(pending.getId(), task(storyId, 3, closedStatusId));
+        assertEquals(1, velocityService.recomputeDirty());
+        assertEquals(0, velocityService.recomputeDirty());
+
+        entityManager.clear();
+        assertEquals(8f, entityManager.find(Sprint.class, sprint.getId()).getVelocity());
+    }
+
+    @Test
+    void close_WhenSprintIsClosed_ShouldThrowValidationException() {
+        Sprint sprint = sprint(1, 10f);
+
+        assertThrows(ValidationException.class, () -> velocityService.close(sprint.getId()));
+        assertThrows(EntityNotFoundException.class, () -> velocityService.close(-1L));
+    }
+
+    @Test
+    void getVelocity_ShouldAverageTheLatestClosedSprints() {
+        sprint(1, 40f);
+        sprint(2, 10f);
+        sprint(3, 20f);
+        sprint(4, 30f);
+        sprint(5, null);
+
+        VelocityDto velocity = velocityService.getVelocity(project.getId(), 3);
+
+        assertEquals(List.of(4, 3, 2), velocity.getSprints().stream().map(VelocityDto.SprintVelocity::getNumber).toList());
+        assertEquals(20.0, velocity.getAverageVelocity());
+        assertThrows(ValidationException.class, () -> velocityService.getVelocity(project.getId(), 0));
+    }
+
+    @Test
+    void getForecast_ShouldDivideTheOpenEstimationByTheAverageVelocity() {
+        sprint(1, 10f);
+        Sprint current = sprint(2, 20f);
+        Long storyId = story(current);
+        taskService.create(task(storyId, 40, openStatusId));
+        taskService.create(task(storyId, 6, openStatusId));
+        taskService.create(task(storyId, 100, closedStatusId));
+
+        VelocityForecastDto forecast = velocityService.getForecast(project.getId(), 2);
+
+        assertEquals(46, forecast.getRemainingEstimation());
+        assertEquals(15.0, forecast.getAverageVelocity());
+        assertEquals(4, forecast.getRemainingSprints());
+        assertEquals(LocalDate.now().plusDays(4 * 14), forecast.getEstimatedEndDate());
+    }
+
+    private Sprint sprint(int number, Float velocity) {
+        LocalDate start = LocalDate.now().minusWeeks(2L * (6 - number));
+        Sprint sprint = planningTestData.sprint(project, number, start, start.plusDays(13));
+        if (velocity != null) {
+            sprint.setClosedAt(LocalDateTime.now());
+            sprint.setVelocity(velocity);
+        }
+        return sprint;
+    }
+
+    private Long story(Sprint sprint) {
+        return planningTestData.story(project, sprint);
+    }
+}
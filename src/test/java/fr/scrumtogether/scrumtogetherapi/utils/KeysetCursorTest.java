@@ -0,0 +1,32 @@
+package fr.scrumtogether.scrumtogetherapi.utils;
+
+import fr.scrumtogether.scrumtogetherapi.exceptions.ValidationException;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class KeysetCursorTest {
+
+    @Test
+    void decode_WhenTokenWasEncoded_ShouldReturnSamePosition() {
+        KeysetCursor cursor = new KeysetCursor("Élodie, équipe #1/2", 123_456_789L);
+
+        String token = cursor.encode();
+
+        assertTrue(token.matches("[A-Za-z0-9_-]+"));
+        assertEquals(cursor, KeysetCursor.decode(token));
+    }
+
+    @Test
+    void decode_WhenSortValueIsEmpty_ShouldReturnSamePosition() {
+        KeysetCursor cursor = new KeysetCursor("", 1L);
+
+        assertEquals(cursor, KeysetCursor.decode(cursor.encode()));
+    }
+
+    @Test
+    void decode_WhenTokenIsMalformed_ShouldThrowValidationException() {
+        assertThrows(ValidationException.class, () -> KeysetCursor.decode("not a cursor!"));
+        assertThrows(ValidationException.class, () -> KeysetCursor.decode("AAAA"));
+    }
+}